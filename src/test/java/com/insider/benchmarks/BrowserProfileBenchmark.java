@@ -0,0 +1,131 @@
+package com.insider.benchmarks;
+
+import com.insider.driver.BrowserProfile;
+import com.insider.driver.BrowserSpec;
+import com.insider.driver.DriverFactory;
+import com.sun.net.httpserver.HttpServer;
+import io.qameta.allure.Allure;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Optional;
+import org.testng.annotations.Parameters;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Browser Profile Benchmark
+ * Measures launch → session → first navigation for every BrowserProfile against a page served from localhost,
+ * so flag changes are backed by numbers. Sessions are created through DriverFactory directly (no pool, no pre-warm).
+ *
+ * Run with: mvn test -Pbenchmark [-Dbenchmark.iterations=10]
+ * Results are printed, attached to Allure and written to target/benchmarks/browser-profiles.txt
+ */
+public class BrowserProfileBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(BrowserProfileBenchmark.class);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 5);
+    private static final String PAGE = "<!DOCTYPE html><html><head><title>Benchmark</title></head>"
+            + "<body><h1 id=\"ready\">ready</h1></body></html>";
+
+    private HttpServer server;
+    private String pageUrl;
+
+    @BeforeClass
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] body = PAGE.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        pageUrl = "http://localhost:" + server.getAddress().getPort() + "/";
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    @Parameters({"browser", "headless"})
+    public void compareProfileStartup(@Optional("chrome") String browser, @Optional("true") String headless)
+            throws IOException {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Browser profile startup (%s, headless=%s, %d iterations)%n",
+                browser, headless, ITERATIONS));
+        report.append(String.format("%-10s %12s %12s %12s %12s%n",
+                "profile", "session p50", "nav p50", "total p50", "total p90"));
+
+        for (BrowserProfile profile : BrowserProfile.values()) {
+            BrowserSpec spec = BrowserSpec.of(browser, Boolean.parseBoolean(headless), profile.name());
+            List<Long> sessionMillis = new ArrayList<>();
+            List<Long> navigationMillis = new ArrayList<>();
+            List<Long> totalMillis = new ArrayList<>();
+
+            // İlk tur JIT / disk cache ısınması için ölçülmez
+            measure(spec);
+            for (int i = 0; i < ITERATIONS; i++) {
+                long[] sample = measure(spec);
+                sessionMillis.add(sample[0]);
+                navigationMillis.add(sample[1]);
+                totalMillis.add(sample[0] + sample[1]);
+            }
+
+            report.append(String.format("%-10s %9d ms %9d ms %9d ms %9d ms%n", profile.name().toLowerCase(),
+                    percentile(sessionMillis, 50), percentile(navigationMillis, 50),
+                    percentile(totalMillis, 50), percentile(totalMillis, 90)));
+        }
+
+        String table = report.toString();
+        logger.info("\n" + table);
+        System.out.println("📊 " + table);
+        Allure.addAttachment("Browser profile startup", "text/plain", table, ".txt");
+
+        Path output = Paths.get("target", "benchmarks", "browser-profiles.txt");
+        Files.createDirectories(output.getParent());
+        Files.writeString(output, table);
+    }
+
+    /**
+     * One cold start: {session creation ms, first navigation ms}
+     */
+    private long[] measure(BrowserSpec spec) {
+        long start = System.nanoTime();
+        WebDriver driver = DriverFactory.create(spec);
+        try {
+            long sessionReady = System.nanoTime();
+            driver.get(pageUrl);
+            long navigated = System.nanoTime();
+            return new long[]{(sessionReady - start) / 1_000_000, (navigated - sessionReady) / 1_000_000};
+        } finally {
+            driver.quit();
+        }
+    }
+
+    private static long percentile(List<Long> values, int percentile) {
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index));
+    }
+}
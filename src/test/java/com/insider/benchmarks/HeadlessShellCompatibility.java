@@ -0,0 +1,236 @@
+package com.insider.benchmarks;
+
+import com.insider.driver.BrowserProcesses;
+import com.insider.driver.BrowserSpec;
+import com.insider.driver.ChromeBackend;
+import com.insider.driver.DriverFactory;
+import com.insider.utils.WebDriverUtils;
+import com.insider.utils.methods.AlertUtils;
+import com.insider.utils.methods.FrameUtils;
+import com.insider.utils.methods.JavaScriptUtils;
+import com.insider.utils.methods.MouseUtils;
+import com.insider.utils.methods.SelectUtils;
+import com.sun.net.httpserver.HttpServer;
+import io.qameta.allure.Allure;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Optional;
+import org.testng.annotations.Parameters;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * chrome-headless-shell compatibility check and startup/memory comparison
+ * Runs the browser features the page objects and utilities depend on against a local page on both Chrome backends,
+ * and measures cold start and memory per session for each.
+ *
+ * Run with: mvn test -Pbenchmark
+ * Results are printed, attached to Allure and written to target/benchmarks/headless-shell.txt
+ */
+public class HeadlessShellCompatibility {
+
+    private static final Logger logger = LoggerFactory.getLogger(HeadlessShellCompatibility.class);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 5);
+    private static final String PAGE = "<!DOCTYPE html><html><head><title>Compatibility</title></head><body>"
+            + "<div id=\"block\">block</div>"
+            + "<a id=\"tab\" href=\"/\" target=\"_blank\">new tab</a>"
+            + "<div id=\"hover\" onmouseover=\"this.textContent='hovered'\">hover</div>"
+            + "<select id=\"select\"><option>Istanbul</option><option>Quality Assurance</option></select>"
+            + "<button id=\"alert\" onclick=\"alert('ok')\">alert</button>"
+            + "<iframe id=\"frame\" srcdoc=\"<p id='inner'>inner</p>\"></iframe>"
+            + "</body></html>";
+
+    /**
+     * Browser feature -> page objects and utilities that rely on it
+     */
+    private static final Map<String, String> FEATURES = new LinkedHashMap<>();
+    private static final Map<String, Consumer<WebDriver>> PROBES = new LinkedHashMap<>();
+
+    private HttpServer server;
+    private String pageUrl;
+
+    @BeforeClass
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] body = PAGE.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        pageUrl = "http://localhost:" + server.getAddress().getPort() + "/";
+        registerProbes();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    @Parameters({"profile"})
+    public void compareBackends(@Optional("faithful") String profile) throws IOException {
+        BrowserSpec chrome = BrowserSpec.of("chrome", true, profile).withBackend(ChromeBackend.CHROME);
+        Map<ChromeBackend, Map<String, String>> results = new EnumMap<>(ChromeBackend.class);
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Chrome backends (%d iterations)%n", ITERATIONS));
+        report.append(String.format("%-15s %12s %12s %12s%n", "backend", "session p50", "nav p50", "memory"));
+
+        for (ChromeBackend backend : ChromeBackend.values()) {
+            BrowserSpec spec = chrome.withBackend(backend);
+            List<Long> sessionMillis = new ArrayList<>();
+            List<Long> navigationMillis = new ArrayList<>();
+            long memoryBytes = -1;
+            for (int i = 0; i <= ITERATIONS; i++) {
+                long start = System.nanoTime();
+                WebDriver driver = DriverFactory.create(spec);
+                try {
+                    long sessionReady = System.nanoTime();
+                    driver.get(pageUrl);
+                    long navigated = System.nanoTime();
+                    // İlk tur ısınma turudur; ölçülmez ama uyumluluk kontrolleri bu oturumda yapılır
+                    if (i == 0) {
+                        results.put(backend, runProbes(driver));
+                        continue;
+                    }
+                    sessionMillis.add((sessionReady - start) / 1_000_000);
+                    navigationMillis.add((navigated - sessionReady) / 1_000_000);
+                    memoryBytes = Math.max(memoryBytes, BrowserProcesses.memoryBytes(driver));
+                } finally {
+                    DriverFactory.quit(driver);
+                }
+            }
+            report.append(String.format("%-15s %9d ms %9d ms %12s%n", backend.name().toLowerCase(),
+                    median(sessionMillis), median(navigationMillis),
+                    memoryBytes > 0 ? String.format("%.1f MB", memoryBytes / (1024.0 * 1024.0)) : "n/a"));
+        }
+
+        report.append(String.format("%n%-16s %-10s %-15s %s%n", "feature", "chrome", "headless-shell", "used by"));
+        for (Map.Entry<String, String> feature : FEATURES.entrySet()) {
+            report.append(String.format("%-16s %-10s %-15s %s%n", feature.getKey(),
+                    results.get(ChromeBackend.CHROME).get(feature.getKey()),
+                    results.get(ChromeBackend.HEADLESS_SHELL).get(feature.getKey()),
+                    feature.getValue()));
+        }
+
+        String table = report.toString();
+        logger.info("\n" + table);
+        System.out.println("📊 " + table);
+        Allure.addAttachment("chrome-headless-shell compatibility", "text/plain", table, ".txt");
+
+        Path output = Paths.get("target", "benchmarks", "headless-shell.txt");
+        Files.createDirectories(output.getParent());
+        Files.writeString(output, table);
+    }
+
+    private Map<String, String> runProbes(WebDriver driver) {
+        Map<String, String> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Consumer<WebDriver>> probe : PROBES.entrySet()) {
+            try {
+                driver.get(pageUrl);
+                probe.getValue().accept(driver);
+                result.put(probe.getKey(), "ok");
+            } catch (RuntimeException | AssertionError e) {
+                logger.warn("Probe '" + probe.getKey() + "' failed: " + e.getMessage());
+                result.put(probe.getKey(), "FAIL");
+            }
+        }
+        return result;
+    }
+
+    private void registerProbes() {
+        probe("title", "BasePage.navigateTo, HomePage.verifyTitleContains, AssertionUtils", driver -> {
+            check(driver.getTitle().equals("Compatibility"), "unexpected title " + driver.getTitle());
+        });
+        probe("find/click", "WebDriverUtils, ClickUtils, ElementUtils, all page objects", driver -> {
+            WebDriverWait wait = WebDriverUtils.createWait(driver);
+            check(WebDriverUtils.isDisplayed(driver, wait, By.id("block")), "block not displayed");
+        });
+        probe("javascript", "JavaScriptUtils, WebDriverUtils.clickWithJs/scrollToElement", driver -> {
+            check("block".equals(JavaScriptUtils.executeScript(driver,
+                    "return document.getElementById('block').textContent;")), "script result mismatch");
+        });
+        probe("window size", "DriverFactory headless viewport, WindowUtils.setWindowSize", driver -> {
+            driver.manage().window().setSize(new Dimension(1920, 1080));
+            check(driver.manage().window().getSize().getWidth() == 1920, "window was not resized");
+        });
+        probe("new tab", "WebDriverUtils.switchToNewTab, WindowUtils, JobsPage.clickViewRole", driver -> {
+            driver.findElement(By.id("tab")).click();
+            new WebDriverWait(driver, Duration.ofSeconds(5))
+                    .until(d -> d.getWindowHandles().size() > 1);
+            WebDriverUtils.switchToNewTab(driver);
+            driver.close();
+            driver.switchTo().window(driver.getWindowHandles().iterator().next());
+        });
+        probe("hover", "MouseUtils, HomePage.navigateToCareersPage (menu)", driver -> {
+            MouseUtils.hoverOverElement(driver, driver.findElement(By.id("hover")));
+            check(driver.findElement(By.id("hover")).getText().equals("hovered"), "mouseover not fired");
+        });
+        probe("select", "SelectUtils, DropdownUtils, JobsPage.filterJobs", driver -> {
+            SelectUtils.selectByVisibleTextWithDynamicWait(driver, WebDriverUtils.createWait(driver),
+                    By.id("select"), "Quality Assurance");
+        });
+        probe("alert", "AlertUtils", driver -> {
+            driver.findElement(By.id("alert")).click();
+            check(AlertUtils.acceptAlertIfPresent(driver), "alert not present");
+        });
+        probe("frames", "FrameUtils", driver -> {
+            driver.switchTo().frame("frame");
+            check(!driver.findElements(By.id("inner")).isEmpty(), "frame content not found");
+            FrameUtils.switchToDefaultContent(driver);
+        });
+        probe("screenshot", "ScreenshotListener, BasePage.attachScreenshot", driver -> {
+            check(((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES).length > 0, "empty screenshot");
+        });
+        probe("cdp", "DriverPool reset, CookieUtils.restoreState", driver -> {
+            ((HasCdp) driver).executeCdpCommand("Network.clearBrowserCookies", Collections.emptyMap());
+        });
+    }
+
+    private static void probe(String feature, String usedBy, Consumer<WebDriver> probe) {
+        FEATURES.put(feature, usedBy);
+        PROBES.put(feature, probe);
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalStateException(message);
+        }
+    }
+
+    private static long median(List<Long> values) {
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        return sorted.isEmpty() ? 0 : sorted.get(sorted.size() / 2);
+    }
+}
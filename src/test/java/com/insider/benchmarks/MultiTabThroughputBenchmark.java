@@ -0,0 +1,125 @@
+package com.insider.benchmarks;
+
+import com.insider.driver.BrowserSpec;
+import com.insider.driver.DriverFactory;
+import com.insider.utils.MultiTabReader;
+import com.sun.net.httpserver.HttpServer;
+import io.qameta.allure.Allure;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Optional;
+import org.testng.annotations.Parameters;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+/**
+ * Read-only verification throughput: one WebDriver session page by page vs. concurrent CDP tabs of one Chrome
+ * Every page is served by a local server with a fixed latency, standing in for the careers and job list pages.
+ *
+ * Run with: mvn test -Pbenchmark
+ * Results are printed, attached to Allure and written to target/benchmarks/multi-tab.txt
+ */
+public class MultiTabThroughputBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(MultiTabThroughputBenchmark.class);
+    private static final int PAGES = Integer.getInteger("benchmark.pages", 24);
+    private static final int LATENCY_MILLIS = Integer.getInteger("benchmark.latencyMillis", 250);
+    private static final By BLOCK = By.id("career-find-our-calling");
+
+    private HttpServer server;
+    private final List<String> urls = new ArrayList<>();
+
+    @BeforeClass
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", exchange -> {
+            try {
+                Thread.sleep(LATENCY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            String page = "<html><head><title>" + exchange.getRequestURI().getPath() + "</title></head><body>"
+                    + "<section id=\"career-find-our-calling\">Find your calling</section></body></html>";
+            byte[] body = page.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        for (int i = 0; i < PAGES; i++) {
+            urls.add("http://localhost:" + server.getAddress().getPort() + "/page-" + i);
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    @Parameters({"profile"})
+    public void compareThroughput(@Optional("faithful") String profile) throws IOException {
+        BrowserSpec spec = BrowserSpec.of("chrome", true, profile);
+
+        // Tek WebDriver oturumu: her sayfa sırayla yüklenir ve okunur
+        WebDriver driver = DriverFactory.create(spec);
+        long sequentialNanos;
+        try {
+            long start = System.nanoTime();
+            for (String url : urls) {
+                driver.get(url);
+                Assert.assertFalse(driver.findElements(BLOCK).isEmpty(), "block missing on " + url);
+            }
+            sequentialNanos = System.nanoTime() - start;
+        } finally {
+            DriverFactory.quit(driver);
+        }
+
+        long concurrentNanos;
+        int tabs;
+        try (MultiTabReader reader = MultiTabReader.open(spec)) {
+            long start = System.nanoTime();
+            List<Boolean> present = reader.readAll(urls, tab -> tab.exists(BLOCK));
+            concurrentNanos = System.nanoTime() - start;
+            Assert.assertFalse(present.contains(false), "block missing on a CDP tab");
+            tabs = reader.maxTabs();
+        }
+
+        String table = String.format("Read-only throughput (%d pages, %d ms latency)%n", PAGES, LATENCY_MILLIS)
+                + String.format("%-22s %10s %12s%n", "mode", "total", "pages/s")
+                + row("webdriver sequential", sequentialNanos)
+                + row("cdp tabs (" + tabs + ")", concurrentNanos);
+        logger.info("\n" + table);
+        System.out.println("📊 " + table);
+        Allure.addAttachment("Multi-tab throughput", "text/plain", table, ".txt");
+
+        Path output = Paths.get("target", "benchmarks", "multi-tab.txt");
+        Files.createDirectories(output.getParent());
+        Files.writeString(output, table);
+    }
+
+    private static String row(String mode, long nanos) {
+        return String.format("%-22s %7d ms %12.1f%n", mode, nanos / 1_000_000, PAGES / (nanos / 1_000_000_000.0));
+    }
+}
@@ -0,0 +1,51 @@
+package com.insider.daemon;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Thin client for TestDaemon; JDK only, so it runs straight from source without a build:
+ *
+ *   java src/test/java/com/insider/daemon/DaemonClient.java InsiderCareerTest#testFilterQAJobs
+ *   java src/test/java/com/insider/daemon/DaemonClient.java headless=false InsiderCareerTest
+ *   java src/test/java/com/insider/daemon/DaemonClient.java --stop
+ *
+ * Prints the streamed results and exits with 1 when a test failed.
+ *
+ * System properties:
+ * daemon.port - localhost port of the daemon (default: 48001)
+ */
+public class DaemonClient {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: DaemonClient [key=value ...] Class[#method[,method]] ... | --stop");
+            System.exit(2);
+        }
+        int port = Integer.getInteger("daemon.port", 48001);
+        String request = args[0].equals("--stop") ? "STOP" : "RUN " + String.join(" ", args);
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8)) {
+            out.println(request);
+            String line;
+            while ((line = in.readLine()) != null) {
+                System.out.println(line);
+                if (line.startsWith("DONE")) {
+                    System.exit(line.matches(".*failed=[1-9].*") ? 1 : 0);
+                }
+            }
+            System.err.println("Daemon closed the connection before the run finished");
+            System.exit(1);
+        } catch (ConnectException e) {
+            System.err.println("No test daemon on port " + port + ", start it with: mvn test -Pdaemon");
+            System.exit(2);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.insider.daemon;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+
+/**
+ * Child-first loader for the classes a developer edits between daemon runs: tests, page objects and listeners
+ * A fresh loader per change picks up recompiled classes; everything else (driver pool, services, libraries) stays
+ * with the parent so warm browsers and caches survive. Annotation types are always shared, otherwise parent code
+ * such as HtmlUnitSupport would not see them on reloaded test methods.
+ */
+class ReloadingClassLoader extends URLClassLoader {
+
+    static final List<String> RELOADABLE = List.of("com.insider.tests.", "com.insider.pages.", "com.insider.listeners.");
+
+    ReloadingClassLoader(URL testClasses, ClassLoader parent) {
+        super("daemon-reload", new URL[]{testClasses}, parent);
+    }
+
+    static boolean isReloadable(String className) {
+        return RELOADABLE.stream().anyMatch(className::startsWith);
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        if (!isReloadable(name)) {
+            return super.loadClass(name, resolve);
+        }
+        synchronized (getClassLoadingLock(name)) {
+            Class<?> loaded = findLoadedClass(name);
+            if (loaded == null) {
+                Class<?> shared = getParent().loadClass(name);
+                loaded = shared.isAnnotation() ? shared : findClass(name);
+            }
+            if (resolve) {
+                resolveClass(loaded);
+            }
+            return loaded;
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package com.insider.daemon;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.TestNG;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Long-lived test runner that keeps a warm JVM and warm browsers between runs
+ * Run requests come from DaemonClient over a localhost socket. Before each run, test sources that are newer than
+ * their class files are compiled in-process; if anything changed the tests, pages and listeners are loaded again
+ * through a fresh ReloadingClassLoader. The driver pool, resolved driver binaries and driver services are kept,
+ * so a run only pays for the test itself. Results are streamed back line by line.
+ *
+ * Start with: mvn test -Pdaemon        (or run main from the IDE)
+ * Run with:   java src/test/java/com/insider/daemon/DaemonClient.java InsiderCareerTest#testFilterQAJobs
+ *
+ * System properties:
+ * daemon.port - localhost port (default: 48001)
+ */
+public class TestDaemon {
+    private static final Logger logger = LoggerFactory.getLogger(TestDaemon.class);
+
+    static final int PORT = Integer.getInteger("daemon.port", 48001);
+    static final String DONE = "DONE";
+
+    private static final Path SOURCES = Paths.get("src", "test", "java");
+    private static final Path CLASSES = Paths.get("target", "test-classes");
+    private static final String TESTS_PACKAGE = "com.insider.tests.";
+
+    private ReloadingClassLoader loader;
+    private long loadedMillis;
+
+    public static void main(String[] args) throws IOException {
+        new TestDaemon().serve();
+    }
+
+    /**
+     * Entry point for the daemon profile: surefire starts the JVM (with the AspectJ agent) and this never returns
+     * until a client sends STOP
+     */
+    @Test(description = "Test daemon")
+    public void serve() throws IOException {
+        // Havuz ve listener'lar daemon modunda oturumları run'lar arasında kapatmaz
+        System.setProperty("test.daemon", "true");
+        if (System.getProperty("driver.pool.maxIdleSeconds") == null) {
+            System.setProperty("driver.pool.maxIdleSeconds", "3600");
+        }
+        try (ServerSocket server = new ServerSocket(PORT, 10, InetAddress.getLoopbackAddress())) {
+            logger.info("Test daemon listening on port " + PORT);
+            System.out.println("🔥 Test daemon ready on port " + PORT);
+            while (true) {
+                try (Socket socket = server.accept();
+                     BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                     PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8)) {
+                    String request = in.readLine();
+                    if (request == null) {
+                        continue;
+                    }
+                    if (request.equals("STOP")) {
+                        out.println(DONE + " stopped");
+                        break;
+                    }
+                    run(List.of(request.trim().split("\\s+")), out);
+                } catch (IOException e) {
+                    logger.warn("Daemon client disconnected: " + e.getMessage());
+                }
+            }
+        }
+        logger.info("Test daemon stopped");
+    }
+
+    /**
+     * RUN [key=value ...] selector... where a selector is Class, Class#method or Class#m1,m2
+     * Simple class names are looked up in com.insider.tests
+     */
+    void run(List<String> request, PrintWriter out) {
+        long start = System.nanoTime();
+        Map<String, String> parameters = new LinkedHashMap<>(Map.of("browser", "chrome", "headless", "true",
+                "profile", "faithful"));
+        List<String> selectors = new ArrayList<>();
+        for (String token : request.subList(1, request.size())) {
+            if (token.contains("=")) {
+                parameters.put(token.substring(0, token.indexOf('=')), token.substring(token.indexOf('=') + 1));
+            } else {
+                selectors.add(token);
+            }
+        }
+        if (!request.get(0).equals("RUN") || selectors.isEmpty()) {
+            out.println(DONE + " failed=1 usage: RUN [key=value ...] Class[#method[,method]] ...");
+            return;
+        }
+        ClassLoader previous = Thread.currentThread().getContextClassLoader();
+        try {
+            if (!compileChanged(out)) {
+                out.println(DONE + " failed=1 compilation failed");
+                return;
+            }
+            ClassLoader classLoader = currentLoader(out);
+            Thread.currentThread().setContextClassLoader(classLoader);
+            StreamingListener results = new StreamingListener(out);
+            TestNG testng = new TestNG(false);
+            testng.setUseDefaultListeners(false);
+            testng.setVerbose(0);
+            testng.addListener(results);
+            testng.setXmlSuites(List.of(suite(selectors, parameters, classLoader)));
+            testng.run();
+            out.printf("%s passed=%d failed=%d skipped=%d in %.1f s%n", DONE, results.passed, results.failed,
+                    results.skipped, (System.nanoTime() - start) / 1_000_000_000.0);
+        } catch (ClassNotFoundException | RuntimeException e) {
+            out.println(DONE + " failed=1 " + e);
+        } finally {
+            Thread.currentThread().setContextClassLoader(previous);
+        }
+    }
+
+    private XmlSuite suite(List<String> selectors, Map<String, String> parameters, ClassLoader classLoader)
+            throws ClassNotFoundException {
+        XmlSuite suite = new XmlSuite();
+        suite.setName("Daemon Run");
+        XmlTest test = new XmlTest(suite);
+        test.setName("Daemon Test");
+        test.setParameters(parameters);
+        List<XmlClass> classes = new ArrayList<>();
+        for (String selector : selectors) {
+            String[] parts = selector.split("#", 2);
+            String className = parts[0].contains(".") ? parts[0] : TESTS_PACKAGE + parts[0];
+            XmlClass xmlClass = new XmlClass(Class.forName(className, false, classLoader));
+            if (parts.length == 2) {
+                xmlClass.setIncludedMethods(Arrays.stream(parts[1].split(",")).map(XmlInclude::new).toList());
+            }
+            classes.add(xmlClass);
+        }
+        test.setXmlClasses(classes);
+        return suite;
+    }
+
+    /**
+     * A new loader when class files changed since the last one was created, otherwise the warm one
+     */
+    private ClassLoader currentLoader(PrintWriter out) {
+        long newest = newestClassFile();
+        if (loader == null || newest > loadedMillis) {
+            try {
+                loader = new ReloadingClassLoader(CLASSES.toUri().toURL(), TestDaemon.class.getClassLoader());
+            } catch (IOException e) {
+                throw new IllegalStateException("Test classes not found at " + CLASSES, e);
+            }
+            loadedMillis = newest;
+            out.println("♻️  Reloaded tests, pages and listeners");
+        }
+        return loader;
+    }
+
+    /**
+     * Compile test sources newer than their class files with the daemon's own classpath
+     * Only the changed files are compiled; classes that merely depend on them keep their old bytecode.
+     */
+    private boolean compileChanged(PrintWriter out) {
+        List<Path> changed;
+        try (Stream<Path> sources = Files.walk(SOURCES)) {
+            changed = sources.filter(path -> path.toString().endsWith(".java")).filter(this::isStale).toList();
+        } catch (IOException e) {
+            out.println("⚠️  Sources not readable: " + e.getMessage());
+            return true;
+        }
+        if (changed.isEmpty()) {
+            return true;
+        }
+        for (Path source : changed) {
+            String className = SOURCES.relativize(source).toString().replace('/', '.').replace(".java", "");
+            if (!ReloadingClassLoader.isReloadable(className)) {
+                out.println("⚠️  " + className + " changed but is not reloadable, restart the daemon to pick it up");
+            }
+        }
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            out.println("⚠️  No Java compiler in this JVM, run mvn test-compile and send the request again");
+            return true;
+        }
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            String classpath = System.getProperty("surefire.test.class.path", System.getProperty("java.class.path"));
+            List<String> options = List.of("-classpath", classpath, "-d", CLASSES.toString(), "-proc:none",
+                    "-encoding", "UTF-8");
+            boolean compiled = compiler.getTask(null, files, diagnostics, options, null,
+                    files.getJavaFileObjectsFromPaths(changed)).call();
+            for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+                if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                    out.println("❌ " + diagnostic.getSource().getName() + ":" + diagnostic.getLineNumber() + " "
+                            + diagnostic.getMessage(null));
+                }
+            }
+            if (compiled) {
+                out.println("🔨 Compiled " + changed.size() + " changed source(s)");
+            }
+            return compiled;
+        } catch (IOException e) {
+            out.println("⚠️  Compilation failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean isStale(Path source) {
+        Path classFile = CLASSES.resolve(SOURCES.relativize(source).toString().replace(".java", ".class"));
+        try {
+            return !Files.exists(classFile)
+                    || Files.getLastModifiedTime(source).compareTo(Files.getLastModifiedTime(classFile)) > 0;
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    private long newestClassFile() {
+        try (Stream<Path> classes = Files.walk(CLASSES)) {
+            return classes.filter(path -> path.toString().endsWith(".class"))
+                    .mapToLong(path -> path.toFile().lastModified())
+                    .max()
+                    .orElse(0);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Streams each result to the client as soon as the test finishes
+     */
+    private static class StreamingListener implements ITestListener {
+        private final PrintWriter out;
+        private int passed;
+        private int failed;
+        private int skipped;
+
+        StreamingListener(PrintWriter out) {
+            this.out = out;
+        }
+
+        @Override
+        public void onTestStart(ITestResult result) {
+            out.println("▶️  " + name(result));
+        }
+
+        @Override
+        public void onTestSuccess(ITestResult result) {
+            passed++;
+            out.println("✅ PASS " + name(result) + " (" + millis(result) + " ms)");
+        }
+
+        @Override
+        public void onTestFailure(ITestResult result) {
+            failed++;
+            out.println("❌ FAIL " + name(result) + " (" + millis(result) + " ms): " + result.getThrowable());
+            StackTraceElement[] trace = result.getThrowable() != null ? result.getThrowable().getStackTrace()
+                    : new StackTraceElement[0];
+            Arrays.stream(trace).filter(frame -> frame.getClassName().startsWith("com.insider."))
+                    .limit(5)
+                    .forEach(frame -> out.println("      at " + frame));
+        }
+
+        @Override
+        public void onTestSkipped(ITestResult result) {
+            skipped++;
+            out.println("⏭️  SKIP " + name(result));
+        }
+
+        private static String name(ITestResult result) {
+            return result.getTestClass().getRealClass().getSimpleName() + "#" + result.getMethod().getMethodName();
+        }
+
+        private static long millis(ITestResult result) {
+            return result.getEndMillis() - result.getStartMillis();
+        }
+    }
+}
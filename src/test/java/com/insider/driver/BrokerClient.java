@@ -0,0 +1,234 @@
+package com.insider.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Leases browser capacity from the machine-wide LeaseBroker, so surefire forks and concurrent suites share one
+ * browser budget instead of each sizing itself to the whole machine
+ * Every local browser launched by DriverFactory.create holds a lease for as long as its session lives; pooled warm
+ * sessions keep theirs. Grid and HtmlUnit sessions do not use this machine's browser budget and take no lease.
+ * The first JVM that finds no broker starts one as a separate process, which exits on its own once idle.
+ *
+ * System properties:
+ * driver.broker.enabled        - lease capacity from the broker (default: false)
+ * driver.broker.port           - localhost port of the broker (default: 47999)
+ * driver.broker.capacity       - browsers on this machine, used when this JVM starts the broker
+ *                                (default: available CPUs)
+ * driver.broker.idleSeconds    - broker exits after this long without connections (default: 60)
+ * driver.broker.maxWaitSeconds - launches waiting longer than this proceed without a lease (default: 300)
+ */
+public class BrokerClient {
+    private static final Logger logger = LoggerFactory.getLogger(BrokerClient.class);
+    private static final BrokerClient INSTANCE = new BrokerClient();
+
+    private static final int CONNECT_ATTEMPTS = 40;
+    private static final long RETRY_MILLIS = 250;
+
+    private final boolean enabled = Boolean.parseBoolean(System.getProperty("driver.broker.enabled", "false"));
+    private final int port = Integer.getInteger("driver.broker.port", 47999);
+    private final int capacity = Integer.getInteger("driver.broker.capacity",
+            Math.max(1, (int) LaunchGovernor.availableCpus()));
+    private final int idleSeconds = Integer.getInteger("driver.broker.idleSeconds", 60);
+    private final int maxWaitMillis = (int) TimeUnit.SECONDS.toMillis(Integer.getInteger("driver.broker.maxWaitSeconds", 300));
+
+    private final Map<WebDriver, Socket> leases = Collections.synchronizedMap(new IdentityHashMap<>());
+    private volatile String client = ProcessHandle.current().pid() + "@default";
+    // Aşağıdaki alanlar this monitor'ü ile korunur
+    private long granted;
+    private long queued;
+    private long waitedNanos;
+    private long maxWaitedNanos;
+    private long unleased;
+
+    private BrokerClient() {
+    }
+
+    public static BrokerClient getInstance() {
+        return INSTANCE;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Name this JVM's leases after the running suite; fair share is counted per client
+     */
+    public void joinSuite(String suiteName) {
+        client = ProcessHandle.current().pid() + "@" + suiteName.replaceAll("\\s+", "_");
+    }
+
+    /**
+     * Block until the broker grants a browser slot; the returned connection is the lease
+     * @return null when disabled, for specs that do not launch a local browser, or when no lease could be obtained
+     * in time
+     */
+    Socket acquire(BrowserSpec spec) {
+        if (!enabled || !spec.isLocalBrowser()) {
+            return null;
+        }
+        long start = System.nanoTime();
+        Socket socket = connect();
+        if (socket == null) {
+            recordUnleased("Lease broker not reachable on port " + port + ", launching without a lease");
+            return null;
+        }
+        try {
+            socket.setSoTimeout(maxWaitMillis);
+            PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            out.println("ACQUIRE " + client);
+            String reply = in.readLine();
+            if (reply == null || !reply.startsWith("GRANTED ")) {
+                throw new IOException("unexpected broker reply: " + reply);
+            }
+            socket.setSoTimeout(0);
+            recordGranted(System.nanoTime() - start);
+            return socket;
+        } catch (SocketTimeoutException e) {
+            closeQuietly(socket);
+            recordUnleased("No lease after " + TimeUnit.MILLISECONDS.toSeconds(maxWaitMillis)
+                    + " s, launching anyway (" + status() + ")");
+            return null;
+        } catch (IOException e) {
+            closeQuietly(socket);
+            recordUnleased("Lease broker failed, launching without a lease: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * The lease now belongs to the started session; without a session it goes straight back
+     */
+    void bind(WebDriver driver, Socket lease) {
+        if (lease == null) {
+            return;
+        }
+        if (driver == null) {
+            closeQuietly(lease);
+            return;
+        }
+        leases.put(driver, lease);
+    }
+
+    void release(WebDriver driver) {
+        Socket lease = enabled ? leases.remove(driver) : null;
+        if (lease != null) {
+            closeQuietly(lease);
+        }
+    }
+
+    /**
+     * The broker's current view of the machine, or "n/a" when it is not running
+     */
+    public String status() {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1000);
+            socket.setSoTimeout(1000);
+            new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8).println("STATUS");
+            String line = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))
+                    .readLine();
+            return line != null ? line.replaceFirst("^STATUS ", "") : "n/a";
+        } catch (IOException e) {
+            return "n/a";
+        }
+    }
+
+    public synchronized String summary() {
+        return String.format("Lease broker: client=%s leases=%d queued=%d waited=%.1f s maxWait=%.1f s unleased=%d | %s",
+                client, granted, queued, waitedNanos / 1_000_000_000.0, maxWaitedNanos / 1_000_000_000.0,
+                unleased, status());
+    }
+
+    private synchronized void recordGranted(long nanos) {
+        granted++;
+        // Bağlantı kurma süresi bekleme sayılmaz
+        if (nanos > TimeUnit.MILLISECONDS.toNanos(100)) {
+            queued++;
+            waitedNanos += nanos;
+            maxWaitedNanos = Math.max(maxWaitedNanos, nanos);
+        }
+    }
+
+    private synchronized void recordUnleased(String message) {
+        unleased++;
+        logger.warn(message);
+    }
+
+    /**
+     * Connect to the broker, starting it if nobody listens yet; concurrent starters race for the port and the
+     * losers exit
+     */
+    private Socket connect() {
+        boolean spawned = false;
+        for (int attempt = 0; attempt < CONNECT_ATTEMPTS; attempt++) {
+            Socket socket = new Socket();
+            try {
+                socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1000);
+                return socket;
+            } catch (IOException e) {
+                closeQuietly(socket);
+            }
+            if (!spawned) {
+                spawned = spawnBroker();
+            }
+            try {
+                Thread.sleep(RETRY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private boolean spawnBroker() {
+        // Surefire fork'larında java.class.path sadece booter jar'dır; gerçek test classpath'i ayrı verilir
+        String classpath = System.getProperty("surefire.test.class.path", System.getProperty("java.class.path"));
+        Path java = Paths.get(System.getProperty("java.home"), "bin", "java");
+        Path log = Paths.get("target", "lease-broker.log");
+        List<String> command = new ArrayList<>(List.of(java.toString(), "-cp", classpath,
+                LeaseBroker.class.getName(), String.valueOf(port), String.valueOf(capacity), String.valueOf(idleSeconds)));
+        try {
+            Files.createDirectories(log.getParent());
+            new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.appendTo(log.toFile()))
+                    .start();
+            logger.info("Started lease broker on port " + port + " with capacity " + capacity);
+            return true;
+        } catch (IOException e) {
+            logger.warn("Lease broker could not be started: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            logger.debug("Lease connection close failed: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.insider.driver;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Finds the OS processes behind a local browser session and measures their memory
+ * Chrome is found by the user-data-dir chromedriver reports in its capabilities, Firefox by moz:processID.
+ * Memory is read from /proc (PSS where available, so pages shared between processes are not counted twice);
+ * on other platforms and for Grid sessions the measurement is unavailable (-1).
+ */
+public class BrowserProcesses {
+
+    private BrowserProcesses() {
+    }
+
+    /**
+     * Main browser process of a local session, if it can be found
+     */
+    public static Optional<ProcessHandle> browserProcess(WebDriver driver) {
+        if (!(driver instanceof HasCapabilities hasCapabilities)) {
+            return Optional.empty();
+        }
+        Capabilities capabilities = hasCapabilities.getCapabilities();
+        Object firefoxPid = capabilities.getCapability("moz:processID");
+        if (firefoxPid instanceof Number pid) {
+            return ProcessHandle.of(pid.longValue());
+        }
+        if (capabilities.getCapability("chrome") instanceof Map<?, ?> chrome
+                && chrome.get("userDataDir") instanceof String userDataDir) {
+            return findChromeRoot(userDataDir);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Memory of the browser process and all its children in bytes, -1 if it cannot be measured
+     */
+    public static long memoryBytes(WebDriver driver) {
+        return browserProcess(driver).map(BrowserProcesses::treeMemoryBytes).orElse(-1L);
+    }
+
+    /**
+     * Memory of a process and all its descendants in bytes, -1 if /proc is not available
+     */
+    public static long treeMemoryBytes(ProcessHandle root) {
+        List<ProcessHandle> tree = new ArrayList<>();
+        tree.add(root);
+        root.descendants().forEach(tree::add);
+        long total = 0;
+        for (ProcessHandle process : tree) {
+            long bytes = processMemoryBytes(process.pid());
+            if (bytes < 0) {
+                return -1;
+            }
+            total += bytes;
+        }
+        return total;
+    }
+
+    /**
+     * PSS from smaps_rollup, falling back to VmRSS from status
+     */
+    static long processMemoryBytes(long pid) {
+        Path proc = Paths.get("/proc", String.valueOf(pid));
+        long pss = readKilobytes(proc.resolve("smaps_rollup"), "Pss:");
+        if (pss >= 0) {
+            return pss * 1024;
+        }
+        long rss = readKilobytes(proc.resolve("status"), "VmRSS:");
+        // Process bu arada kapandıysa 0, /proc hiç yoksa (Linux dışı) ölçüm yapılamaz
+        return rss >= 0 ? rss * 1024 : (Files.isDirectory(Paths.get("/proc/self")) ? 0 : -1);
+    }
+
+    private static Optional<ProcessHandle> findChromeRoot(String userDataDir) {
+        String flag = "--user-data-dir=" + userDataDir;
+        return ProcessHandle.allProcesses()
+                .filter(process -> process.info().commandLine().map(line -> line.contains(flag)).orElse(false))
+                .filter(process -> process.parent()
+                        .flatMap(parent -> parent.info().commandLine())
+                        .map(line -> !line.contains(flag))
+                        .orElse(true))
+                .findFirst();
+    }
+
+    static long readKilobytes(Path file, String key) {
+        try {
+            for (String line : Files.readAllLines(file)) {
+                if (line.startsWith(key)) {
+                    return Long.parseLong(line.substring(key.length()).trim().split("\\s+")[0]);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // Dosya yok (Linux dışı) ya da process bu arada kapandı
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,104 @@
+package com.insider.driver;
+
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.firefox.FirefoxDriverLogLevel;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.logging.LoggingPreferences;
+
+import java.util.logging.Level;
+
+/**
+ * Named sets of browser flags selectable per suite with the "profile" parameter
+ * fast     - turns off background work the tests never need (networking, updates, sync, extensions...)
+ * faithful - default; only the stability flags, closest to a user's browser
+ * debug    - faithful plus verbose browser and driver logging
+ *
+ * Use BrowserProfileBenchmark (mvn test -Pbenchmark) to compare startup cost before changing flags.
+ */
+public enum BrowserProfile {
+    FAST,
+    FAITHFUL,
+    DEBUG;
+
+    public static BrowserProfile of(String name) {
+        return name == null || name.isEmpty() ? FAITHFUL : valueOf(name.trim().toUpperCase());
+    }
+
+    /**
+     * Add the profile specific Chrome flags and logging preferences
+     */
+    void applyTo(ChromeOptions options) {
+        if (this == FAST) {
+            options.addArguments(
+                    "--disable-background-networking",
+                    "--disable-component-update",
+                    "--disable-sync",
+                    "--disable-extensions",
+                    "--disable-default-apps",
+                    "--disable-renderer-backgrounding",
+                    "--disable-background-timer-throttling",
+                    "--disable-backgrounding-occluded-windows",
+                    "--disable-client-side-phishing-detection",
+                    "--disable-features=Translate,OptimizationHints,MediaRouter",
+                    "--no-first-run",
+                    "--no-default-browser-check",
+                    "--metrics-recording-only",
+                    "--mute-audio");
+        }
+
+        LoggingPreferences loggingPrefs = new LoggingPreferences();
+        if (this == DEBUG) {
+            options.addArguments("--enable-logging=stderr", "--v=1");
+            loggingPrefs.enable(LogType.BROWSER, Level.ALL);
+            loggingPrefs.enable(LogType.DRIVER, Level.ALL);
+            loggingPrefs.enable(LogType.PERFORMANCE, Level.INFO);
+        } else {
+            // Chrome'un kendi log seviyesini ayarla (3 = sadece fatal hatalar)
+            options.addArguments("--log-level=3");
+            // Chrome'un logging output'unu devre dışı bırak
+            options.addArguments("--disable-logging");
+            options.addArguments("--silent");
+
+            // Selenium logging preferences - CDP uyarılarını bastır
+            loggingPrefs.enable(LogType.BROWSER, Level.SEVERE);
+            loggingPrefs.enable(LogType.DRIVER, Level.SEVERE);
+            loggingPrefs.enable(LogType.PERFORMANCE, Level.SEVERE);
+            // CDP uyarılarını bastırmak için experimental options
+            options.setExperimentalOption("excludeSwitches", new String[]{"enable-logging"});
+        }
+        options.setCapability("goog:loggingPrefs", loggingPrefs);
+    }
+
+    /**
+     * Add the profile specific Firefox preferences (equivalents of the Chrome flags)
+     */
+    void applyTo(FirefoxOptions options) {
+        if (this == FAST) {
+            options.addPreference("app.update.auto", false);
+            options.addPreference("app.update.checkInstallTime", false);
+            options.addPreference("extensions.update.enabled", false);
+            options.addPreference("extensions.getAddons.cache.enabled", false);
+            options.addPreference("browser.shell.checkDefaultBrowser", false);
+            options.addPreference("browser.startup.page", 0);
+            options.addPreference("browser.newtabpage.enabled", false);
+            options.addPreference("browser.safebrowsing.malware.enabled", false);
+            options.addPreference("browser.safebrowsing.phishing.enabled", false);
+            options.addPreference("browser.safebrowsing.downloads.enabled", false);
+            options.addPreference("browser.translations.enable", false);
+            options.addPreference("identity.fxaccounts.enabled", false);
+            options.addPreference("services.sync.engine.addons", false);
+            options.addPreference("datareporting.healthreport.uploadEnabled", false);
+            options.addPreference("datareporting.policy.dataSubmissionEnabled", false);
+            options.addPreference("toolkit.telemetry.enabled", false);
+            options.addPreference("network.captive-portal-service.enabled", false);
+            options.addPreference("network.connectivity-service.enabled", false);
+            options.addPreference("dom.min_background_timeout_value", 0);
+            options.addPreference("media.volume_scale", "0.0");
+        }
+        if (this == DEBUG) {
+            options.setLogLevel(FirefoxDriverLogLevel.DEBUG);
+            options.addPreference("devtools.console.stdout.content", true);
+        }
+    }
+}
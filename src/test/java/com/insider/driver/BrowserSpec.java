@@ -0,0 +1,53 @@
+package com.insider.driver;
+
+/**
+ * Describes which kind of browser session a test needs
+ * Used as the pool key so sessions are only reused between identical configurations
+ */
+public record BrowserSpec(String browser, boolean headless, String gridUrl, BrowserProfile profile,
+                          ChromeBackend backend) {
+
+    public BrowserSpec {
+        browser = browser.toLowerCase();
+        gridUrl = gridUrl == null || gridUrl.isEmpty() ? null : gridUrl;
+        // HtmlUnit JVM içinde çalışır (Grid'e gitmez) ve penceresi yoktur; viewport boyutu açıkça ayarlanır
+        if (browser.equals(HtmlUnitSupport.BROWSER)) {
+            headless = true;
+            gridUrl = null;
+        }
+        // chrome-headless-shell sadece lokal headless Chrome oturumları için geçerli
+        if (!browser.equals("chrome") || !headless || gridUrl != null) {
+            backend = ChromeBackend.CHROME;
+        }
+    }
+
+    /**
+     * Builds a spec from TestNG parameters and the selenium.grid.url / chrome.backend system properties
+     */
+    public static BrowserSpec of(String browser, boolean headless, String profile) {
+        return new BrowserSpec(browser, headless, System.getProperty("selenium.grid.url"), BrowserProfile.of(profile),
+                ChromeBackend.fromSystemProperty());
+    }
+
+    public BrowserSpec withBackend(ChromeBackend backend) {
+        return new BrowserSpec(browser, headless, gridUrl, profile, backend);
+    }
+
+    public boolean isRemote() {
+        return gridUrl != null;
+    }
+
+    /**
+     * True when the session is a browser process on this machine (neither Grid nor the in-JVM HtmlUnit)
+     */
+    public boolean isLocalBrowser() {
+        return !isRemote() && !browser.equals(HtmlUnitSupport.BROWSER);
+    }
+
+    @Override
+    public String toString() {
+        return browser + (backend == ChromeBackend.HEADLESS_SHELL ? "/headless-shell" : headless ? "/headless" : "")
+                + "/" + profile.name().toLowerCase()
+                + (isRemote() ? "@" + gridUrl : "/local");
+    }
+}
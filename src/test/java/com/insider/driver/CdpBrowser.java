@@ -0,0 +1,149 @@
+package com.insider.driver;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+
+/**
+ * A Chrome started by DriverFactory whose tabs are driven directly over its DevTools WebSocket
+ * WebDriver serializes every command of a session; CDP target sessions don't, so read-only work on many tabs can
+ * run concurrently. Tabs are pooled: at most maxTabs are open and released tabs are reused for the next page; a tab
+ * whose navigation failed is discarded, so a late load event of its old page cannot complete the next navigation.
+ *
+ * System properties:
+ * cdp.maxTabs                  - tabs open at once (default: 8)
+ * cdp.navigationTimeoutSeconds - page load timeout per navigation (default: 30)
+ */
+public class CdpBrowser implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(CdpBrowser.class);
+
+    private static final int MAX_TABS = Integer.getInteger("cdp.maxTabs", 8);
+    private static final Duration NAVIGATION_TIMEOUT =
+            Duration.ofSeconds(Integer.getInteger("cdp.navigationTimeoutSeconds", 30));
+    private static final Duration COMMAND_TIMEOUT = Duration.ofSeconds(30);
+
+    private final WebDriver driver;
+    private final CdpConnection connection;
+    private final int maxTabs;
+    private final BlockingQueue<CdpTab> idle = new LinkedBlockingQueue<>();
+    // Ödünç verilen tab sayısını sınırlar; boşta tab yoksa yenisi açılır
+    private final Semaphore slots;
+
+    private CdpBrowser(WebDriver driver, CdpConnection connection, int maxTabs) {
+        this.driver = driver;
+        this.connection = connection;
+        this.maxTabs = maxTabs;
+        this.slots = new Semaphore(maxTabs);
+    }
+
+    /**
+     * Start a local Chrome for the spec and connect to its browser-level DevTools endpoint
+     */
+    public static CdpBrowser start(BrowserSpec spec) {
+        if (!spec.browser().equals("chrome") || spec.isRemote()) {
+            throw new IllegalArgumentException("CDP tabs need a local Chrome, got " + spec);
+        }
+        WebDriver driver = DriverFactory.create(spec);
+        try {
+            URI webSocketUrl = browserWebSocketUrl(((HasCapabilities) driver).getCapabilities());
+            CdpBrowser browser = new CdpBrowser(driver, CdpConnection.connect(webSocketUrl, COMMAND_TIMEOUT), MAX_TABS);
+            logger.info("CDP browser connected: " + spec + " (max " + MAX_TABS + " tabs)");
+            return browser;
+        } catch (RuntimeException e) {
+            DriverFactory.quit(driver);
+            throw e;
+        }
+    }
+
+    public int maxTabs() {
+        return maxTabs;
+    }
+
+    /**
+     * Borrow a tab, opening a new one while fewer than maxTabs exist; blocks until one is released otherwise
+     */
+    public CdpTab acquire() throws InterruptedException {
+        slots.acquire();
+        CdpTab tab = idle.poll();
+        if (tab != null) {
+            return tab;
+        }
+        try {
+            return newTab();
+        } catch (RuntimeException e) {
+            slots.release();
+            throw e;
+        }
+    }
+
+    public void release(CdpTab tab) {
+        idle.add(tab);
+        slots.release();
+    }
+
+    /**
+     * Close a borrowed tab instead of reusing it, e.g. after a navigation that timed out or failed
+     */
+    public void discard(CdpTab tab) {
+        try {
+            tab.close();
+        } catch (RuntimeException e) {
+            logger.debug("Discarded CDP tab could not be closed: " + e.getMessage());
+        } finally {
+            slots.release();
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            connection.close();
+        } finally {
+            DriverFactory.quit(driver);
+        }
+    }
+
+    private CdpTab newTab() {
+        String targetId = (String) connection.send(null, "Target.createTarget", Map.of("url", "about:blank"))
+                .get("targetId");
+        String sessionId = (String) connection.send(null, "Target.attachToTarget",
+                Map.of("targetId", targetId, "flatten", true)).get("sessionId");
+        return new CdpTab(connection, targetId, sessionId, NAVIGATION_TIMEOUT.toMillis());
+    }
+
+    /**
+     * ChromeDriver reports the DevTools address of the browser it started as goog:chromeOptions.debuggerAddress
+     */
+    private static URI browserWebSocketUrl(Capabilities capabilities) {
+        Object options = capabilities.getCapability("goog:chromeOptions");
+        Object address = options instanceof Map<?, ?> map ? map.get("debuggerAddress") : null;
+        if (address == null) {
+            throw new IllegalStateException("Chrome session does not expose a DevTools address");
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://" + address + "/json/version")).GET().build();
+        try {
+            String body = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString()).body();
+            Map<String, Object> version = new Json().toType(body, Json.MAP_TYPE);
+            return URI.create((String) version.get("webSocketDebuggerUrl"));
+        } catch (IOException e) {
+            throw new IllegalStateException("DevTools endpoint not reachable at " + address, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reading the DevTools endpoint", e);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.insider.driver;
+
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * One browser-level Chrome DevTools Protocol WebSocket with flattened target sessions
+ * Commands for different sessions are multiplexed over the socket and answered independently, so many tabs can be
+ * driven at once; replies are matched by id, events are delivered to one-shot waiters by session and method.
+ */
+class CdpConnection implements WebSocket.Listener, AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(CdpConnection.class);
+    private static final Json JSON = new Json();
+
+    private final WebSocket socket;
+    private final AtomicInteger ids = new AtomicInteger();
+    private final Map<Integer, CompletableFuture<Map<String, Object>>> pending = new ConcurrentHashMap<>();
+    private final Map<String, List<CompletableFuture<Map<String, Object>>>> eventWaiters = new ConcurrentHashMap<>();
+    private final StringBuilder frame = new StringBuilder();
+    // synchronized yerine lock: join() sırasında MultiTabReader'ın virtual thread'leri carrier'ı bloklamasın
+    private final ReentrantLock sendLock = new ReentrantLock();
+    private final Duration timeout;
+
+    private CdpConnection(URI webSocketUrl, Duration timeout) {
+        this.timeout = timeout;
+        this.socket = HttpClient.newHttpClient().newWebSocketBuilder()
+                .connectTimeout(timeout)
+                .buildAsync(webSocketUrl, this)
+                .join();
+    }
+
+    static CdpConnection connect(URI webSocketUrl, Duration timeout) {
+        logger.debug("Connecting to DevTools at " + webSocketUrl);
+        return new CdpConnection(webSocketUrl, timeout);
+    }
+
+    /**
+     * Send a command, to the browser when sessionId is null, and wait for its result
+     */
+    Map<String, Object> send(String sessionId, String method, Map<String, Object> params) {
+        CompletableFuture<Map<String, Object>> result = sendAsync(sessionId, method, params);
+        try {
+            return result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Geç gelen cevap beklenmez; iptal edilen future pending'den de çıkar
+            result.cancel(false);
+            throw new IllegalStateException("CDP " + method + " timed out after " + timeout.toSeconds() + " s");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for CDP " + method, e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException runtime ? runtime
+                    : new IllegalStateException("CDP " + method + " failed", e.getCause());
+        }
+    }
+
+    CompletableFuture<Map<String, Object>> sendAsync(String sessionId, String method, Map<String, Object> params) {
+        int id = ids.incrementAndGet();
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("id", id);
+        message.put("method", method);
+        message.put("params", params);
+        if (sessionId != null) {
+            message.put("sessionId", sessionId);
+        }
+        CompletableFuture<Map<String, Object>> result = new CompletableFuture<>();
+        pending.put(id, result);
+        // Cevapla, iptalle ya da hatayla tamamlanan her komut pending'den silinir
+        result.whenComplete((value, error) -> pending.remove(id, result));
+        String text = JSON.toJson(message);
+        // WebSocket aynı anda tek bir gönderime izin verir
+        sendLock.lock();
+        try {
+            socket.sendText(text, true).join();
+        } catch (RuntimeException e) {
+            pending.remove(id);
+            throw e;
+        } finally {
+            sendLock.unlock();
+        }
+        return result;
+    }
+
+    /**
+     * Future completed by the next event with this method on the session; register it before triggering the event
+     */
+    CompletableFuture<Map<String, Object>> nextEvent(String sessionId, String method) {
+        CompletableFuture<Map<String, Object>> event = new CompletableFuture<>();
+        eventWaiters.computeIfAbsent(sessionId + "|" + method, key -> new CopyOnWriteArrayList<>()).add(event);
+        return event;
+    }
+
+    @Override
+    public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+        frame.append(data);
+        if (last) {
+            String text = frame.toString();
+            frame.setLength(0);
+            dispatch(JSON.toType(text, Json.MAP_TYPE));
+        }
+        webSocket.request(1);
+        return null;
+    }
+
+    @Override
+    public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+        failAll(new IllegalStateException("DevTools connection closed: " + statusCode + " " + reason));
+        return null;
+    }
+
+    @Override
+    public void onError(WebSocket webSocket, Throwable error) {
+        failAll(new IllegalStateException("DevTools connection failed", error));
+    }
+
+    @Override
+    public void close() {
+        failAll(new IllegalStateException("DevTools connection closed"));
+        try {
+            socket.sendClose(WebSocket.NORMAL_CLOSURE, "").join();
+        } catch (CompletionException e) {
+            logger.debug("DevTools connection already closed: " + e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void dispatch(Map<String, Object> message) {
+        Object id = message.get("id");
+        if (id != null) {
+            CompletableFuture<Map<String, Object>> result = pending.remove(((Number) id).intValue());
+            if (result == null) {
+                return;
+            }
+            if (message.containsKey("error")) {
+                Map<String, Object> error = (Map<String, Object>) message.get("error");
+                result.completeExceptionally(new IllegalStateException("CDP error " + error.get("code") + ": "
+                        + error.get("message")));
+            } else {
+                result.complete((Map<String, Object>) message.getOrDefault("result", Map.of()));
+            }
+            return;
+        }
+        List<CompletableFuture<Map<String, Object>>> waiters =
+                eventWaiters.remove(message.get("sessionId") + "|" + message.get("method"));
+        if (waiters != null) {
+            Map<String, Object> params = (Map<String, Object>) message.getOrDefault("params", Map.of());
+            waiters.forEach(waiter -> waiter.complete(params));
+        }
+    }
+
+    private void failAll(RuntimeException error) {
+        pending.values().forEach(result -> result.completeExceptionally(error));
+        pending.clear();
+        eventWaiters.values().forEach(waiters -> waiters.forEach(waiter -> waiter.completeExceptionally(error)));
+        eventWaiters.clear();
+    }
+}
@@ -0,0 +1,147 @@
+package com.insider.driver;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.json.Json;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * One browser tab driven directly over CDP, for read-only checks
+ * Locators are the same By objects page objects use (id, css, xpath, class, tag); lookups run in the page as
+ * JavaScript, so they see the live DOM but never wait, click or type.
+ */
+public class CdpTab implements AutoCloseable {
+    private static final Pattern LOCATOR = Pattern.compile("By\\.(\\w+): (.*)", Pattern.DOTALL);
+    private static final Json JSON = new Json();
+    // By türüne göre eşleşen elementleri döndüren sayfa içi yardımcı
+    private static final String FIND = "(function(kind, value) {"
+            + "switch (kind) {"
+            + "case 'id': return document.querySelectorAll('[id=\"' + CSS.escape(value) + '\"]');"
+            + "case 'className': return document.getElementsByClassName(value);"
+            + "case 'tagName': return document.getElementsByTagName(value);"
+            + "case 'cssSelector': return document.querySelectorAll(value);"
+            + "case 'xpath': var found = document.evaluate(value, document, null, 7, null), nodes = [];"
+            + "  for (var i = 0; i < found.snapshotLength; i++) nodes.push(found.snapshotItem(i)); return nodes;"
+            + "default: throw new Error('Unsupported locator ' + kind); } })";
+
+    private final CdpConnection connection;
+    private final String targetId;
+    private final String sessionId;
+    private final long navigationTimeoutMillis;
+
+    CdpTab(CdpConnection connection, String targetId, String sessionId, long navigationTimeoutMillis) {
+        this.connection = connection;
+        this.targetId = targetId;
+        this.sessionId = sessionId;
+        this.navigationTimeoutMillis = navigationTimeoutMillis;
+        connection.send(sessionId, "Page.enable", Map.of());
+    }
+
+    /**
+     * Navigate and wait for the load event
+     */
+    public void navigate(String url) {
+        CompletableFuture<Map<String, Object>> loaded = connection.nextEvent(sessionId, "Page.loadEventFired");
+        Map<String, Object> result = connection.send(sessionId, "Page.navigate", Map.of("url", url));
+        if (result.get("errorText") != null) {
+            throw new IllegalStateException("Navigation to " + url + " failed: " + result.get("errorText"));
+        }
+        try {
+            loaded.get(navigationTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Page did not load within " + navigationTimeoutMillis + " ms: " + url);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading " + url, e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Page load failed: " + url, e.getCause());
+        }
+    }
+
+    /**
+     * Evaluate a JavaScript expression in the page and return its JSON value
+     */
+    @SuppressWarnings("unchecked")
+    public Object evaluate(String expression) {
+        Map<String, Object> result = connection.send(sessionId, "Runtime.evaluate",
+                Map.of("expression", expression, "returnByValue", true, "awaitPromise", true));
+        if (result.get("exceptionDetails") != null) {
+            Map<String, Object> details = (Map<String, Object>) result.get("exceptionDetails");
+            Object exception = details.get("exception");
+            throw new IllegalStateException("Script failed: " + (exception instanceof Map<?, ?> map
+                    ? map.get("description") : details.get("text")));
+        }
+        return ((Map<String, Object>) result.get("result")).get("value");
+    }
+
+    public String title() {
+        return (String) evaluate("document.title");
+    }
+
+    public String url() {
+        return (String) evaluate("location.href");
+    }
+
+    public int count(By locator) {
+        return ((Number) evaluate(find(locator) + ".length")).intValue();
+    }
+
+    public boolean exists(By locator) {
+        return count(locator) > 0;
+    }
+
+    /**
+     * Rendered text of the first matching element, null when there is none
+     */
+    public String text(By locator) {
+        return (String) evaluate("(function(nodes) { return nodes.length ? nodes[0].innerText : null; })("
+                + find(locator) + ")");
+    }
+
+    /**
+     * Rendered text of every matching element
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> texts(By locator) {
+        return (List<String>) evaluate("Array.from(" + find(locator) + ", function(node) { return node.innerText; })");
+    }
+
+    /**
+     * Whether the first matching element has a layout box and is not hidden by CSS
+     */
+    public boolean isVisible(By locator) {
+        return Boolean.TRUE.equals(evaluate("(function(nodes) { if (!nodes.length) return false;"
+                + " var style = getComputedStyle(nodes[0]), rect = nodes[0].getBoundingClientRect();"
+                + " return style.visibility !== 'hidden' && style.display !== 'none' && rect.width > 0 && rect.height > 0;"
+                + " })(" + find(locator) + ")"));
+    }
+
+    /**
+     * PNG screenshot of the tab's viewport
+     */
+    public byte[] screenshot() {
+        Map<String, Object> result = connection.send(sessionId, "Page.captureScreenshot", Map.of("format", "png"));
+        return Base64.getDecoder().decode((String) result.get("data"));
+    }
+
+    @Override
+    public void close() {
+        connection.send(null, "Target.closeTarget", Map.of("targetId", targetId));
+    }
+
+    private static String find(By locator) {
+        Matcher parts = LOCATOR.matcher(locator.toString());
+        if (!parts.matches()) {
+            throw new IllegalArgumentException("Unsupported locator for CDP tabs: " + locator);
+        }
+        return FIND + "(" + JSON.toJson(parts.group(1)) + ", " + JSON.toJson(parts.group(2).trim()) + ")";
+    }
+}
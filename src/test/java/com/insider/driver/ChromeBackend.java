@@ -0,0 +1,22 @@
+package com.insider.driver;
+
+/**
+ * Which Chrome build runs headless local sessions
+ * chrome         - full Chrome binary with --headless=new (default)
+ * headless-shell - the standalone chrome-headless-shell build: no browser UI code, faster cold start and less
+ *                  memory per session; see HeadlessShellCompatibility for what is known not to work under it
+ *
+ * Selected with the chrome.backend system property; headed and Grid sessions always use the full browser.
+ */
+public enum ChromeBackend {
+    CHROME,
+    HEADLESS_SHELL;
+
+    public static ChromeBackend of(String name) {
+        return name == null || name.isEmpty() ? CHROME : valueOf(name.trim().toUpperCase().replace('-', '_'));
+    }
+
+    public static ChromeBackend fromSystemProperty() {
+        return of(System.getProperty("chrome.backend"));
+    }
+}
@@ -0,0 +1,268 @@
+package com.insider.driver;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Resolves local driver binaries (chromedriver, geckodriver) once per JVM and once per machine
+ * The resolved driver/browser pair is pinned in a lock-protected file inside the cache directory,
+ * so parallel JVMs on the same machine share a single resolution. A pin is only trusted while the installed
+ * browser (found by WebDriverManager's browser detection) still has the pinned major version.
+ *
+ * System properties:
+ * driver.cache.dir     - driver cache directory (default: ~/.cache/insider-automation/drivers)
+ * driver.offline       - true never contacts the network, only the pin file or the cache directory is used
+ * driver.pin.ttlHours  - hours before a pinned resolution is checked again online (default: 24)
+ */
+public class DriverBinaryResolver {
+    private static final Logger logger = LoggerFactory.getLogger(DriverBinaryResolver.class);
+    private static final Map<String, ResolvedDriver> RESOLVED = new ConcurrentHashMap<>();
+
+    private static final Path CACHE_DIR = Paths.get(System.getProperty("driver.cache.dir",
+            Paths.get(System.getProperty("user.home"), ".cache", "insider-automation", "drivers").toString()));
+    private static final boolean OFFLINE = Boolean.getBoolean("driver.offline");
+    private static final Duration PIN_TTL = Duration.ofHours(Integer.getInteger("driver.pin.ttlHours", 24));
+    // "Google Chrome 131.0.6778.85"
+    private static final Pattern BROWSER_VERSION = Pattern.compile("(\\d+)\\.\\d+");
+
+    /**
+     * Where a resolution came from, cheapest first
+     */
+    public enum Source { PIN_FILE, OFFLINE_CACHE, WEBDRIVERMANAGER }
+
+    /**
+     * A resolved driver binary and the browser version it is pinned to
+     */
+    public record ResolvedDriver(String browser, Path driverPath, String driverVersion, String browserVersion,
+                                 Source source, long resolutionMillis) {
+        @Override
+        public String toString() {
+            return browser + " -> " + driverPath + " (driver " + driverVersion + ", browser " + browserVersion
+                    + ", " + source + ", " + resolutionMillis + " ms)";
+        }
+    }
+
+    /**
+     * Resolve the driver binary for a browser and export it as the Selenium driver system property
+     * Only the first call per JVM does any work, later calls return the memoized result
+     */
+    public static ResolvedDriver resolve(String browser) {
+        ResolvedDriver resolved = RESOLVED.computeIfAbsent(browser, DriverBinaryResolver::resolveForMachine);
+        System.setProperty(driverProperty(browser), resolved.driverPath().toString());
+        return resolved;
+    }
+
+    /**
+     * All resolutions done by this JVM, with the time each one took
+     */
+    public static List<ResolvedDriver> getResolutions() {
+        return new ArrayList<>(RESOLVED.values());
+    }
+
+    /**
+     * Shared cache directory; other browser binaries (e.g. chrome-headless-shell) are cached next to the drivers
+     */
+    static Path cacheDir() {
+        return CACHE_DIR;
+    }
+
+    static boolean isOffline() {
+        return OFFLINE;
+    }
+
+    private static ResolvedDriver resolveForMachine(String browser) {
+        long start = System.nanoTime();
+        try {
+            Files.createDirectories(CACHE_DIR);
+            Path lockFile = CACHE_DIR.resolve(browser + ".lock");
+            try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE)) {
+                FileLock lock = channel.lock();
+                try {
+                    ResolvedDriver resolved = readPin(browser, start)
+                            .or(() -> OFFLINE ? scanCache(browser, start) : Optional.empty())
+                            .orElseGet(() -> resolveOnline(browser, start));
+                    if (resolved.source() != Source.PIN_FILE) {
+                        writePin(resolved);
+                    }
+                    logger.info("Driver resolved: " + resolved);
+                    return resolved;
+                } finally {
+                    lock.release();
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Driver cache could not be used: " + CACHE_DIR, e);
+        }
+    }
+
+    private static Optional<ResolvedDriver> readPin(String browser, long start) throws IOException {
+        Path pinFile = pinFile(browser);
+        if (!Files.exists(pinFile)) {
+            return Optional.empty();
+        }
+        Properties pin = new Properties();
+        try (InputStream in = Files.newInputStream(pinFile)) {
+            pin.load(in);
+        }
+        Path driverPath = Paths.get(pin.getProperty("driver.path", ""));
+        long resolvedAt = Long.parseLong(pin.getProperty("resolved.at", "0"));
+        boolean expired = System.currentTimeMillis() - resolvedAt > PIN_TTL.toMillis();
+        if (!Files.isExecutable(driverPath) || (expired && !OFFLINE)) {
+            logger.debug("Ignoring pin file for " + browser + " (missing binary or expired)");
+            return Optional.empty();
+        }
+        String pinnedBrowser = pin.getProperty("browser.version", "any");
+        Optional<String> installed = pinnedBrowser.equals("any") ? Optional.empty() : installedBrowserMajor(browser);
+        if (installed.isPresent() && !installed.get().equals(pinnedBrowser)) {
+            logger.info("Ignoring pin file for " + browser + ": pinned to browser " + pinnedBrowser
+                    + ", installed browser is " + installed.get());
+            return Optional.empty();
+        }
+        return Optional.of(new ResolvedDriver(browser, driverPath, pin.getProperty("driver.version"),
+                pinnedBrowser, Source.PIN_FILE, elapsedMillis(start)));
+    }
+
+    /**
+     * Major version of the installed browser: WebDriverManager finds the binary, its --version output gives the
+     * version. Empty when either is not available (e.g. Windows, where the binary prints no version)
+     */
+    private static Optional<String> installedBrowserMajor(String browser) {
+        try {
+            // Sadece Chrome pin'i bir browser sürümüne bağlıdır (browserVersionFor)
+            Optional<Path> binary = browser.equals("chrome") ? WebDriverManager.chromedriver().getBrowserPath()
+                    : Optional.empty();
+            if (binary.isEmpty()) {
+                return Optional.empty();
+            }
+            Process process = new ProcessBuilder(binary.get().toString(), "--version").redirectErrorStream(true)
+                    .start();
+            String output;
+            try (InputStream in = process.getInputStream()) {
+                output = new String(in.readAllBytes());
+            }
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                return Optional.empty();
+            }
+            Matcher version = BROWSER_VERSION.matcher(output);
+            return version.find() ? Optional.of(version.group(1)) : Optional.empty();
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Installed " + browser + " version could not be detected: " + e.getMessage());
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+    }
+
+    private static void writePin(ResolvedDriver resolved) throws IOException {
+        Properties pin = new Properties();
+        pin.setProperty("driver.path", resolved.driverPath().toString());
+        pin.setProperty("driver.version", resolved.driverVersion());
+        pin.setProperty("browser.version", resolved.browserVersion());
+        pin.setProperty("resolved.at", String.valueOf(System.currentTimeMillis()));
+        Path tmp = pinFile(resolved.browser()).resolveSibling(resolved.browser() + ".properties.tmp");
+        try (OutputStream out = Files.newOutputStream(tmp)) {
+            pin.store(out, "Pinned driver/browser pair");
+        }
+        Files.move(tmp, pinFile(resolved.browser()), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Offline mode: pick the newest driver binary already present in the cache directory
+     * Expects the WebDriverManager layout (e.g. chromedriver/linux64/131.0.6778.85/chromedriver)
+     */
+    private static Optional<ResolvedDriver> scanCache(String browser, long start) {
+        String binaryName = binaryName(browser);
+        try (Stream<Path> files = Files.walk(CACHE_DIR, 6)) {
+            return files
+                    .filter(path -> path.getFileName().toString().equals(binaryName)
+                            || path.getFileName().toString().equals(binaryName + ".exe"))
+                    .filter(Files::isExecutable)
+                    .max(Comparator.comparing(path -> versionKey(path.getParent().getFileName().toString())))
+                    .map(path -> {
+                        String version = path.getParent().getFileName().toString();
+                        return new ResolvedDriver(browser, path, version, browserVersionFor(browser, version),
+                                Source.OFFLINE_CACHE, elapsedMillis(start));
+                    });
+        } catch (IOException e) {
+            logger.warn("Driver cache could not be scanned: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static ResolvedDriver resolveOnline(String browser, long start) {
+        if (OFFLINE) {
+            throw new IllegalStateException("driver.offline=true but no " + binaryName(browser)
+                    + " found in " + CACHE_DIR + ". Pre-populate the cache or disable offline mode.");
+        }
+        WebDriverManager manager = switch (browser) {
+            case "chrome" -> WebDriverManager.chromedriver();
+            case "firefox" -> WebDriverManager.firefoxdriver();
+            default -> throw new IllegalArgumentException("Browser not supported: " + browser);
+        };
+        manager.cachePath(CACHE_DIR.toString()).setup();
+        String driverVersion = manager.getDownloadedDriverVersion();
+        return new ResolvedDriver(browser, Paths.get(manager.getDownloadedDriverPath()), driverVersion,
+                browserVersionFor(browser, driverVersion), Source.WEBDRIVERMANAGER, elapsedMillis(start));
+    }
+
+    /**
+     * chromedriver major sürümü Chrome major sürümü ile aynıdır; geckodriver için bağımsızdır
+     */
+    private static String browserVersionFor(String browser, String driverVersion) {
+        if (browser.equals("chrome") && driverVersion != null) {
+            return driverVersion.split("\\.")[0];
+        }
+        return "any";
+    }
+
+    static String versionKey(String version) {
+        StringBuilder key = new StringBuilder();
+        for (String part : version.replaceAll("[^0-9.]", "").split("\\.")) {
+            key.append(String.format("%08d", part.isEmpty() ? 0 : Long.parseLong(part)));
+        }
+        return key.toString();
+    }
+
+    private static Path pinFile(String browser) {
+        return CACHE_DIR.resolve(browser + ".properties");
+    }
+
+    private static String binaryName(String browser) {
+        return browser.equals("firefox") ? "geckodriver" : "chromedriver";
+    }
+
+    private static String driverProperty(String browser) {
+        return browser.equals("firefox") ? "webdriver.gecko.driver" : "webdriver.chrome.driver";
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
@@ -0,0 +1,273 @@
+package com.insider.driver;
+
+import com.insider.utils.OverlayAgent;
+import com.insider.utils.wait.NetworkMonitor;
+import com.insider.utils.wait.WaitPolicy;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.MalformedURLException;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.file.Path;
+
+/**
+ * Creates WebDriver sessions for a BrowserSpec
+ * Covers both local execution and Selenium Grid (RemoteWebDriver) execution
+ */
+public class DriverFactory {
+    private static final Logger logger = LoggerFactory.getLogger(DriverFactory.class);
+
+    /**
+     * Create a new, fully configured WebDriver session
+     */
+    public static WebDriver create(BrowserSpec spec) {
+        // Fork'lar arası paylaşılan browser kapasitesinden bir lease al (broker etkinse)
+        Socket lease = BrokerClient.getInstance().acquire(spec);
+        boolean admitted;
+        try {
+            // Makinede yeni bir browser için CPU ve bellek yoksa bir oturum kapanana kadar bekle
+            admitted = LaunchGovernor.getInstance().admit(spec);
+        } catch (RuntimeException e) {
+            // Kapasite beklerken kesilen launch lease'ini de geri verir; yoksa broker slotu JVM boyunca tutulur
+            BrokerClient.getInstance().bind(null, lease);
+            throw e;
+        }
+        long startNanos = System.nanoTime();
+        Path profileDir = null;
+        WebDriver webDriver = null;
+        try {
+            // Lokal oturumlar etkinse önceden ısıtılmış template profilin bir kopyasıyla başlar
+            profileDir = ProfileTemplate.getInstance().cloneFor(spec);
+            webDriver = start(spec, profileDir);
+            configure(webDriver, spec);
+        } catch (RuntimeException e) {
+            // Ayrılan slot, lease ve profil kopyası hangi adımda hata olursa olsun geri verilir
+            if (admitted) {
+                LaunchGovernor.getInstance().launched(null);
+            }
+            BrokerClient.getInstance().bind(null, lease);
+            if (webDriver != null) {
+                quitQuietly(webDriver);
+            }
+            ProfileTemplate.getInstance().discard(profileDir);
+            throw e;
+        }
+        if (admitted) {
+            LaunchGovernor.getInstance().launched(webDriver);
+        }
+        BrokerClient.getInstance().bind(webDriver, lease);
+        ProfileTemplate.getInstance().track(webDriver, profileDir);
+        ProcessReaper.getInstance().track(webDriver);
+
+        EngineTimings.recordStartup(spec, System.nanoTime() - startNanos);
+
+        logger.info("Created new driver session: " + spec);
+        return webDriver;
+    }
+
+    /**
+     * Timeouts and window size every test window starts with
+     */
+    static void configure(WebDriver webDriver, BrowserSpec spec) {
+        // Tüm beklemeler WaitPolicy'de; implicit wait sıfır kalır ki explicit wait'lerle çarpılmasın
+        webDriver.manage().timeouts().implicitlyWait(WaitPolicy.implicitWait());
+
+        // Headless modda viewport boyutunu açıkça ayarla
+        if (spec.headless()) {
+            // Headless modda window.maximize() güvenilir çalışmayabilir
+            // Bu yüzden viewport boyutunu açıkça ayarlıyoruz
+            webDriver.manage().window().setSize(new Dimension(1920, 1080));
+        } else {
+            webDriver.manage().window().maximize();
+        }
+    }
+
+    /**
+     * Quit a session created by this factory and remove its profile clone
+     */
+    public static void quit(WebDriver driver) {
+        LaunchGovernor.getInstance().beforeQuit(driver);
+        // Sayaçlar sayfada tutulur; oturum kapanmadan önce toplanmalı
+        OverlayAgent.forget(driver);
+        try {
+            driver.quit();
+        } finally {
+            LaunchGovernor.getInstance().quit(driver);
+            ProcessReaper.getInstance().untrack(driver);
+            BrokerClient.getInstance().release(driver);
+            ProfileTemplate.getInstance().release(driver);
+            NetworkMonitor.forget(driver);
+        }
+    }
+
+    /**
+     * Quit a session that failed before it was handed out; the original error is the one worth reporting
+     */
+    private static void quitQuietly(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (RuntimeException e) {
+            logger.debug("Could not quit a session that failed to start: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Start the browser without any session configuration
+     * @param profileDir user data / profile directory to start with, null for a fresh profile
+     */
+    static WebDriver start(BrowserSpec spec, Path profileDir) {
+        return start(spec, profileDir, false);
+    }
+
+    /**
+     * Start the browser without any session configuration
+     * @param profileDir user data / profile directory to start with, null for a fresh profile
+     * @param bidi true to open a WebDriver BiDi connection next to the classic session
+     */
+    static WebDriver start(BrowserSpec spec, Path profileDir, boolean bidi) {
+        if (spec.isRemote()) {
+            // Remote Execution
+            WebDriver remote;
+            if (spec.browser().equals("chrome")) {
+                remote = new RemoteWebDriver(toUrl(spec.gridUrl()), withBiDi(createChromeOptions(spec, profileDir), bidi));
+            } else if (spec.browser().equals("firefox")) {
+                remote = new RemoteWebDriver(toUrl(spec.gridUrl()), withBiDi(createFirefoxOptions(spec, profileDir), bidi));
+            } else {
+                throw new IllegalArgumentException("Browser not supported for grid: " + spec.browser());
+            }
+            // RemoteWebDriver BiDi arayüzünü ancak augment edildikten sonra sunar
+            return bidi ? new Augmenter().augment(remote) : remote;
+        }
+
+        // Local Execution
+        if (spec.browser().equals(HtmlUnitSupport.BROWSER)) {
+            // Rendering yok; profil, BiDi ve driver binary gerekmez
+            return HtmlUnitSupport.create();
+        } else if (spec.browser().equals("chrome")) {
+            ChromeOptions options = withBiDi(createChromeOptions(spec, profileDir), bidi);
+            if (DriverServiceManager.isShared()) {
+                // Tek chromedriver process'i üzerinde yeni oturum aç
+                return DriverServiceManager.newChromeSession(options);
+            }
+            DriverBinaryResolver.resolve("chrome");
+            return new ChromeDriver(options);
+        } else if (spec.browser().equals("firefox")) {
+            DriverBinaryResolver.resolve("firefox");
+            return new FirefoxDriver(withBiDi(createFirefoxOptions(spec, profileDir), bidi));
+        }
+        throw new IllegalArgumentException("Browser not supported: " + spec.browser());
+    }
+
+    /**
+     * Spec için ChromeOptions oluşturur
+     */
+    public static ChromeOptions createChromeOptions(BrowserSpec spec) {
+        return createChromeOptions(spec, null);
+    }
+
+    /**
+     * Spec için ChromeOptions oluşturur
+     * @param userDataDir null değilse browser bu profil dizini ile başlar (ör. ProfileTemplate kopyası)
+     */
+    public static ChromeOptions createChromeOptions(BrowserSpec spec, Path userDataDir) {
+        ChromeOptions options;
+        if (spec.backend() == ChromeBackend.HEADLESS_SHELL) {
+            // chrome-headless-shell her zaman headless'tır; --headless=new sadece tam Chrome binary'si içindir
+            options = createChromeOptions(false, spec.profile());
+            options.setBinary(HeadlessShellResolver.resolve().toFile());
+            options.addArguments("--headless");
+        } else {
+            options = createChromeOptions(spec.headless(), spec.profile());
+        }
+        if (userDataDir != null) {
+            options.addArguments("--user-data-dir=" + userDataDir.toAbsolutePath());
+        }
+        return options;
+    }
+
+    /**
+     * Spec için FirefoxOptions oluşturur
+     */
+    public static FirefoxOptions createFirefoxOptions(BrowserSpec spec) {
+        return createFirefoxOptions(spec, null);
+    }
+
+    /**
+     * Spec için FirefoxOptions oluşturur
+     * @param profileDir null değilse Firefox bu profil dizini ile başlar (ör. ProfileTemplate kopyası)
+     */
+    public static FirefoxOptions createFirefoxOptions(BrowserSpec spec, Path profileDir) {
+        FirefoxOptions options = createFirefoxOptions(spec.headless(), spec.profile());
+        if (profileDir != null) {
+            // geckodriver profili zip'leyip kopyalamak yerine dizini doğrudan kullanır
+            options.addArguments("-profile", profileDir.toAbsolutePath().toString());
+        }
+        return options;
+    }
+
+    /**
+     * ChromeOptions oluşturur; stabilite flag'leri her profilde ortaktır,
+     * performans ve log flag'leri BrowserProfile tarafından eklenir
+     * @param headless true ise headless mode aktif olur
+     * @param profile fast, faithful veya debug
+     */
+    public static ChromeOptions createChromeOptions(boolean headless, BrowserProfile profile) {
+        ChromeOptions options = new ChromeOptions();
+
+        // Headless modu parametreye göre ayarla
+        if (headless) {
+            options.addArguments("--headless=new");
+        }
+        options.addArguments("--remote-allow-origins=*");
+        options.addArguments("--start-maximized");
+        options.addArguments("--disable-gpu");
+        options.addArguments("--no-sandbox");
+        options.addArguments("--disable-dev-shm-usage");
+        options.setExperimentalOption("useAutomationExtension", false);
+
+        profile.applyTo(options);
+        return options;
+    }
+
+    /**
+     * FirefoxOptions oluşturur
+     * @param headless true ise headless mode aktif olur
+     * @param profile fast, faithful veya debug
+     */
+    public static FirefoxOptions createFirefoxOptions(boolean headless, BrowserProfile profile) {
+        FirefoxOptions options = new FirefoxOptions();
+
+        // Headless modu parametreye göre ayarla
+        if (headless) {
+            options.addArguments("--headless");
+        }
+
+        profile.applyTo(options);
+        return options;
+    }
+
+    private static <T extends MutableCapabilities> T withBiDi(T options, boolean bidi) {
+        if (bidi) {
+            options.setCapability("webSocketUrl", true);
+        }
+        return options;
+    }
+
+    private static java.net.URL toUrl(String gridUrl) {
+        try {
+            return URI.create(gridUrl).toURL();
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException("Invalid selenium.grid.url: " + gridUrl, e);
+        }
+    }
+}
@@ -0,0 +1,341 @@
+package com.insider.driver;
+
+import com.insider.utils.OverlayAgent;
+import com.insider.utils.wait.NetworkMonitor;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of warm WebDriver sessions shared by all test threads
+ * Sessions are reset between leases (cookies, storage, extra windows, about:blank)
+ * and recycled after a configurable number of leases or a failed health check
+ *
+ * Only sessions with CDP (local Chrome, Grid Chrome with BiDi augmentation) are reused: WebDriver can only clear
+ * cookies and storage of the origin that is currently loaded, so Firefox, Safari and plain RemoteWebDriver
+ * sessions are recycled on release instead of leaking other origins' state into the next test.
+ * With CDP, cookies of every domain are cleared, while storage is cleared for the open windows' origins and
+ * every origin that still had cookies; storage of an origin that was left and never set a cookie survives.
+ *
+ * System properties:
+ * driver.pool.enabled        - false restores quit-per-method behaviour (default: true)
+ * driver.pool.maxLeases      - leases before a session is quit and replaced (default: 20)
+ * driver.pool.maxIdleSeconds - idle sessions older than this are quit instead of leased (default: 300)
+ */
+public class DriverPool {
+    private static final Logger logger = LoggerFactory.getLogger(DriverPool.class);
+    private static final DriverPool INSTANCE = new DriverPool();
+    private static final long WARMUP_WAIT_SECONDS = 60;
+
+    private final boolean enabled = Boolean.parseBoolean(System.getProperty("driver.pool.enabled", "true"));
+    private final int maxLeases = Integer.getInteger("driver.pool.maxLeases", 20);
+    private final long maxIdleMillis = TimeUnit.SECONDS.toMillis(Integer.getInteger("driver.pool.maxIdleSeconds", 300));
+    private final Map<BrowserSpec, BlockingDeque<PooledDriver>> idleSessions = new ConcurrentHashMap<>();
+    private final Map<BrowserSpec, AtomicInteger> warmingUp = new ConcurrentHashMap<>();
+    private final Map<BrowserSpec, AtomicInteger> waitingForWarmUp = new ConcurrentHashMap<>();
+    private final Set<PooledDriver> allSessions = ConcurrentHashMap.newKeySet();
+    private final Set<PooledDriver> leasedSessions = ConcurrentHashMap.newKeySet();
+    private final DriverPoolStats stats = new DriverPoolStats();
+    private volatile boolean closed;
+
+    private DriverPool() {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "driver-pool-shutdown"));
+    }
+
+    public static DriverPool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Lease a session for the given spec
+     * Returns a warm idle session when a healthy one exists, waits for a session that is being
+     * pre-warmed in the background, and only launches a new browser when neither is available
+     */
+    public PooledDriver lease(BrowserSpec spec) {
+        long start = System.nanoTime();
+        BlockingDeque<PooledDriver> idle = idleFor(spec);
+        PooledDriver pooled;
+        while ((pooled = nextIdle(spec, idle)) != null) {
+            if (isExpired(pooled)) {
+                logger.debug("Idle session exceeded max idle time, quitting: " + spec);
+                discard(pooled);
+            } else if (isHealthy(pooled)) {
+                return handOut(pooled, true, start);
+            } else {
+                stats.recordHealthCheckFailure();
+                discard(pooled);
+            }
+        }
+
+        pooled = new PooledDriver(DriverFactory.create(spec), spec);
+        allSessions.add(pooled);
+        return handOut(pooled, false, start);
+    }
+
+    /**
+     * Return a leased session to the pool
+     * The session is reset before it becomes available again, or quit if it cannot be reused
+     */
+    public void release(PooledDriver pooled) {
+        if (pooled == null) {
+            return;
+        }
+        leasedSessions.remove(pooled);
+        if (!enabled || closed) {
+            discard(pooled);
+            return;
+        }
+        if (!(pooled.getDriver() instanceof HasCdp)) {
+            logger.debug("Session cannot be fully reset without CDP, recycling: " + pooled.getSpec());
+            stats.recordRecycle();
+            discard(pooled);
+            return;
+        }
+        if (pooled.getLeaseCount() >= maxLeases) {
+            logger.debug("Recycling session after " + pooled.getLeaseCount() + " leases: " + pooled.getSpec());
+            stats.recordRecycle();
+            discard(pooled);
+            return;
+        }
+        if (!reset(pooled)) {
+            stats.recordHealthCheckFailure();
+            discard(pooled);
+            return;
+        }
+        pooled.markIdle();
+        // LIFO: en son kullanılan (en sıcak) oturum ilk tekrar kiralanır
+        idleFor(pooled.getSpec()).offerFirst(pooled);
+    }
+
+    /**
+     * Launch a session on the given executor and add it to the idle sessions
+     * Concurrent leases for the same spec wait for it instead of launching their own browser
+     */
+    public void warmUp(BrowserSpec spec, Executor executor) {
+        // Sayaç submit anında artar ki bir sonraki hesaplama bu oturumu tekrar istemesin
+        AtomicInteger counter = warmingUp.computeIfAbsent(spec, key -> new AtomicInteger());
+        counter.incrementAndGet();
+        executor.execute(() -> {
+            try {
+                PooledDriver pooled = new PooledDriver(DriverFactory.create(spec), spec);
+                allSessions.add(pooled);
+                if (closed) {
+                    discard(pooled);
+                    return;
+                }
+                pooled.markIdle();
+                // Sona ekle: daha önce kullanılmış sıcak oturumlar önce kiralanır
+                idleFor(spec).offerLast(pooled);
+                stats.recordWarmUp();
+            } catch (RuntimeException e) {
+                logger.warn("Background warm-up failed for " + spec + ": " + e.getMessage());
+            } finally {
+                counter.decrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Sessions that are idle, being warmed up, or leased and expected to come back for this spec
+     */
+    public int availableOrPending(BrowserSpec spec) {
+        long returning = enabled
+                ? leasedSessions.stream()
+                        .filter(pooled -> pooled.getSpec().equals(spec) && pooled.getLeaseCount() < maxLeases)
+                        .count()
+                : 0;
+        return idleFor(spec).size() + warmingUpCount(spec) + (int) returning;
+    }
+
+    /**
+     * Quit idle sessions that exceeded the max idle time
+     */
+    public void evictExpired() {
+        idleSessions.values().forEach(idle -> idle.removeIf(pooled -> {
+            if (isExpired(pooled)) {
+                discard(pooled);
+                return true;
+            }
+            return false;
+        }));
+    }
+
+    public DriverPoolStats getStats() {
+        return stats;
+    }
+
+    /**
+     * Quit every session owned by the pool, leased ones included, so none outlives the suite or the JVM
+     * Releasing such a session afterwards only drops it from the lease bookkeeping
+     */
+    public void shutdown() {
+        closed = true;
+        idleSessions.values().forEach(idle -> {
+            PooledDriver pooled;
+            while ((pooled = idle.pollFirst()) != null) {
+                discard(pooled);
+            }
+        });
+        for (PooledDriver pooled : new ArrayList<>(allSessions)) {
+            discard(pooled);
+        }
+    }
+
+    private PooledDriver nextIdle(BrowserSpec spec, BlockingDeque<PooledDriver> idle) {
+        PooledDriver pooled = idle.pollFirst();
+        if (pooled != null || warmingUpCount(spec) == 0) {
+            return pooled;
+        }
+        // Arka planda başlatılan bir browser varsa yenisini açmak yerine onu bekle
+        // (her bekleyen için en az bir başlatılan oturum olduğu sürece)
+        AtomicInteger waiters = waitingForWarmUp.computeIfAbsent(spec, key -> new AtomicInteger());
+        waiters.incrementAndGet();
+        try {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(WARMUP_WAIT_SECONDS);
+            while (warmingUpCount(spec) >= waiters.get() && System.nanoTime() < deadline) {
+                pooled = idle.pollFirst(250, TimeUnit.MILLISECONDS);
+                if (pooled != null) {
+                    return pooled;
+                }
+            }
+            return idle.pollFirst();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            waiters.decrementAndGet();
+        }
+    }
+
+    private PooledDriver handOut(PooledDriver pooled, boolean warm, long startNanos) {
+        pooled.markLeased();
+        leasedSessions.add(pooled);
+        long nanos = System.nanoTime() - startNanos;
+        if (warm) {
+            stats.recordHit(nanos);
+        } else {
+            stats.recordMiss(nanos);
+        }
+        logger.info("Time to driver: " + nanos / 1_000_000 + " ms (" + (warm ? "warm" : "cold") + ", "
+                + pooled.getSpec() + ", lease #" + pooled.getLeaseCount() + ")");
+        return pooled;
+    }
+
+    private int warmingUpCount(BrowserSpec spec) {
+        AtomicInteger counter = warmingUp.get(spec);
+        return counter == null ? 0 : counter.get();
+    }
+
+    private BlockingDeque<PooledDriver> idleFor(BrowserSpec spec) {
+        return idleSessions.computeIfAbsent(spec, key -> new LinkedBlockingDeque<>());
+    }
+
+    private boolean isExpired(PooledDriver pooled) {
+        return System.currentTimeMillis() - pooled.getIdleSinceMillis() > maxIdleMillis;
+    }
+
+    private boolean isHealthy(PooledDriver pooled) {
+        try {
+            pooled.getDriver().getWindowHandle();
+            return true;
+        } catch (WebDriverException e) {
+            logger.warn("Pooled session failed health check: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Bring the session back to a clean state: single window, no cookies, no storage, about:blank
+     * Called only for CDP sessions, see the class comment for what survives
+     */
+    private boolean reset(PooledDriver pooled) {
+        long start = System.nanoTime();
+        WebDriver driver = pooled.getDriver();
+        HasCdp cdp = (HasCdp) driver;
+        // Önceki testin ağ aboneliği ve overlay agent'ı sonraki kiracıya taşınmasın
+        NetworkMonitor.forget(driver);
+        OverlayAgent.forget(driver);
+        try {
+            Set<String> origins = new HashSet<>();
+            List<String> handles = new ArrayList<>(driver.getWindowHandles());
+            for (String handle : handles) {
+                driver.switchTo().window(handle);
+                origins.add(clearStorage(driver));
+            }
+            for (String handle : handles.subList(1, handles.size())) {
+                driver.switchTo().window(handle);
+                driver.close();
+            }
+            driver.switchTo().window(handles.get(0));
+
+            // Açık olmayan origin'lerin storage'ı JS ile silinemez; çerezi kalan domainler CDP ile temizlenir
+            origins.addAll(cookieOrigins(cdp));
+            for (String origin : origins) {
+                if (origin != null && origin.startsWith("http")) {
+                    cdp.executeCdpCommand("Storage.clearDataForOrigin", Map.of("origin", origin,
+                            "storageTypes", "local_storage,indexeddb,cache_storage,service_workers"));
+                }
+            }
+            // Tüm domainlerin çerezlerini tek komutla temizle
+            cdp.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+            driver.get("about:blank");
+
+            stats.recordReset(System.nanoTime() - start);
+            return true;
+        } catch (WebDriverException e) {
+            logger.warn("Pooled session could not be reset: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Clear the storage of the window's origin and return the origin
+     */
+    private String clearStorage(WebDriver driver) {
+        return (String) ((JavascriptExecutor) driver).executeScript(
+                "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}"
+                        + " return window.location.origin;");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<String> cookieOrigins(HasCdp cdp) {
+        Set<String> origins = new HashSet<>();
+        Object cookies = cdp.executeCdpCommand("Network.getAllCookies", Map.of()).get("cookies");
+        if (cookies instanceof List<?> list) {
+            for (Object cookie : list) {
+                String domain = String.valueOf(((Map<String, Object>) cookie).get("domain"));
+                String host = domain.startsWith(".") ? domain.substring(1) : domain;
+                origins.add("https://" + host);
+                origins.add("http://" + host);
+            }
+        }
+        return origins;
+    }
+
+    private void discard(PooledDriver pooled) {
+        leasedSessions.remove(pooled);
+        if (!allSessions.remove(pooled)) {
+            return;
+        }
+        try {
+            DriverFactory.quit(pooled.getDriver());
+        } catch (WebDriverException e) {
+            logger.warn("Failed to quit pooled session: " + e.getMessage());
+        }
+    }
+}
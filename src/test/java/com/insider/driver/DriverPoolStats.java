@@ -0,0 +1,112 @@
+package com.insider.driver;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Thread-safe counters for DriverPool activity
+ * Hit = lease served by a warm session, miss = a new browser had to be launched
+ */
+public class DriverPoolStats {
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong warmUps = new AtomicLong();
+    private final AtomicLong warmLeaseNanos = new AtomicLong();
+    private final AtomicLong coldLeaseNanos = new AtomicLong();
+    private final AtomicLong recycled = new AtomicLong();
+    private final AtomicLong healthCheckFailures = new AtomicLong();
+    private final AtomicLong resets = new AtomicLong();
+    private final AtomicLong totalResetNanos = new AtomicLong();
+    private final LongAccumulator maxResetNanos = new LongAccumulator(Math::max, 0);
+
+    void recordHit(long timeToDriverNanos) {
+        hits.incrementAndGet();
+        warmLeaseNanos.addAndGet(timeToDriverNanos);
+    }
+
+    void recordMiss(long timeToDriverNanos) {
+        misses.incrementAndGet();
+        coldLeaseNanos.addAndGet(timeToDriverNanos);
+    }
+
+    void recordWarmUp() {
+        warmUps.incrementAndGet();
+    }
+
+    void recordRecycle() {
+        recycled.incrementAndGet();
+    }
+
+    void recordHealthCheckFailure() {
+        healthCheckFailures.incrementAndGet();
+    }
+
+    void recordReset(long nanos) {
+        resets.incrementAndGet();
+        totalResetNanos.addAndGet(nanos);
+        maxResetNanos.accumulate(nanos);
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getWarmUps() {
+        return warmUps.get();
+    }
+
+    /**
+     * Average time from lease request to usable driver when a warm session was handed over
+     */
+    public double getAverageWarmTimeToDriverMillis() {
+        long count = hits.get();
+        return count == 0 ? 0 : warmLeaseNanos.get() / 1_000_000.0 / count;
+    }
+
+    /**
+     * Average time from lease request to usable driver when a browser had to be launched
+     */
+    public double getAverageColdTimeToDriverMillis() {
+        long count = misses.get();
+        return count == 0 ? 0 : coldLeaseNanos.get() / 1_000_000.0 / count;
+    }
+
+    public long getRecycled() {
+        return recycled.get();
+    }
+
+    public long getHealthCheckFailures() {
+        return healthCheckFailures.get();
+    }
+
+    public long getResets() {
+        return resets.get();
+    }
+
+    public double getAverageResetMillis() {
+        long count = resets.get();
+        return count == 0 ? 0 : totalResetNanos.get() / 1_000_000.0 / count;
+    }
+
+    public double getMaxResetMillis() {
+        return maxResetNanos.get() / 1_000_000.0;
+    }
+
+    /**
+     * Single-line summary for logs and console
+     */
+    public String summary() {
+        long leases = getHits() + getMisses();
+        double hitRate = leases == 0 ? 0 : getHits() * 100.0 / leases;
+        return String.format("Driver pool: leases=%d hits=%d misses=%d (hit rate %.1f%%) prewarmed=%d recycled=%d "
+                        + "healthCheckFailures=%d resets=%d avgReset=%.1f ms maxReset=%.1f ms "
+                        + "timeToDriver warm=%.1f ms cold=%.1f ms",
+                leases, getHits(), getMisses(), hitRate, getWarmUps(), getRecycled(),
+                getHealthCheckFailures(), getResets(), getAverageResetMillis(), getMaxResetMillis(),
+                getAverageWarmTimeToDriverMillis(), getAverageColdTimeToDriverMillis());
+    }
+}
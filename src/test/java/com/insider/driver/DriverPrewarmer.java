@@ -0,0 +1,100 @@
+package com.insider.driver;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Look-ahead provisioner that starts browser sessions in the background
+ * Knows how many test methods are still queued per BrowserSpec and keeps enough sessions
+ * idle or booting in the DriverPool so setUp only has to hand over an already-started driver
+ *
+ * System properties:
+ * driver.prewarm.enabled - false disables background pre-warming (default: true)
+ * driver.prewarm.depth   - max sessions kept ready ahead of the running tests (default: the suite's thread-count,
+ *                          see useSuiteThreadCount)
+ */
+public class DriverPrewarmer {
+    private static final Logger logger = LoggerFactory.getLogger(DriverPrewarmer.class);
+    private static final DriverPrewarmer INSTANCE = new DriverPrewarmer();
+
+    private final boolean enabled = Boolean.parseBoolean(System.getProperty("driver.prewarm.enabled", "true"));
+    private final Integer configuredDepth = Integer.getInteger("driver.prewarm.depth");
+    private volatile int depth = configuredDepth != null ? configuredDepth : 1;
+    private final Map<BrowserSpec, AtomicInteger> queuedMethods = new ConcurrentHashMap<>();
+    private final AtomicInteger threadIndex = new AtomicInteger();
+    // Thread adları ayrı olmalı: driver.service.scope=worker servisi thread adına göre seçer
+    private final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(Math.max(1, depth),
+            runnable -> {
+                Thread thread = new Thread(runnable, "driver-prewarm-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private DriverPrewarmer() {
+        // Süresi dolan boşta oturumları periyodik olarak kapat
+        executor.scheduleWithFixedDelay(() -> DriverPool.getInstance().evictExpired(), 30, 30, TimeUnit.SECONDS);
+    }
+
+    public static DriverPrewarmer getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Derive the default depth from the suite's parallelism: as many sessions ahead as tests run at once
+     * driver.prewarm.depth, when set, wins. Call before register().
+     */
+    public synchronized void useSuiteThreadCount(int threadCount) {
+        if (configuredDepth == null) {
+            depth = Math.max(1, threadCount);
+            executor.setCorePoolSize(depth);
+        }
+    }
+
+    /**
+     * Register the number of queued test methods for a spec and start warming sessions for them
+     */
+    public void register(BrowserSpec spec, int methodCount) {
+        queuedMethods.computeIfAbsent(spec, key -> new AtomicInteger()).addAndGet(methodCount);
+        logger.info("Pre-warm registered " + methodCount + " queued method(s) for " + spec + " (depth " + depth + ")");
+        topUp(spec);
+    }
+
+    /**
+     * Called when a test method starts: it leaves the queue, so the look-ahead window moves forward
+     */
+    public void onMethodStarted(BrowserSpec spec) {
+        AtomicInteger queued = queuedMethods.get(spec);
+        if (queued != null) {
+            queued.updateAndGet(count -> Math.max(0, count - 1));
+            topUp(spec);
+        }
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Start as many background sessions as the queued methods need, limited by the pre-warm depth
+     */
+    private synchronized void topUp(BrowserSpec spec) {
+        if (!enabled) {
+            return;
+        }
+        AtomicInteger queued = queuedMethods.get(spec);
+        int wanted = Math.min(depth, queued == null ? 0 : queued.get());
+        int missing = wanted - DriverPool.getInstance().availableOrPending(spec);
+        for (int i = 0; i < missing; i++) {
+            DriverPool.getInstance().warmUp(spec, executor);
+        }
+        if (missing > 0) {
+            logger.debug("Pre-warming " + missing + " session(s) for " + spec);
+        }
+    }
+}
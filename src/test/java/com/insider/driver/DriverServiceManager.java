@@ -0,0 +1,153 @@
+package com.insider.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.net.PortProber;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Manages long-lived chromedriver processes that many sessions are created against
+ * Instead of one chromedriver per session, one process runs per JVM or per worker thread.
+ * A crashed process is detected before session creation and restarted on a fresh port.
+ *
+ * Firefox keeps one geckodriver per session because geckodriver accepts a single session per process.
+ *
+ * System properties:
+ * driver.service.scope    - jvm (default), worker, or session (one process per session, old behaviour)
+ * driver.service.basePort - first port to use; worker N uses basePort + N (default: 0 = any free port)
+ */
+public class DriverServiceManager {
+    private static final Logger logger = LoggerFactory.getLogger(DriverServiceManager.class);
+
+    private static final String SCOPE = System.getProperty("driver.service.scope", "jvm").toLowerCase();
+    private static final int BASE_PORT = Integer.getInteger("driver.service.basePort", 0);
+    private static final Map<String, SharedChromeDriverService> SERVICES = new ConcurrentHashMap<>();
+    private static final Map<String, Integer> WORKER_INDEXES = new ConcurrentHashMap<>();
+    private static final AtomicInteger STARTS = new AtomicInteger();
+    private static final AtomicInteger RESTARTS = new AtomicInteger();
+    private static final AtomicInteger SESSIONS = new AtomicInteger();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(DriverServiceManager::shutdown, "driver-service-shutdown"));
+    }
+
+    /**
+     * Whether sessions should be created against a shared driver process
+     */
+    public static boolean isShared() {
+        return !SCOPE.equals("session");
+    }
+
+    /**
+     * Create a Chrome session against the shared chromedriver process for the current scope
+     * If the process died, it is restarted and session creation is retried once
+     */
+    public static WebDriver newChromeSession(ChromeOptions options) {
+        String key = scopeKey();
+        SharedChromeDriverService service = serviceFor(key);
+        try {
+            WebDriver driver = new ChromeDriver(service, options);
+            SESSIONS.incrementAndGet();
+            return driver;
+        } catch (WebDriverException e) {
+            if (service.isRunning()) {
+                throw e;
+            }
+            logger.warn("Shared chromedriver (" + key + ") crashed during session creation, restarting: " + e.getMessage());
+            WebDriver driver = new ChromeDriver(restart(key, service), options);
+            SESSIONS.incrementAndGet();
+            return driver;
+        }
+    }
+
+    /**
+     * Stop every shared driver process
+     */
+    public static void shutdown() {
+        SERVICES.values().forEach(SharedChromeDriverService::shutdown);
+        SERVICES.clear();
+    }
+
+    /**
+     * Single-line summary for logs and console
+     */
+    public static String summary() {
+        return "Driver service: scope=" + SCOPE + " processes=" + STARTS.get() + " restarts=" + RESTARTS.get()
+                + " sessions=" + SESSIONS.get();
+    }
+
+    private static synchronized SharedChromeDriverService serviceFor(String key) {
+        SharedChromeDriverService service = SERVICES.get(key);
+        if (service != null && service.isRunning()) {
+            return service;
+        }
+        if (service != null) {
+            logger.warn("Shared chromedriver (" + key + ") is no longer running, restarting");
+            return restart(key, service);
+        }
+        return start(key);
+    }
+
+    private static synchronized SharedChromeDriverService restart(String key, SharedChromeDriverService crashed) {
+        if (SERVICES.get(key) != crashed) {
+            // Başka bir thread zaten yeniden başlattı
+            return SERVICES.get(key);
+        }
+        crashed.shutdown();
+        RESTARTS.incrementAndGet();
+        return start(key);
+    }
+
+    private static SharedChromeDriverService start(String key) {
+        DriverBinaryResolver.ResolvedDriver resolved = DriverBinaryResolver.resolve("chrome");
+        SharedChromeDriverService service = (SharedChromeDriverService) new SharedChromeDriverService.Builder()
+                .usingDriverExecutable(resolved.driverPath().toFile())
+                .usingPort(portFor(key))
+                .withSilent(true)
+                .build();
+        try {
+            service.start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Shared chromedriver could not be started", e);
+        }
+        SERVICES.put(key, service);
+        STARTS.incrementAndGet();
+        logger.info("Started shared chromedriver (" + key + ") at " + service.getUrl());
+        return service;
+    }
+
+    private static String scopeKey() {
+        return SCOPE.equals("worker") ? Thread.currentThread().getName() : "jvm";
+    }
+
+    /**
+     * Sabit port tercih edilir; doluysa (ör. önceki process hâlâ kapanıyorsa) boş bir port seçilir
+     */
+    private static int portFor(String key) {
+        if (BASE_PORT <= 0) {
+            return PortProber.findFreePort();
+        }
+        int index = WORKER_INDEXES.computeIfAbsent(key, k -> WORKER_INDEXES.size());
+        int port = BASE_PORT + index;
+        return isFree(port) ? port : PortProber.findFreePort();
+    }
+
+    private static boolean isFree(int port) {
+        try {
+            new ServerSocket(port, 1, InetAddress.getLoopbackAddress()).close();
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.insider.driver;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Startup and per-test timings per browser engine, so lightweight engines can be compared with headless Chrome
+ */
+public class EngineTimings {
+    private static final Map<String, Timing> STARTUPS = new ConcurrentHashMap<>();
+    private static final Map<String, Timing> TESTS = new ConcurrentHashMap<>();
+
+    private EngineTimings() {
+    }
+
+    static void recordStartup(BrowserSpec spec, long nanos) {
+        STARTUPS.computeIfAbsent(engineOf(spec), key -> new Timing()).add(nanos);
+    }
+
+    public static void recordTest(String engine, long millis) {
+        TESTS.computeIfAbsent(engine, key -> new Timing()).add(millis * 1_000_000);
+    }
+
+    /**
+     * Engine name used in reports: browser plus headless / headless-shell
+     */
+    public static String engineOf(BrowserSpec spec) {
+        if (spec.browser().equals(HtmlUnitSupport.BROWSER)) {
+            return spec.browser();
+        }
+        return spec.browser() + (spec.backend() == ChromeBackend.HEADLESS_SHELL ? "/headless-shell"
+                : spec.headless() ? "/headless" : "");
+    }
+
+    /**
+     * Single-line summary, e.g. "Engines: chrome/headless startups=2 avgStartup=812.4 ms tests=4 avgTest=5230.1 ms | htmlunit ..."
+     */
+    public static String summary() {
+        Set<String> engines = new TreeSet<>(STARTUPS.keySet());
+        engines.addAll(TESTS.keySet());
+        StringBuilder summary = new StringBuilder("Engines:");
+        String separator = " ";
+        for (String engine : engines) {
+            Timing startup = STARTUPS.getOrDefault(engine, new Timing());
+            Timing tests = TESTS.getOrDefault(engine, new Timing());
+            summary.append(separator).append(engine)
+                    .append(String.format(" startups=%d avgStartup=%.1f ms tests=%d avgTest=%.1f ms",
+                            startup.count.sum(), startup.averageMillis(), tests.count.sum(), tests.averageMillis()));
+            separator = " | ";
+        }
+        return summary.toString();
+    }
+
+    private static class Timing {
+        final LongAdder count = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+
+        void add(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+        }
+
+        double averageMillis() {
+            long n = count.sum();
+            return n == 0 ? 0 : totalNanos.sum() / 1_000_000.0 / n;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.insider.driver;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Resolves the chrome-headless-shell binary that matches the resolved chromedriver
+ * Chrome for Testing publishes chromedriver and chrome-headless-shell with the same version, so the shell is
+ * downloaded for exactly the chromedriver version and cached next to the drivers:
+ * driver.cache.dir/chrome-headless-shell/VERSION/chrome-headless-shell-PLATFORM/chrome-headless-shell
+ *
+ * System properties:
+ * chrome.headlessShell.path - use this binary instead of resolving one
+ * driver.offline            - only the cache is used; the newest shell with the same major version is accepted
+ */
+public class HeadlessShellResolver {
+    private static final Logger logger = LoggerFactory.getLogger(HeadlessShellResolver.class);
+
+    private static final String DOWNLOAD_URL =
+            "https://storage.googleapis.com/chrome-for-testing-public/%s/%s/chrome-headless-shell-%s.zip";
+    private static volatile Path resolved;
+
+    private HeadlessShellResolver() {
+    }
+
+    /**
+     * Path of the chrome-headless-shell binary, resolved once per JVM
+     */
+    public static Path resolve() {
+        Path path = resolved;
+        if (path != null) {
+            return path;
+        }
+        synchronized (HeadlessShellResolver.class) {
+            if (resolved == null) {
+                resolved = resolveForMachine();
+            }
+            return resolved;
+        }
+    }
+
+    private static Path resolveForMachine() {
+        String override = System.getProperty("chrome.headlessShell.path");
+        if (override != null && !override.isEmpty()) {
+            return Paths.get(override);
+        }
+        long start = System.nanoTime();
+        String version = DriverBinaryResolver.resolve("chrome").driverVersion();
+        Path root = DriverBinaryResolver.cacheDir().resolve("chrome-headless-shell");
+        try {
+            Files.createDirectories(root);
+            try (FileChannel channel = FileChannel.open(root.resolve("shell.lock"), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE)) {
+                FileLock lock = channel.lock();
+                try {
+                    Path binary = binaryPath(root.resolve(version));
+                    if (!Files.isExecutable(binary)) {
+                        binary = DriverBinaryResolver.isOffline()
+                                ? newestCached(root, version).orElseThrow(() -> new IllegalStateException(
+                                        "driver.offline=true but no chrome-headless-shell " + version + " in "
+                                                + root))
+                                : download(version, root.resolve(version));
+                    }
+                    logger.info("chrome-headless-shell resolved: " + binary + " ("
+                            + (System.nanoTime() - start) / 1_000_000 + " ms)");
+                    return binary;
+                } finally {
+                    lock.release();
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("chrome-headless-shell could not be resolved for " + version, e);
+        }
+    }
+
+    private static Path download(String version, Path target) throws IOException {
+        String platform = platform();
+        URI uri = URI.create(String.format(DOWNLOAD_URL, version, platform, platform));
+        logger.info("Downloading chrome-headless-shell " + version + " from " + uri);
+        HttpClient client = HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        Path tmp = Files.createTempDirectory(target.getParent(), version + ".tmp");
+        try {
+            HttpResponse<InputStream> response = client.send(HttpRequest.newBuilder(uri).GET().build(),
+                    HttpResponse.BodyHandlers.ofInputStream());
+            if (response.statusCode() != 200) {
+                throw new IOException("HTTP " + response.statusCode() + " for " + uri);
+            }
+            unzip(response.body(), tmp);
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Download interrupted", e);
+        } finally {
+            deleteRecursively(tmp);
+        }
+        Path binary = binaryPath(target);
+        binary.toFile().setExecutable(true);
+        return binary;
+    }
+
+    private static void unzip(InputStream body, Path target) throws IOException {
+        try (ZipInputStream zip = new ZipInputStream(body)) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                Path file = target.resolve(entry.getName()).normalize();
+                if (!file.startsWith(target)) {
+                    throw new IOException("Unexpected zip entry: " + entry.getName());
+                }
+                if (entry.isDirectory()) {
+                    Files.createDirectories(file);
+                } else {
+                    Files.createDirectories(file.getParent());
+                    Files.copy(zip, file, StandardCopyOption.REPLACE_EXISTING);
+                    // Zip çalıştırma izinlerini taşımaz; paketteki tüm binary'ler çalıştırılabilir olmalı
+                    file.toFile().setExecutable(true);
+                }
+            }
+        }
+    }
+
+    private static Optional<Path> newestCached(Path root, String version) throws IOException {
+        String major = version.split("\\.")[0] + ".";
+        try (Stream<Path> versions = Files.list(root)) {
+            return versions
+                    .filter(dir -> dir.getFileName().toString().startsWith(major))
+                    .max(Comparator.comparing(dir -> DriverBinaryResolver.versionKey(dir.getFileName().toString())))
+                    .map(HeadlessShellResolver::binaryPath)
+                    .filter(Files::isExecutable);
+        }
+    }
+
+    private static Path binaryPath(Path versionDir) {
+        String platform = platform();
+        String binary = platform.startsWith("win") ? "chrome-headless-shell.exe" : "chrome-headless-shell";
+        return versionDir.resolve("chrome-headless-shell-" + platform).resolve(binary);
+    }
+
+    /**
+     * Chrome for Testing platform names
+     */
+    private static String platform() {
+        String os = System.getProperty("os.name").toLowerCase(Locale.ROOT);
+        boolean arm = System.getProperty("os.arch").contains("aarch64") || System.getProperty("os.arch").contains("arm");
+        if (os.contains("win")) {
+            return System.getProperty("os.arch").contains("64") ? "win64" : "win32";
+        }
+        if (os.contains("mac")) {
+            return arm ? "mac-arm64" : "mac-x64";
+        }
+        return "linux64";
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
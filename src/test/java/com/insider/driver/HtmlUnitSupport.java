@@ -0,0 +1,77 @@
+package com.insider.driver;
+
+import com.insider.tests.HtmlUnitCompatible;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * HtmlUnit engine: a JVM-only browser without rendering, used for checks that only need the DOM
+ * The driver is an optional dependency (mvn test -Phtmlunit), so it is created reflectively and
+ * the rest of the framework compiles and runs without it.
+ *
+ * System properties:
+ * htmlunit.routing - run @HtmlUnitCompatible tests on HtmlUnit whatever the suite's browser is (default: false,
+ *                    the htmlunit Maven profile turns it on)
+ */
+public class HtmlUnitSupport {
+    private static final Logger logger = LoggerFactory.getLogger(HtmlUnitSupport.class);
+
+    public static final String BROWSER = "htmlunit";
+    private static final String DRIVER_CLASS = "org.openqa.selenium.htmlunit.HtmlUnitDriver";
+    private static final boolean ROUTING = Boolean.parseBoolean(System.getProperty("htmlunit.routing", "false"));
+    private static final boolean AVAILABLE = isOnClasspath();
+
+    private HtmlUnitSupport() {
+    }
+
+    /**
+     * Whether the HtmlUnit driver is on the classpath
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    /**
+     * Whether a test method is routed to HtmlUnit instead of the suite's browser
+     */
+    public static boolean routes(Method testMethod) {
+        return ROUTING && AVAILABLE && testMethod != null && testMethod.isAnnotationPresent(HtmlUnitCompatible.class);
+    }
+
+    /**
+     * Whether a driver is HtmlUnit, i.e. has no rendering, screenshots or CDP
+     */
+    public static boolean isHtmlUnit(WebDriver driver) {
+        return driver != null && driver.getClass().getName().startsWith(DRIVER_CLASS);
+    }
+
+    /**
+     * New HtmlUnitDriver with JavaScript enabled
+     */
+    static WebDriver create() {
+        if (!AVAILABLE) {
+            throw new IllegalStateException("HtmlUnit driver is not on the classpath, run with -Phtmlunit");
+        }
+        try {
+            return (WebDriver) Class.forName(DRIVER_CLASS).getConstructor(boolean.class).newInstance(true);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("HtmlUnit driver could not be created", e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("HtmlUnit driver could not be created", e);
+        }
+    }
+
+    private static boolean isOnClasspath() {
+        try {
+            Class.forName(DRIVER_CLASS);
+            return true;
+        } catch (ClassNotFoundException e) {
+            logger.debug("HtmlUnit driver not on the classpath");
+            return false;
+        }
+    }
+}
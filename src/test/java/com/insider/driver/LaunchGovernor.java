@@ -0,0 +1,255 @@
+package com.insider.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission control for browser launches
+ * Every local browser launch in DriverFactory.create asks for a slot first; Grid and HtmlUnit sessions do not use
+ * this machine's browser capacity and are never gated. A slot is granted while the host (or its cgroup) has CPU for
+ * one more browser and enough available memory for the measured footprint of a browser on top of a reserve;
+ * otherwise the launch waits until a session quits. The first browser is always admitted.
+ *
+ * System properties:
+ * driver.governor.enabled         - gate launches (default: false)
+ * driver.governor.reserveMb       - memory left free for the JVM and the OS (default: 1024)
+ * driver.governor.browserMb       - assumed footprint until browsers have been measured (default: 500)
+ * driver.governor.cpusPerBrowser  - CPUs each concurrent browser needs (default: 1.0)
+ * driver.governor.maxWaitSeconds  - launches waiting longer than this proceed with a warning (default: 300)
+ */
+public class LaunchGovernor {
+    private static final Logger logger = LoggerFactory.getLogger(LaunchGovernor.class);
+    private static final LaunchGovernor INSTANCE = new LaunchGovernor();
+
+    private static final long MB = 1024 * 1024;
+    private static final long POLL_MILLIS = 250;
+    private static final Path CGROUP = Paths.get("/sys/fs/cgroup");
+
+    private final boolean enabled = Boolean.parseBoolean(System.getProperty("driver.governor.enabled", "false"));
+    private final long reserveBytes = Integer.getInteger("driver.governor.reserveMb", 1024) * MB;
+    private final long assumedBrowserBytes = Integer.getInteger("driver.governor.browserMb", 500) * MB;
+    private final double cpusPerBrowser = Double.parseDouble(System.getProperty("driver.governor.cpusPerBrowser", "1.0"));
+    private final long maxWaitNanos = TimeUnit.SECONDS.toNanos(Integer.getInteger("driver.governor.maxWaitSeconds", 300));
+
+    private final Map<WebDriver, Long> running = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final long startNanos = System.nanoTime();
+    // Aşağıdaki alanlar this monitor'ü ile korunur
+    private int active;
+    private int launching;
+    private long measuredBytes;
+    private int measurements;
+    private long admitted;
+    private long queued;
+    private long queuedNanos;
+    private long maxQueuedNanos;
+    private long forced;
+    private int peakActive;
+
+    private LaunchGovernor() {
+    }
+
+    public static LaunchGovernor getInstance() {
+        return INSTANCE;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Block until one more browser fits on this machine, then reserve a slot for it
+     * @return false when the spec does not launch a local browser and no slot was reserved
+     */
+    synchronized boolean admit(BrowserSpec spec) {
+        if (!enabled || !spec.isLocalBrowser()) {
+            return false;
+        }
+        long start = System.nanoTime();
+        boolean waited = false;
+        while (!hasCapacity()) {
+            if (System.nanoTime() - start > maxWaitNanos) {
+                forced++;
+                logger.warn("No browser capacity after " + TimeUnit.NANOSECONDS.toSeconds(maxWaitNanos)
+                        + " s, launching anyway (" + capacityLine() + ")");
+                break;
+            }
+            if (!waited) {
+                waited = true;
+                logger.info("Browser launch queued: " + capacityLine());
+            }
+            try {
+                wait(POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for browser capacity", e);
+            }
+        }
+        long waitedNanos = System.nanoTime() - start;
+        admitted++;
+        if (waited) {
+            queued++;
+            queuedNanos += waitedNanos;
+            maxQueuedNanos = Math.max(maxQueuedNanos, waitedNanos);
+        }
+        launching++;
+        return true;
+    }
+
+    /**
+     * The admitted launch finished; a started session holds its slot until it quits
+     * Only called for launches admit reserved a slot for
+     */
+    void launched(WebDriver driver) {
+        if (!enabled) {
+            return;
+        }
+        long bytes = driver != null ? BrowserProcesses.memoryBytes(driver) : -1;
+        synchronized (this) {
+            launching--;
+            if (driver != null) {
+                active++;
+                peakActive = Math.max(peakActive, active);
+                running.put(driver, bytes);
+            }
+            // Havuzdaki oturumlar uzun yaşar; ilk ölçüm quit beklenmeden tahmine katılır
+            if (bytes > 0) {
+                measuredBytes += bytes;
+                measurements++;
+            }
+            notifyAll();
+        }
+    }
+
+    /**
+     * Measure a session again right before it quits; browsers grow while tests run
+     */
+    void beforeQuit(WebDriver driver) {
+        if (!enabled || !running.containsKey(driver)) {
+            return;
+        }
+        long bytes = Math.max(BrowserProcesses.memoryBytes(driver), running.get(driver));
+        if (bytes > 0) {
+            synchronized (this) {
+                measuredBytes += bytes;
+                measurements++;
+            }
+        }
+    }
+
+    void quit(WebDriver driver) {
+        if (!enabled || running.remove(driver) == null) {
+            return;
+        }
+        synchronized (this) {
+            active--;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Dashboard line: launches, time spent queued versus run time, and the capacity the decisions were based on
+     */
+    public synchronized String summary() {
+        double runSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        double queuedSeconds = queuedNanos / 1_000_000_000.0;
+        return String.format("Launch governor: launches=%d queued=%d queuedTime=%.1f s maxQueued=%.1f s run=%.1f s "
+                        + "(queued/run %.0f%%) forced=%d peakBrowsers=%d | %s",
+                admitted, queued, queuedSeconds, maxQueuedNanos / 1_000_000_000.0, runSeconds,
+                runSeconds > 0 ? 100 * queuedSeconds / runSeconds : 0, forced, peakActive, capacityLine());
+    }
+
+    private boolean hasCapacity() {
+        int browsers = active + launching;
+        if (browsers == 0) {
+            return true;
+        }
+        if (browsers + 1 > cpuSlots()) {
+            return false;
+        }
+        long available = availableMemoryBytes();
+        // Ölçüm yoksa (Linux dışı) sadece CPU limiti uygulanır
+        return available < 0 || available - launching * browserBytes() - reserveBytes >= browserBytes();
+    }
+
+    private int cpuSlots() {
+        return Math.max(1, (int) Math.floor(availableCpus() / cpusPerBrowser));
+    }
+
+    private long browserBytes() {
+        return measurements > 0 ? Math.max(measuredBytes / measurements, 64 * MB) : assumedBrowserBytes;
+    }
+
+    private String capacityLine() {
+        long available = availableMemoryBytes();
+        return String.format("browsers=%d+%d cpus=%.1f slots=%d memAvailable=%s perBrowser=%d MB%s",
+                active, launching, availableCpus(), cpuSlots(),
+                available >= 0 ? available / MB + " MB" : "n/a", browserBytes() / MB,
+                measurements > 0 ? " (measured)" : " (assumed)");
+    }
+
+    /**
+     * Available memory: MemAvailable from /proc/meminfo, capped by the cgroup limit minus its usage
+     */
+    static long availableMemoryBytes() {
+        long kilobytes = BrowserProcesses.readKilobytes(Paths.get("/proc/meminfo"), "MemAvailable:");
+        long available = kilobytes >= 0 ? kilobytes * 1024 : -1;
+        long limit = readLong(CGROUP.resolve("memory.max"));
+        long usage = readLong(CGROUP.resolve("memory.current"));
+        if (limit < 0) {
+            // cgroup v1
+            limit = readLong(CGROUP.resolve("memory/memory.limit_in_bytes"));
+            usage = readLong(CGROUP.resolve("memory/memory.usage_in_bytes"));
+        }
+        // Limitsiz cgroup v1 çok büyük bir sayı döndürür
+        if (limit > 0 && usage >= 0 && limit < Long.MAX_VALUE / 2) {
+            long cgroupAvailable = Math.max(0, limit - usage);
+            available = available < 0 ? cgroupAvailable : Math.min(available, cgroupAvailable);
+        }
+        return available;
+    }
+
+    /**
+     * CPUs this process may use: the cgroup quota when set, otherwise the visible processors
+     */
+    static double availableCpus() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        double quota = -1;
+        try {
+            Path cpuMax = CGROUP.resolve("cpu.max");
+            if (Files.isReadable(cpuMax)) {
+                String[] parts = Files.readString(cpuMax).trim().split("\\s+");
+                if (!parts[0].equals("max")) {
+                    quota = Double.parseDouble(parts[0]) / Double.parseDouble(parts[1]);
+                }
+            } else {
+                long quotaMicros = readLong(CGROUP.resolve("cpu/cpu.cfs_quota_us"));
+                long periodMicros = readLong(CGROUP.resolve("cpu/cpu.cfs_period_us"));
+                if (quotaMicros > 0 && periodMicros > 0) {
+                    quota = (double) quotaMicros / periodMicros;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.debug("cgroup CPU quota could not be read: " + e.getMessage());
+        }
+        return quota > 0 ? Math.min(quota, processors) : processors;
+    }
+
+    private static long readLong(Path file) {
+        try {
+            String value = Files.readString(file).trim();
+            return value.equals("max") ? Long.MAX_VALUE : Long.parseLong(value);
+        } catch (IOException | RuntimeException e) {
+            return -1;
+        }
+    }
+}
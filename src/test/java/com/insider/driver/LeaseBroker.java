@@ -0,0 +1,188 @@
+package com.insider.driver;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Machine-wide browser capacity broker shared by every test JVM (surefire forks, parallel suites) on this host
+ * Runs as its own small process on a localhost port. A lease is one TCP connection:
+ *
+ *   client: ACQUIRE <client>      broker: GRANTED <lease>   (once a slot is free)
+ *   client closes the connection  -> the slot is free again
+ *
+ * Because the connection is the lease, a lessee JVM that dies gives its slots back as soon as the OS closes its
+ * sockets. Waiting requests are granted fair-share: the client holding the fewest leases goes first, ties by
+ * arrival. A STATUS line returns the current state. The broker exits after idleSeconds without connections.
+ *
+ * Started by BrokerClient when no broker answers: java LeaseBroker PORT CAPACITY IDLE_SECONDS
+ */
+public class LeaseBroker {
+
+    private final int capacity;
+    private final long idleMillis;
+    private final Map<String, Integer> held = new HashMap<>();
+    private final List<Waiter> waiting = new ArrayList<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private int leased;
+    private int connections;
+    private long granted;
+    private long lastActivity = System.currentTimeMillis();
+
+    LeaseBroker(int capacity, long idleMillis) {
+        this.capacity = capacity;
+        this.idleMillis = idleMillis;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = Integer.parseInt(args[0]);
+        LeaseBroker broker = new LeaseBroker(Integer.parseInt(args[1]), TimeUnit.SECONDS.toMillis(Long.parseLong(args[2])));
+        ServerSocket server;
+        try {
+            server = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        } catch (IOException e) {
+            // Başka bir JVM aynı anda broker'ı başlatmış
+            log("port " + port + " already taken, exiting: " + e.getMessage());
+            return;
+        }
+        log("listening on " + port + " with capacity " + broker.capacity);
+        Thread.ofVirtual().start(() -> broker.exitWhenIdle(server));
+        while (!server.isClosed()) {
+            try {
+                Socket socket = server.accept();
+                Thread.ofVirtual().start(() -> broker.serve(socket));
+            } catch (IOException e) {
+                if (!server.isClosed()) {
+                    log("accept failed: " + e.getMessage());
+                }
+            }
+        }
+        log("idle, exiting after " + broker.granted + " leases");
+    }
+
+    void serve(Socket socket) {
+        synchronized (this) {
+            connections++;
+            lastActivity = System.currentTimeMillis();
+        }
+        String client = null;
+        boolean holding = false;
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8)) {
+            String request = in.readLine();
+            if (request == null) {
+                return;
+            }
+            if (request.equals("STATUS")) {
+                out.println(status());
+                return;
+            }
+            if (!request.startsWith("ACQUIRE ")) {
+                out.println("ERROR unknown request");
+                return;
+            }
+            client = request.substring("ACQUIRE ".length()).trim();
+            long lease = acquire(client);
+            holding = true;
+            out.println("GRANTED " + lease);
+            // Bağlantı kapanana kadar (release ya da lessee'nin ölmesi) slot bu client'ındır
+            while (in.read() >= 0) {
+                // Client bu bağlantıda başka bir şey göndermez
+            }
+        } catch (IOException e) {
+            // Client beklerken ya da lease sırasında öldü
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            synchronized (this) {
+                connections--;
+                lastActivity = System.currentTimeMillis();
+                if (holding) {
+                    release(client);
+                }
+            }
+        }
+    }
+
+    /**
+     * Block until this client is next in fair-share order and a slot is free
+     */
+    synchronized long acquire(String client) throws InterruptedException {
+        Waiter waiter = new Waiter(client, sequence.incrementAndGet());
+        waiting.add(waiter);
+        try {
+            while (leased >= capacity || next() != waiter) {
+                wait();
+            }
+        } finally {
+            waiting.remove(waiter);
+            notifyAll();
+        }
+        leased++;
+        granted++;
+        held.merge(client, 1, Integer::sum);
+        return waiter.arrival;
+    }
+
+    synchronized void release(String client) {
+        leased--;
+        held.computeIfPresent(client, (key, count) -> count > 1 ? count - 1 : null);
+        notifyAll();
+    }
+
+    synchronized String status() {
+        return String.format("STATUS capacity=%d leased=%d waiting=%d clients=%d granted=%d holders=%s",
+                capacity, leased, waiting.size(), connections, granted, held);
+    }
+
+    /**
+     * The waiter granted next: fewest leases held, then earliest arrival
+     */
+    synchronized Waiter next() {
+        return waiting.stream()
+                .min(Comparator.<Waiter>comparingInt(waiter -> held.getOrDefault(waiter.client, 0))
+                        .thenComparingLong(waiter -> waiter.arrival))
+                .orElse(null);
+    }
+
+    private void exitWhenIdle(ServerSocket server) {
+        while (true) {
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                return;
+            }
+            synchronized (this) {
+                if (connections == 0 && System.currentTimeMillis() - lastActivity > idleMillis) {
+                    break;
+                }
+            }
+        }
+        try {
+            server.close();
+        } catch (IOException e) {
+            log("close failed: " + e.getMessage());
+        }
+    }
+
+    private static void log(String message) {
+        System.out.println(Instant.now() + " lease-broker " + message);
+    }
+
+    record Waiter(String client, long arrival) {
+    }
+}
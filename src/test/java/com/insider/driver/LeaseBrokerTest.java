@@ -0,0 +1,60 @@
+package com.insider.driver;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lease broker bookkeeping without sockets: capacity, fair-share order and arrival order on ties
+ */
+public class LeaseBrokerTest {
+
+    @Test(timeOut = 10_000)
+    public void grantsFairShareWithinCapacity() throws Exception {
+        LeaseBroker broker = new LeaseBroker(1, TimeUnit.MINUTES.toMillis(1));
+        broker.acquire("a");
+
+        // a ikinci lease'i b'den önce ister
+        CompletableFuture<Long> secondA = acquireAsync(broker, "a");
+        awaitWaiting(broker, 1);
+        CompletableFuture<Long> firstB = acquireAsync(broker, "b");
+        awaitWaiting(broker, 2);
+
+        // Kapasite dolu: kimse lease almaz; sıradaki, hiç lease tutmayan b'dir
+        Assert.assertFalse(secondA.isDone());
+        Assert.assertFalse(firstB.isDone());
+        Assert.assertEquals(broker.next().client(), "b");
+
+        // a bırakınca ikisi de sıfır lease tutar; eşitlikte önce gelen a kazanır
+        broker.release("a");
+        secondA.get(5, TimeUnit.SECONDS);
+        Assert.assertFalse(firstB.isDone());
+        Assert.assertTrue(broker.status().contains("leased=1 waiting=1"), broker.status());
+
+        broker.release("a");
+        firstB.get(5, TimeUnit.SECONDS);
+        Assert.assertNull(broker.next());
+        Assert.assertTrue(broker.status().contains("leased=1 waiting=0"), broker.status());
+        Assert.assertTrue(broker.status().contains("granted=3 holders={b=1}"), broker.status());
+    }
+
+    private static CompletableFuture<Long> acquireAsync(LeaseBroker broker, String client) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return broker.acquire(client);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    private static void awaitWaiting(LeaseBroker broker, int waiting) throws InterruptedException {
+        while (!broker.status().contains("waiting=" + waiting + " ")) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.insider.driver;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * A WebDriver session owned by the DriverPool
+ * Tracks how many times the session has been leased so it can be recycled
+ */
+public class PooledDriver {
+    private final WebDriver driver;
+    private final BrowserSpec spec;
+    private final long createdAtMillis = System.currentTimeMillis();
+    private volatile long idleSinceMillis = createdAtMillis;
+    private int leaseCount;
+
+    PooledDriver(WebDriver driver, BrowserSpec spec) {
+        this.driver = driver;
+        this.spec = spec;
+    }
+
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    public BrowserSpec getSpec() {
+        return spec;
+    }
+
+    public int getLeaseCount() {
+        return leaseCount;
+    }
+
+    public long getCreatedAtMillis() {
+        return createdAtMillis;
+    }
+
+    public long getIdleSinceMillis() {
+        return idleSinceMillis;
+    }
+
+    void markIdle() {
+        idleSinceMillis = System.currentTimeMillis();
+    }
+
+    void markLeased() {
+        leaseCount++;
+    }
+}
@@ -0,0 +1,292 @@
+package com.insider.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Finds and kills browser and driver processes that outlived their session
+ * Every process this JVM spawns (drivers, browsers and their children) is written to a registry file named after
+ * the JVM. Processes are reaped
+ * - at suite start: everything registered by JVMs that are no longer running (killed runs, crashed forks)
+ * - after quit: a browser that survives its session's quit
+ * - at suite finish and on JVM shutdown: whatever this JVM still has running once the sessions are closed
+ * Each reap is appended to the leak report with the process count and the memory reclaimed.
+ *
+ * System properties:
+ * driver.reaper.enabled     - track and reap processes (default: true)
+ * driver.reaper.orphans     - at suite start also reap automation browsers and drivers whose parent has died,
+ *                             even if no registry names them (default: false)
+ * driver.reaper.registryDir - registry files, outside target/ so they survive a clean (default: tmpdir)
+ * driver.reaper.report      - leak report (default: target/process-leaks.txt)
+ */
+public class ProcessReaper {
+    private static final Logger logger = LoggerFactory.getLogger(ProcessReaper.class);
+    private static final ProcessReaper INSTANCE = new ProcessReaper();
+
+    private static final long GRACE_MILLIS = 3000;
+    private static final long MB = 1024 * 1024;
+
+    private final boolean enabled = Boolean.parseBoolean(System.getProperty("driver.reaper.enabled", "true"));
+    private final boolean reapOrphans = Boolean.parseBoolean(System.getProperty("driver.reaper.orphans", "false"));
+    private final Path registryDir = Paths.get(System.getProperty("driver.reaper.registryDir",
+            Paths.get(System.getProperty("java.io.tmpdir"), "insider-driver-processes").toString()));
+    private final Path report = Paths.get(System.getProperty("driver.reaper.report", "target/process-leaks.txt"));
+    private final ProcessHandle self = ProcessHandle.current();
+    private final Path registryFile = registryDir.resolve(self.pid() + "-" + startMillis(self) + ".pids");
+    private final Map<WebDriver, ProcessHandle> browsers = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final AtomicLong reaped = new AtomicLong();
+    private final AtomicLong reclaimedBytes = new AtomicLong();
+
+    private ProcessReaper() {
+        if (enabled) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> reapOwn("shutdown"), "process-reaper-shutdown"));
+        }
+    }
+
+    public static ProcessReaper getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Register a new session's browser and every process this JVM currently has running
+     */
+    void track(WebDriver driver) {
+        if (!enabled) {
+            return;
+        }
+        BrowserProcesses.browserProcess(driver).ifPresent(process -> browsers.put(driver, process));
+        writeRegistry();
+    }
+
+    /**
+     * After quit the browser must be gone; one that is still running after a grace period is killed
+     */
+    void untrack(WebDriver driver) {
+        ProcessHandle browser = enabled ? browsers.remove(driver) : null;
+        if (browser == null) {
+            return;
+        }
+        try {
+            browser.onExit().get(GRACE_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            if (browser.isAlive()) {
+                reap("after quit", List.of(browser));
+            }
+        }
+    }
+
+    /**
+     * Suite start: reap what earlier, no longer running JVMs left behind
+     */
+    public void reapStale() {
+        if (!enabled) {
+            return;
+        }
+        List<ProcessHandle> stale = new ArrayList<>();
+        try (Stream<Path> files = Files.list(registryDir)) {
+            for (Path file : files.filter(path -> path.toString().endsWith(".pids")).toList()) {
+                if (file.equals(registryFile) || isOwnerAlive(file)) {
+                    continue;
+                }
+                stale.addAll(readRegistry(file));
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            logger.debug("No process registry to check: " + e.getMessage());
+        }
+        if (reapOrphans) {
+            ProcessHandle.allProcesses()
+                    .filter(ProcessReaper::isOrphanedAutomationProcess)
+                    .filter(process -> !stale.contains(process))
+                    .forEach(stale::add);
+        }
+        reap("suite start", stale);
+    }
+
+    /**
+     * Suite finish: sessions are closed by now, so every browser or driver still running under this JVM leaked
+     */
+    public void reapFinished() {
+        if (enabled) {
+            reapOwn("suite finish");
+        }
+    }
+
+    /**
+     * Single-line summary for the end of the suite
+     */
+    public String summary() {
+        return String.format("Process reaper: reaped=%d reclaimed=%.1f MB report=%s", reaped.get(),
+                reclaimedBytes.get() / (double) MB, report);
+    }
+
+    private synchronized void reapOwn(String phase) {
+        List<ProcessHandle> children = self.children().toList();
+        // Diğer kapanış hook'larının (havuz, servisler) oturumları düzgün kapatmasına süre tanı
+        long deadline = System.currentTimeMillis() + (phase.equals("shutdown") ? GRACE_MILLIS : 0);
+        while (children.stream().anyMatch(ProcessHandle::isAlive) && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        reap(phase, self.children().filter(ProcessReaper::isBrowserOrDriver).toList());
+        if (phase.equals("shutdown")) {
+            try {
+                Files.deleteIfExists(registryFile);
+            } catch (IOException e) {
+                logger.debug("Process registry could not be removed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Kill process trees, children first, and append the result to the leak report
+     */
+    private void reap(String phase, List<ProcessHandle> roots) {
+        Map<Long, ProcessHandle> victims = new LinkedHashMap<>();
+        for (ProcessHandle root : roots) {
+            root.descendants().forEach(process -> victims.put(process.pid(), process));
+            victims.put(root.pid(), root);
+        }
+        victims.values().removeIf(process -> !process.isAlive());
+        if (victims.isEmpty()) {
+            return;
+        }
+        long bytes = 0;
+        List<String> lines = new ArrayList<>();
+        for (ProcessHandle process : victims.values()) {
+            long processBytes = Math.max(0, BrowserProcesses.processMemoryBytes(process.pid()));
+            bytes += processBytes;
+            lines.add(String.format("  %d %s (%.1f MB)", process.pid(), command(process), processBytes / (double) MB));
+            process.destroy();
+        }
+        for (ProcessHandle process : victims.values()) {
+            try {
+                process.onExit().get(1, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                process.destroyForcibly();
+            }
+        }
+        reaped.addAndGet(victims.size());
+        reclaimedBytes.addAndGet(bytes);
+        String header = String.format("%s %s: reaped %d processes, reclaimed %.1f MB", Instant.now(), phase,
+                victims.size(), bytes / (double) MB);
+        logger.warn(header);
+        appendReport(header, lines);
+    }
+
+    private synchronized void writeRegistry() {
+        // Lease broker diğer JVM'lerle paylaşılır, bu JVM'in ömrüne bağlı değildir
+        List<String> lines = self.descendants()
+                .filter(process -> !isLeaseBroker(process))
+                .map(process -> process.pid() + " " + startMillis(process) + " " + command(process))
+                .toList();
+        try {
+            Files.createDirectories(registryDir);
+            Path tmp = registryFile.resolveSibling(registryFile.getFileName() + ".tmp");
+            Files.write(tmp, lines);
+            Files.move(tmp, registryFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Process registry could not be written: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Registered processes that are still the same processes (pid and start time match, so reused pids are skipped)
+     */
+    private static List<ProcessHandle> readRegistry(Path file) throws IOException {
+        List<ProcessHandle> alive = new ArrayList<>();
+        for (String line : Files.readAllLines(file)) {
+            String[] parts = line.split(" ", 3);
+            if (parts.length < 2) {
+                continue;
+            }
+            Optional<ProcessHandle> process = ProcessHandle.of(Long.parseLong(parts[0]));
+            if (process.isPresent() && String.valueOf(startMillis(process.get())).equals(parts[1])) {
+                alive.add(process.get());
+            }
+        }
+        return alive;
+    }
+
+    private static boolean isOwnerAlive(Path file) {
+        String[] owner = file.getFileName().toString().replace(".pids", "").split("-");
+        return owner.length == 2 && ProcessHandle.of(Long.parseLong(owner[0]))
+                .map(process -> String.valueOf(startMillis(process)).equals(owner[1]))
+                .orElse(false);
+    }
+
+    /**
+     * A driver, or a browser started by one, whose parent is gone (re-parented to init or a subreaper)
+     */
+    private static boolean isOrphanedAutomationProcess(ProcessHandle process) {
+        if (!isBrowserOrDriver(process)) {
+            return false;
+        }
+        String command = command(process);
+        boolean automation = command.contains("chromedriver") || command.contains("geckodriver")
+                || command.contains("--enable-automation") || command.contains("-marionette");
+        Optional<ProcessHandle> parent = process.parent();
+        return automation && (parent.isEmpty() || parent.get().pid() == 1 || command(parent.get()).contains("systemd"));
+    }
+
+    private static boolean isBrowserOrDriver(ProcessHandle process) {
+        if (isLeaseBroker(process)) {
+            return false;
+        }
+        String command = command(process).toLowerCase();
+        return command.contains("chrome") || command.contains("chromium") || command.contains("firefox")
+                || command.contains("geckodriver") || command.contains("msedge");
+    }
+
+    /**
+     * The broker's classpath names the Selenium chrome and firefox jars, so it has to be told apart explicitly
+     */
+    private static boolean isLeaseBroker(ProcessHandle process) {
+        return command(process).contains(LeaseBroker.class.getName());
+    }
+
+    private static String command(ProcessHandle process) {
+        return process.info().commandLine().or(() -> process.info().command()).orElse("?");
+    }
+
+    private static long startMillis(ProcessHandle process) {
+        return process.info().startInstant().map(Instant::toEpochMilli).orElse(0L);
+    }
+
+    private void appendReport(String header, List<String> lines) {
+        try {
+            if (report.getParent() != null) {
+                Files.createDirectories(report.getParent());
+            }
+            List<String> entry = new ArrayList<>();
+            entry.add(header);
+            entry.addAll(lines);
+            Files.write(report, entry, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            logger.warn("Leak report could not be written: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,376 @@
+package com.insider.driver;
+
+import com.insider.locators.HomePageLocators;
+import com.insider.utils.wait.WaitPolicy;
+import com.insider.utils.wait.WaitProfile;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Pre-warmed browser profile that local sessions start from
+ * The template user-data-dir is built once per browser configuration: the entry pages are visited, the cookie
+ * consent is accepted and the HTTP cache is filled. Every session then gets its own clone of the template.
+ *
+ * The template is rebuilt when it is older than maxAgeHours or when its content hash changes. The hash covers
+ * everything that determines the template contents: browser configuration, browser version and entry pages.
+ * Building and cloning a template hold its lock file, so forks and concurrent runs sharing the directory never
+ * clone a template another process is rebuilding.
+ *
+ * System properties:
+ * driver.profile.template.enabled     - start local sessions from the template (default: false)
+ * driver.profile.template.dir         - where templates and clones live (default: target/profile-templates)
+ * driver.profile.template.urls        - comma separated entry pages (default: https://useinsider.com/)
+ * driver.profile.template.maxAgeHours - rebuild after this age (default: 24)
+ * driver.profile.template.clone       - reflink (default, copy-on-write where the filesystem supports it),
+ *                                       hardlink (cache entries are hard-linked, the rest copied) or copy
+ */
+public class ProfileTemplate {
+    private static final Logger logger = LoggerFactory.getLogger(ProfileTemplate.class);
+    private static final ProfileTemplate INSTANCE = new ProfileTemplate();
+
+    private static final boolean ENABLED = Boolean.parseBoolean(
+            System.getProperty("driver.profile.template.enabled", "false"));
+    private static final Path ROOT = Paths.get(System.getProperty("driver.profile.template.dir",
+            "target/profile-templates"));
+    private static final List<String> ENTRY_URLS = Arrays.stream(System.getProperty("driver.profile.template.urls",
+            "https://useinsider.com/").split(",")).map(String::trim).filter(url -> !url.isEmpty()).toList();
+    private static final Duration MAX_AGE = Duration.ofHours(
+            Integer.getInteger("driver.profile.template.maxAgeHours", 24));
+    private static final String CLONE_MODE = System.getProperty("driver.profile.template.clone", "reflink")
+            .toLowerCase();
+
+    private static final String MARKER_FILE = "template.properties";
+    private static final WaitProfile CONSENT_WAIT = WaitPolicy.profile("template.consent", Duration.ofSeconds(5));
+    // Lock dosyaları kopyalanmaz; aksi halde browser profili "başka bir process kullanıyor" sanar
+    private static final Set<String> SKIPPED_FILES = Set.of("SingletonLock", "SingletonSocket", "SingletonCookie",
+            "lockfile", "parent.lock", ".parentlock", MARKER_FILE);
+    private static final Set<String> CACHE_DIRS = Set.of("Cache", "Cache_Data", "Code Cache", "cache2");
+
+    private final Map<BrowserSpec, Path> templates = new ConcurrentHashMap<>();
+    private final Set<BrowserSpec> failed = ConcurrentHashMap.newKeySet();
+    private final Map<WebDriver, Path> clones = Collections.synchronizedMap(new WeakHashMap<>());
+    // Bu JVM'in oluşturduğu kopyalar; clones dizini diğer fork'lar ve eşzamanlı koşularla paylaşılır
+    private final Set<Path> ownClones = ConcurrentHashMap.newKeySet();
+    private final Map<String, Object> templateLocks = new ConcurrentHashMap<>();
+
+    private ProfileTemplate() {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::deleteClones, "profile-template-cleanup"));
+    }
+
+    public static ProfileTemplate getInstance() {
+        return INSTANCE;
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Clone the template for a new local session, building the template first if needed
+     * @return the clone directory, or null if sessions for this spec should start with an empty profile
+     */
+    public Path cloneFor(BrowserSpec spec) {
+        // Remote ve HtmlUnit oturumları lokal bir browser profili kullanmaz
+        if (!ENABLED || !spec.isLocalBrowser()) {
+            return null;
+        }
+        Path template = templateFor(spec);
+        if (template == null) {
+            return null;
+        }
+        Path clone = ROOT.resolve("clones").resolve(directoryName(spec) + "-" + UUID.randomUUID());
+        long start = System.nanoTime();
+        try {
+            ownClones.add(clone);
+            withTemplateLock(directoryName(spec), () -> cloneTree(template, clone));
+        } catch (IOException e) {
+            logger.warn("Profile template could not be cloned, starting with an empty profile: " + e.getMessage());
+            discard(clone);
+            return null;
+        }
+        logger.debug("Cloned profile template for " + spec + " in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        return clone;
+    }
+
+    /**
+     * Remember which clone a session runs on so it can be removed when the session quits
+     */
+    void track(WebDriver driver, Path clone) {
+        if (clone != null) {
+            clones.put(driver, clone);
+        }
+    }
+
+    /**
+     * Delete the clone of a session that has quit
+     */
+    void release(WebDriver driver) {
+        discard(clones.remove(driver));
+    }
+
+    /**
+     * Delete a clone whose session could not be started
+     */
+    void discard(Path clone) {
+        if (clone != null) {
+            ownClones.remove(clone);
+            delete(clone);
+        }
+    }
+
+    private Path templateFor(BrowserSpec spec) {
+        if (failed.contains(spec)) {
+            return null;
+        }
+        Path known = templates.get(spec);
+        if (known != null) {
+            return known;
+        }
+        synchronized (this) {
+            if (templates.containsKey(spec) || failed.contains(spec)) {
+                return templates.get(spec);
+            }
+            Path template = ROOT.resolve(directoryName(spec));
+            try {
+                // Driver çözümlemesi de (desteklenmeyen browser dahil) template olmadan devam etmeye yol açar
+                String hash = contentHash(spec);
+                withTemplateLock(directoryName(spec), () -> {
+                    if (!isUsable(template, hash)) {
+                        try {
+                            build(spec, template, hash);
+                        } catch (IOException | RuntimeException e) {
+                            // Yarım kalan template kilit bırakılmadan silinir; başka process onu klonlamasın
+                            delete(template);
+                            throw e;
+                        }
+                    } else {
+                        logger.info("Reusing profile template for " + spec + ": " + template);
+                    }
+                });
+                templates.put(spec, template);
+                return template;
+            } catch (IOException | WebDriverException | IllegalArgumentException e) {
+                logger.warn("Profile template could not be built for " + spec + ", using empty profiles: "
+                        + e.getMessage());
+                failed.add(spec);
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Run an action while holding the template's lock file
+     * FileLock is held per JVM, so threads of this JVM are serialized on a monitor before taking it
+     */
+    private void withTemplateLock(String name, TemplateAction action) throws IOException {
+        synchronized (templateLocks.computeIfAbsent(name, key -> new Object())) {
+            Files.createDirectories(ROOT);
+            try (FileChannel channel = FileChannel.open(ROOT.resolve(name + ".lock"), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE)) {
+                FileLock lock = channel.lock();
+                try {
+                    action.run();
+                } finally {
+                    lock.release();
+                }
+            }
+        }
+    }
+
+    private boolean isUsable(Path template, String hash) throws IOException {
+        Path marker = template.resolve(MARKER_FILE);
+        if (!Files.isRegularFile(marker)) {
+            return false;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(marker)) {
+            properties.load(in);
+        }
+        Instant builtAt = Instant.ofEpochMilli(Long.parseLong(properties.getProperty("built.at", "0")));
+        if (builtAt.plus(MAX_AGE).isBefore(Instant.now())) {
+            logger.info("Profile template is older than " + MAX_AGE.toHours() + "h, rebuilding: " + template);
+            return false;
+        }
+        if (!hash.equals(properties.getProperty("content.hash"))) {
+            logger.info("Profile template content hash changed, rebuilding: " + template);
+            return false;
+        }
+        return true;
+    }
+
+    private void build(BrowserSpec spec, Path template, String hash) throws IOException {
+        long start = System.nanoTime();
+        delete(template);
+        Files.createDirectories(template);
+
+        WebDriver driver = DriverFactory.start(spec, template);
+        try {
+            driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(60));
+            for (String url : ENTRY_URLS) {
+                driver.get(url);
+                acceptConsent(driver);
+            }
+        } finally {
+            // Browser kapanırken cookie ve cache verisi diske yazılır
+            driver.quit();
+        }
+
+        Properties properties = new Properties();
+        properties.setProperty("spec", spec.toString());
+        properties.setProperty("content.hash", hash);
+        properties.setProperty("built.at", String.valueOf(System.currentTimeMillis()));
+        properties.setProperty("entry.urls", String.join(",", ENTRY_URLS));
+        try (OutputStream out = Files.newOutputStream(template.resolve(MARKER_FILE))) {
+            properties.store(out, "Profile template");
+        }
+        logger.info("Built profile template for " + spec + " in " + (System.nanoTime() - start) / 1_000_000
+                + " ms: " + template);
+    }
+
+    private void acceptConsent(WebDriver driver) {
+        WebDriverWait wait = WaitPolicy.waitFor(driver, CONSENT_WAIT);
+        try {
+            wait.until(ExpectedConditions.elementToBeClickable(HomePageLocators.ACCEPT_COOKIES_BUTTON)).click();
+            // Banner kapanana kadar bekle; consent cookie'si bu sırada yazılır
+            wait.until(ExpectedConditions.invisibilityOfElementLocated(HomePageLocators.ACCEPT_COOKIES_BUTTON));
+        } catch (WebDriverException e) {
+            logger.debug("No consent banner accepted on " + driver.getCurrentUrl() + ": " + e.getMessage());
+        }
+    }
+
+    private String contentHash(BrowserSpec spec) {
+        String browserVersion = DriverBinaryResolver.resolve(spec.browser()).browserVersion();
+        String input = spec + "|" + browserVersion + "|" + String.join(",", ENTRY_URLS);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(input.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void cloneTree(Path template, Path clone) throws IOException {
+        Files.createDirectories(clone.getParent());
+        if (CLONE_MODE.equals("reflink") && reflinkCopy(template, clone)) {
+            for (String skipped : SKIPPED_FILES) {
+                Files.deleteIfExists(clone.resolve(skipped));
+            }
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(template)) {
+            for (Path source : (Iterable<Path>) paths::iterator) {
+                Path target = clone.resolve(template.relativize(source).toString());
+                if (Files.isDirectory(source)) {
+                    Files.createDirectories(target);
+                } else if (!SKIPPED_FILES.contains(source.getFileName().toString()) && !Files.isSymbolicLink(source)) {
+                    if (CLONE_MODE.equals("hardlink") && isCacheEntry(template, source)) {
+                        Files.createLink(target, source);
+                    } else {
+                        Files.copy(source, target, StandardCopyOption.COPY_ATTRIBUTES);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Copy-on-write clone via cp; returns false (and the caller copies) where cp or reflinks are unavailable
+     */
+    private boolean reflinkCopy(Path template, Path clone) {
+        boolean mac = System.getProperty("os.name").toLowerCase().contains("mac");
+        List<String> command = mac
+                ? List.of("cp", "-cR", template.toString(), clone.toString())
+                : List.of("cp", "-R", "--reflink=auto", template.toString(), clone.toString());
+        try {
+            Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            process.getInputStream().transferTo(OutputStream.nullOutputStream());
+            if (process.waitFor() == 0) {
+                return true;
+            }
+        } catch (IOException e) {
+            logger.debug("cp is not available for reflink clones: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        delete(clone);
+        return false;
+    }
+
+    /**
+     * Cache entries are written once and replaced rather than modified, so they can be shared between clones
+     */
+    private boolean isCacheEntry(Path template, Path file) {
+        for (Path part : template.relativize(file)) {
+            if (CACHE_DIRS.contains(part.toString())) {
+                return !file.getFileName().toString().startsWith("index");
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Delete the clones this JVM created; clones of other processes sharing the root are left alone
+     */
+    private void deleteClones() {
+        for (Path clone : ownClones) {
+            delete(clone);
+        }
+    }
+
+    private static String directoryName(BrowserSpec spec) {
+        return spec.browser() + (spec.headless() ? "-headless" : "") + "-" + spec.profile().name().toLowerCase()
+                + "-" + spec.backend().name().toLowerCase().replace('_', '-');
+    }
+
+    private interface TemplateAction {
+        void run() throws IOException;
+    }
+
+    private static void delete(Path directory) {
+        if (directory == null || !Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted((a, b) -> b.getNameCount() - a.getNameCount()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    logger.debug("Could not delete " + path + ": " + e.getMessage());
+                }
+            });
+        } catch (IOException e) {
+            logger.debug("Could not delete " + directory + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.insider.driver;
+
+import org.openqa.selenium.chrome.ChromeDriverService;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ChromeDriverService that outlives the sessions created against it
+ * ChromeDriver.quit() normally stops its service; here stop() is ignored so many sessions can share
+ * one chromedriver process, and only DriverServiceManager terminates it through shutdown()
+ */
+public class SharedChromeDriverService extends ChromeDriverService {
+
+    SharedChromeDriverService(File executable, int port, Duration timeout, List<String> args,
+                              Map<String, String> environment) throws IOException {
+        super(executable, port, timeout, args, environment);
+    }
+
+    /**
+     * Ignored: sessions must not take the shared process down with them
+     */
+    @Override
+    public void stop() {
+        // Paylaşılan process sadece shutdown() ile durdurulur
+    }
+
+    /**
+     * Really stop the chromedriver process
+     */
+    void shutdown() {
+        super.stop();
+    }
+
+    /**
+     * Builder that produces SharedChromeDriverService instances
+     */
+    static class Builder extends ChromeDriverService.Builder {
+        @Override
+        protected ChromeDriverService createDriverService(File exe, int port, Duration timeout, List<String> args,
+                                                          Map<String, String> environment) {
+            try {
+                return new SharedChromeDriverService(exe, port, timeout, args, environment);
+            } catch (IOException e) {
+                throw new IllegalStateException("Shared chromedriver service could not be created", e);
+            }
+        }
+    }
+}
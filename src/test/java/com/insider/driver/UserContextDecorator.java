@@ -0,0 +1,76 @@
+package com.insider.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.bidi.browsingcontext.BrowsingContext;
+import org.openqa.selenium.bidi.browsingcontext.CreateContextParameters;
+import org.openqa.selenium.support.decorators.Decorated;
+import org.openqa.selenium.support.decorators.WebDriverDecorator;
+
+import java.lang.reflect.Method;
+
+/**
+ * Makes a shared BiDi session look like a private browser for one user context
+ * Every call runs with the host locked and the context's window focused. Window handles are limited to the
+ * context's own windows, new windows are opened inside the context and quit() only removes the context.
+ */
+class UserContextDecorator extends WebDriverDecorator<WebDriver> {
+
+    private final UserContextHost.UserContext context;
+
+    UserContextDecorator(UserContextHost.UserContext context) {
+        this.context = context;
+    }
+
+    @Override
+    public Object call(Decorated<?> target, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            // Tüm context'ler aynı driver'ı sarar; map anahtarı olarak her biri kendi kimliğini taşır
+            if (target.getOriginal() instanceof WebDriver && method.getName().equals("equals")) {
+                return args[0] == context.driver;
+            }
+            if (target.getOriginal() instanceof WebDriver && method.getName().equals("hashCode")) {
+                return System.identityHashCode(context);
+            }
+            return super.call(target, method, args);
+        }
+        UserContextHost.HostBrowser host = context.host;
+        synchronized (host) {
+            Object original = target.getOriginal();
+            if (original instanceof WebDriver) {
+                switch (method.getName()) {
+                    case "quit":
+                        UserContextHost.getInstance().close(context);
+                        return null;
+                    case "getWindowHandles":
+                        return host.windowsOf(context.userContext);
+                    case "close":
+                        host.focus(context.window);
+                        super.call(target, method, args);
+                        context.window = null;
+                        host.focused = null;
+                        return null;
+                    default:
+                        break;
+                }
+            } else if (original instanceof WebDriver.TargetLocator) {
+                if (method.getName().equals("window")) {
+                    Object result = super.call(target, method, args);
+                    context.window = (String) args[0];
+                    host.focused = context.window;
+                    return result;
+                }
+                if (method.getName().equals("newWindow")) {
+                    // Klasik newWindow varsayılan context'te açar; pencereyi testin context'inde aç
+                    String window = new BrowsingContext(host.driver, new CreateContextParameters((WindowType) args[0])
+                            .userContext(context.userContext)).getId();
+                    host.focus(window);
+                    context.window = window;
+                    return context.driver;
+                }
+            }
+            host.focus(context.window);
+            return super.call(target, method, args);
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.insider.driver;
+
+import com.insider.utils.OverlayAgent;
+import com.insider.utils.wait.NetworkMonitor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.bidi.Command;
+import org.openqa.selenium.bidi.HasBiDi;
+import org.openqa.selenium.bidi.browsingcontext.BrowsingContext;
+import org.openqa.selenium.bidi.browsingcontext.CreateContextParameters;
+import org.openqa.selenium.bidi.module.Browser;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs many tests in one long-lived browser, each in its own WebDriver BiDi user context
+ * A user context has its own cookie and storage jar, so tests stay isolated without paying for a browser process each.
+ * Every test gets a window in its own context; the WebDriver it receives is a decorated view of the shared session
+ * that switches to the test's window before each command (commands of different tests are serialized).
+ *
+ * System properties:
+ * driver.isolation             - browser (default, one browser per session) or context (BiDi user contexts)
+ * driver.context.maxPerBrowser - contexts hosted by one browser before another browser is started (default: 8)
+ */
+public class UserContextHost {
+    private static final Logger logger = LoggerFactory.getLogger(UserContextHost.class);
+    private static final UserContextHost INSTANCE = new UserContextHost();
+
+    private static final boolean ENABLED = System.getProperty("driver.isolation", "browser")
+            .equalsIgnoreCase("context");
+    private static final int MAX_CONTEXTS = Integer.getInteger("driver.context.maxPerBrowser", 8);
+    private static final long MB = 1024 * 1024;
+
+    private final Map<BrowserSpec, List<HostBrowser>> hosts = new ConcurrentHashMap<>();
+    private final Map<WebDriver, UserContext> contexts = new ConcurrentHashMap<>();
+    private final AtomicInteger contextsCreated = new AtomicInteger();
+    private final AtomicInteger peakConcurrent = new AtomicInteger();
+    private volatile boolean closed;
+
+    private UserContextHost() {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "user-context-host-shutdown"));
+    }
+
+    public static UserContextHost getInstance() {
+        return INSTANCE;
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Open a new isolated user context with one window and return the driver a test should use
+     */
+    public WebDriver open(BrowserSpec spec) {
+        if (closed) {
+            throw new IllegalStateException("User context host is shut down");
+        }
+        HostBrowser host = hostFor(spec);
+        synchronized (host) {
+            UserContext context;
+            try {
+                String userContext = new Browser(host.driver).createUserContext();
+                String window = new BrowsingContext(host.driver,
+                        new CreateContextParameters(WindowType.WINDOW).userContext(userContext)).getId();
+                context = new UserContext(host, userContext, window);
+                context.driver = new UserContextDecorator(context).decorate(host.driver);
+            } catch (WebDriverException e) {
+                host.active--;
+                throw e;
+            }
+            contexts.put(context.driver, context);
+
+            DriverFactory.configure(context.driver, spec);
+            host.onOpened();
+            contextsCreated.incrementAndGet();
+            peakConcurrent.accumulateAndGet(contexts.size(), Math::max);
+            logger.info("Opened user context " + context.userContext + " on " + spec + " (" + host.active + " active)");
+            return context.driver;
+        }
+    }
+
+    /**
+     * Remove the user context of a test together with all its windows
+     */
+    public void close(WebDriver driver) {
+        UserContext context = contexts.remove(driver);
+        if (context != null) {
+            close(context);
+        }
+    }
+
+    void close(UserContext context) {
+        contexts.remove(context.driver);
+        NetworkMonitor.forget(context.driver);
+        OverlayAgent.forget(context.driver);
+        HostBrowser host = context.host;
+        synchronized (host) {
+            if (context.removed) {
+                return;
+            }
+            context.removed = true;
+            host.active--;
+            host.focused = null;
+            try {
+                new Browser(host.driver).removeUserContext(context.userContext);
+            } catch (WebDriverException e) {
+                logger.warn("User context could not be removed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Single-line summary of context usage and memory per context compared with a whole browser
+     */
+    public String summary() {
+        List<HostBrowser> all = hosts.values().stream().flatMap(List::stream).toList();
+        StringBuilder summary = new StringBuilder("User contexts: browsers=").append(all.size())
+                .append(" contexts=").append(contextsCreated.get())
+                .append(" peakConcurrent=").append(peakConcurrent.get());
+        List<HostBrowser> measured = all.stream().filter(host -> host.baselineBytes > 0 && host.peakActive > 0).toList();
+        if (measured.isEmpty()) {
+            return summary.append(" memory=n/a").toString();
+        }
+        double perBrowser = measured.stream().mapToLong(host -> host.baselineBytes).average().orElse(0);
+        double perContext = measured.stream()
+                .mapToDouble(host -> (double) Math.max(0, host.peakBytes - host.baselineBytes) / host.peakActive)
+                .average().orElse(0);
+        return summary.append(String.format(" memory perBrowser=%.1f MB perContext=%.1f MB (browser with one test window ~%.1f MB)",
+                perBrowser / MB, perContext / MB, (perBrowser + perContext) / MB)).toString();
+    }
+
+    /**
+     * Quit every host browser
+     */
+    public void shutdown() {
+        closed = true;
+        contexts.clear();
+        for (List<HostBrowser> list : hosts.values()) {
+            for (HostBrowser host : list) {
+                try {
+                    DriverFactory.quit(host.driver);
+                } catch (WebDriverException e) {
+                    logger.warn("Failed to quit user context host: " + e.getMessage());
+                }
+            }
+        }
+        hosts.clear();
+    }
+
+    private HostBrowser hostFor(BrowserSpec spec) {
+        List<HostBrowser> list = hosts.computeIfAbsent(spec, key -> new ArrayList<>());
+        synchronized (list) {
+            Optional<HostBrowser> available = list.stream()
+                    .filter(host -> host.active < MAX_CONTEXTS)
+                    .min(Comparator.comparingInt(host -> host.active));
+            if (available.isPresent()) {
+                // Yer ayır; aksi halde eşzamanlı open çağrıları aynı host'u aşırı doldurabilir
+                synchronized (available.get()) {
+                    available.get().active++;
+                }
+                return available.get();
+            }
+            HostBrowser host = new HostBrowser(spec, DriverFactory.start(spec, null, true));
+            host.active++;
+            list.add(host);
+            logger.info("Started user context host browser for " + spec + " (" + list.size() + " running)");
+            return host;
+        }
+    }
+
+    /**
+     * One long-lived browser session hosting user contexts; the monitor guards the session and the focused window
+     */
+    static class HostBrowser {
+        final BrowserSpec spec;
+        final WebDriver driver;
+        final ProcessHandle process;
+        final long baselineBytes;
+        // Slotlar hostFor içinde ayrılır, close'da bırakılır
+        int active;
+        int peakActive;
+        long peakBytes;
+        String focused;
+
+        HostBrowser(BrowserSpec spec, WebDriver driver) {
+            this.spec = spec;
+            this.driver = driver;
+            this.process = BrowserProcesses.browserProcess(driver).orElse(null);
+            this.baselineBytes = process != null ? BrowserProcesses.treeMemoryBytes(process) : -1;
+            this.focused = driver.getWindowHandle();
+        }
+
+        /**
+         * Switch the shared session to a test's window unless it is already there
+         */
+        void focus(String window) {
+            if (window != null && !window.equals(focused)) {
+                driver.switchTo().window(window);
+                focused = window;
+            }
+        }
+
+        /**
+         * Top-level windows that belong to a user context
+         */
+        @SuppressWarnings("unchecked")
+        Set<String> windowsOf(String userContext) {
+            Map<String, Object> tree = ((HasBiDi) driver).getBiDi().send(
+                    new Command<>("browsingContext.getTree", Map.of("maxDepth", 0), Json.MAP_TYPE));
+            Set<String> windows = new LinkedHashSet<>();
+            for (Map<String, Object> context : (List<Map<String, Object>>) tree.get("contexts")) {
+                if (userContext.equals(context.get("userContext"))) {
+                    windows.add((String) context.get("context"));
+                }
+            }
+            return windows;
+        }
+
+        void onOpened() {
+            if (process == null || active <= peakActive) {
+                return;
+            }
+            long bytes = BrowserProcesses.treeMemoryBytes(process);
+            if (bytes > 0) {
+                peakActive = active;
+                peakBytes = bytes;
+            }
+        }
+    }
+
+    /**
+     * A test's user context, its current window and the decorated driver handed to the test
+     */
+    static class UserContext {
+        final HostBrowser host;
+        final String userContext;
+        volatile String window;
+        volatile WebDriver driver;
+        boolean removed;
+
+        UserContext(HostBrowser host, String userContext, String window) {
+            this.host = host;
+            this.userContext = userContext;
+            this.window = window;
+        }
+    }
+}
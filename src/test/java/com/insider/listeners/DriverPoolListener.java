@@ -0,0 +1,173 @@
+package com.insider.listeners;
+
+import com.insider.driver.BrokerClient;
+import com.insider.driver.BrowserSpec;
+import com.insider.driver.DriverBinaryResolver;
+import com.insider.driver.DriverPool;
+import com.insider.driver.DriverPrewarmer;
+import com.insider.driver.DriverServiceManager;
+import com.insider.driver.EngineTimings;
+import com.insider.driver.HtmlUnitSupport;
+import com.insider.driver.LaunchGovernor;
+import com.insider.driver.ProcessReaper;
+import com.insider.driver.UserContextHost;
+import com.insider.tests.BaseTest;
+import com.insider.utils.MultiTabReader;
+import com.insider.utils.OverlayAgent;
+import com.insider.utils.wait.LocatorHistory;
+import com.insider.utils.wait.NetworkMonitor;
+import com.insider.utils.wait.WaitPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.util.Map;
+
+/**
+ * Driver Pool Listener
+ * Tells the pre-warmer how many methods are queued per browser configuration, reports pool hit/miss,
+ * reset latency, time-to-driver, driver resolution time and user context memory at the end of the suite and quits
+ * the warm sessions (kept running under TestDaemon)
+ */
+public class DriverPoolListener implements ISuiteListener, ITestListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(DriverPoolListener.class);
+    // TestDaemon altında browser'lar ve servisler run'lar arasında sıcak tutulur
+    private static final boolean DAEMON = Boolean.getBoolean("test.daemon");
+
+    @Override
+    public void onStart(ISuite suite) {
+        // Önceki, yarıda kesilmiş koşulardan kalan browser ve driver process'lerini temizle
+        ProcessReaper.getInstance().reapStale();
+        // Broker'daki adil paylaşım suite başına sayılır
+        BrokerClient.getInstance().joinSuite(suite.getName());
+        if (UserContextHost.isEnabled()) {
+            // Context modunda testler havuzdan değil paylaşılan browser'dan çalışır
+            return;
+        }
+        // Ön ısıtma derinliği suite'in paralelliğinden gelir (testng.xml thread-count)
+        XmlSuite xmlSuite = suite.getXmlSuite();
+        DriverPrewarmer.getInstance().useSuiteThreadCount(
+                xmlSuite.getParallel() != null && xmlSuite.getParallel().isParallel() ? xmlSuite.getThreadCount() : 1);
+        for (XmlTest xmlTest : suite.getXmlSuite().getTests()) {
+            long methodCount = suite.getAllMethods().stream()
+                    .filter(method -> method.getXmlTest() != null
+                            && method.getXmlTest().getName().equals(xmlTest.getName()))
+                    .filter(this::needsPooledBrowser)
+                    .count();
+            if (methodCount > 0) {
+                DriverPrewarmer.getInstance().register(specFor(xmlTest), (int) methodCount);
+            }
+        }
+    }
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        if (needsPooledBrowser(result.getMethod())) {
+            DriverPrewarmer.getInstance().onMethodStarted(specFor(result.getTestContext().getCurrentXmlTest()));
+        }
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        recordEngineTiming(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        recordEngineTiming(result);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (!DAEMON) {
+            DriverPrewarmer.getInstance().shutdown();
+        }
+        String summary = DriverPool.getInstance().getStats().summary();
+        logger.info(summary);
+        System.out.println("📊 " + summary);
+        for (DriverBinaryResolver.ResolvedDriver resolved : DriverBinaryResolver.getResolutions()) {
+            logger.info("Driver resolution: " + resolved);
+            System.out.println("📊 Driver resolution: " + resolved);
+        }
+        logger.info(DriverServiceManager.summary());
+        System.out.println("📊 " + DriverServiceManager.summary());
+        logger.info(EngineTimings.summary());
+        System.out.println("📊 " + EngineTimings.summary());
+        logger.info(WaitPolicy.summary());
+        System.out.println("📊 " + WaitPolicy.summary());
+        if (LocatorHistory.isRecording()) {
+            logger.info(LocatorHistory.summary());
+            System.out.println("📊 " + LocatorHistory.summary());
+            LocatorHistory.save();
+        }
+        if (NetworkMonitor.isEnabled()) {
+            logger.info(NetworkMonitor.summary());
+            System.out.println("📊 " + NetworkMonitor.summary());
+        }
+        if (OverlayAgent.isEnabled()) {
+            logger.info(OverlayAgent.summary());
+            System.out.println("📊 " + OverlayAgent.summary());
+        }
+        if (LaunchGovernor.getInstance().isEnabled()) {
+            logger.info(LaunchGovernor.getInstance().summary());
+            System.out.println("📊 " + LaunchGovernor.getInstance().summary());
+        }
+        if (BrokerClient.getInstance().isEnabled()) {
+            logger.info(BrokerClient.getInstance().summary());
+            System.out.println("📊 " + BrokerClient.getInstance().summary());
+        }
+        if (MultiTabReader.hasReadPages()) {
+            logger.info(MultiTabReader.summary());
+            System.out.println("📊 " + MultiTabReader.summary());
+        }
+        if (UserContextHost.isEnabled()) {
+            String contextSummary = UserContextHost.getInstance().summary();
+            logger.info(contextSummary);
+            System.out.println("📊 " + contextSummary);
+        }
+        if (DAEMON) {
+            return;
+        }
+        if (UserContextHost.isEnabled()) {
+            UserContextHost.getInstance().shutdown();
+        }
+        DriverPool.getInstance().shutdown();
+        DriverServiceManager.shutdown();
+        ProcessReaper.getInstance().reapFinished();
+        logger.info(ProcessReaper.getInstance().summary());
+        System.out.println("📊 " + ProcessReaper.getInstance().summary());
+    }
+
+    private void recordEngineTiming(ITestResult result) {
+        Object engine = result.getAttribute(BaseTest.ENGINE_ATTRIBUTE);
+        if (engine != null) {
+            EngineTimings.recordTest(engine.toString(), result.getEndMillis() - result.getStartMillis());
+        }
+    }
+
+    /**
+     * BaseTest.setUp ile aynı varsayılanlar: browser=chrome, headless=false, profile=faithful
+     */
+    /**
+     * Only BaseTest methods lease a browser; unit tests in the same suite and HtmlUnit-routed tests do not
+     */
+    private boolean needsPooledBrowser(ITestNGMethod method) {
+        return BaseTest.class.isAssignableFrom(method.getRealClass())
+                // HtmlUnit'e yönlendirilen testler için browser ısıtılmaz
+                && !HtmlUnitSupport.routes(method.getConstructorOrMethod().getMethod());
+    }
+
+    private BrowserSpec specFor(XmlTest xmlTest) {
+        Map<String, String> parameters = xmlTest.getAllParameters();
+        return BrowserSpec.of(parameters.getOrDefault("browser", "chrome"),
+                Boolean.parseBoolean(parameters.getOrDefault("headless", "false")),
+                parameters.getOrDefault("profile", "faithful"));
+    }
+}
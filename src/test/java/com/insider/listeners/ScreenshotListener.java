@@ -26,7 +26,8 @@ public class ScreenshotListener implements ITestListener {
 
     @Attachment(value = "Page Screenshot", type = "image/png")
     public byte[] saveScreenshot(WebDriver driver) {
-        if (driver != null) {
+        // HtmlUnit gibi render etmeyen driver'lar ekran görüntüsü desteklemez
+        if (driver instanceof TakesScreenshot) {
             try {
                 return ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
             } catch (Exception e) {
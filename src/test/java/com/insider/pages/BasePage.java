@@ -1,6 +1,8 @@
 package com.insider.pages;
 
 import com.insider.utils.WebDriverUtils;
+import com.insider.utils.methods.ElementUtils;
+import com.insider.utils.wait.WaitPolicy;
 import io.qameta.allure.Allure;
 import io.qameta.allure.Step;
 import org.openqa.selenium.By;
@@ -11,6 +13,7 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.Optional;
 
 /**
@@ -18,13 +21,17 @@ import java.util.Optional;
  * Delegates WebDriver operations to WebDriverUtils
  */
 public class BasePage {
+    // Opsiyonel UI (banner, popup) için sayfanın sakinleşmiş sayılacağı süre
+    protected static final Duration PROBE_QUIET_WINDOW = Duration.ofMillis(Long.getLong("probe.quietMillis", 500));
+
     protected WebDriver driver;
     protected WebDriverWait wait;
     protected Logger logger = LoggerFactory.getLogger(this.getClass());
 
     public BasePage(WebDriver driver) {
         this.driver = driver;
-        this.wait = WebDriverUtils.createWait(driver);
+        // Varsayılan wait profili; sayfalar kendi profillerini WaitPolicy.profile ile tanımlar
+        this.wait = WaitPolicy.waitFor(driver);
     }
 
     @Step("'{url}' adresine git")
@@ -51,6 +58,36 @@ public class BasePage {
         return WebDriverUtils.isDisplayed(driver, wait, locator);
     }
 
+    /**
+     * Elementin şu an DOM'da olup olmadığını beklemeden kontrol eder
+     */
+    public boolean isPresentNow(By locator) {
+        return WebDriverUtils.isPresentNow(driver, locator);
+    }
+
+    /**
+     * Elementin şu an görünür olup olmadığını beklemeden kontrol eder
+     */
+    public boolean isDisplayedNow(By locator) {
+        return ElementUtils.isDisplayedNow(driver, locator);
+    }
+
+    /**
+     * Elementin verilen süre içinde görünür olup olmadığını kontrol eder; yoksa exception yerine false döner
+     */
+    public boolean isDisplayedWithin(By locator, Duration within) {
+        return ElementUtils.isDisplayedWithin(driver, locator, within);
+    }
+
+    /**
+     * Sonradan render edilen opsiyonel UI için: element görünür olduğu an true, sayfa yüklenip
+     * PROBE_QUIET_WINDOW boyunca değişmediği halde yoksa false döner (en fazla profilin timeout'u kadar)
+     */
+    public boolean isDisplayedOnceQuiet(By locator) {
+        return ElementUtils.isDisplayedOnceQuiet(driver, locator, PROBE_QUIET_WINDOW,
+                (int) WaitPolicy.DEFAULT.timeout().toSeconds());
+    }
+
     @Step("Elemente scroll yap")
     public void scrollToElement(By locator) {
         WebDriverUtils.scrollToElement(driver, wait, locator);
@@ -86,6 +123,11 @@ public class BasePage {
                 return;
             }
 
+            // Render etmeyen driver'larda (HtmlUnit) eklenecek görüntü yok
+            if (!(driver instanceof TakesScreenshot)) {
+                return;
+            }
+
             // Test context var, screenshot al ve ekle
             byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
             Allure.getLifecycle().addAttachment(name, "image/png", "png", screenshot);
@@ -13,6 +13,13 @@ public class CareersPage extends BasePage implements CareersPageLocators {
         super(driver);
     }
 
+    /**
+     * Kariyer sayfasının tarayıcısız (HTTP) görünümü
+     */
+    public static CareersHttpView http(String url) {
+        return new CareersHttpView(url);
+    }
+
     public boolean isLocationsBlockDisplayed() {
         return isDisplayed(LOCATIONS_BLOCK);
     }
@@ -43,7 +50,7 @@ public class CareersPage extends BasePage implements CareersPageLocators {
         WebElement element = WaitUtils.waitForVisibilityWithDynamicWait(wait, LOCATIONS_BLOCK);
         
         // Elementin tamamen ekranda görünür olduğundan emin ol
-        JavaScriptUtils.waitForElementFullyVisible(driver, element, 5);
+        JavaScriptUtils.awaitElementFullyVisible(driver, element, 5);
         
         // Ekran görüntüsü al
         attachScreenshot("Lokasyon Bloğu Doğrulama");
@@ -67,7 +74,7 @@ public class CareersPage extends BasePage implements CareersPageLocators {
         WebElement element = WaitUtils.waitForVisibilityWithDynamicWait(wait, TEAMS_BLOCK);
         
         // Elementin tamamen ekranda görünür olduğundan emin ol
-        JavaScriptUtils.waitForElementFullyVisible(driver, element, 5);
+        JavaScriptUtils.awaitElementFullyVisible(driver, element, 5);
         
         // Ekran görüntüsü al
         attachScreenshot("Takımlar Bloğu Doğrulama");
@@ -90,12 +97,13 @@ public class CareersPage extends BasePage implements CareersPageLocators {
         // İlgili alana scroll et
         scrollToElement(LIFE_AT_INSIDER_BLOCK);
         
-        // Scroll animasyonunun tamamlanmasını bekle (dinamik - headless mod için optimize edilmiş)
-        // Bu metod hem pozisyon stabilitesini hem de element görünürlüğünü kontrol eder
-        JavaScriptUtils.waitForScrollToComplete(driver, element, 8);
+        // Scroll animasyonunun tamamlanmasını sayfa içinde bekle (scrollend + requestAnimationFrame)
+        // Tek round trip: hem pozisyon stabilitesini hem de element görünürlüğünü kontrol eder
+        long scrollMillis = JavaScriptUtils.awaitScrollToComplete(driver, element, 8);
+        logger.debug("Scroll tamamlandı: " + scrollMillis + " ms (browser tarafı)");
 
         // Elementin tamamen ekranda görünür olduğundan emin ol (ekstra kontrol)
-        JavaScriptUtils.waitForElementFullyVisible(driver, element, 3);
+        JavaScriptUtils.awaitElementFullyVisible(driver, element, 3);
         
         // Ekran görüntüsü al
         attachScreenshot("Life at Insider Bloğu Doğrulama");
@@ -110,4 +118,21 @@ public class CareersPage extends BasePage implements CareersPageLocators {
 
         clickWithJs(SEE_ALL_QA_JOBS_BUTTON);
     }
+
+    /**
+     * Kariyer sayfası bloklarının sunucunun döndürdüğü HTML içinde olduğunu kontrol eder (görünürlük değil, varlık)
+     */
+    public static class CareersHttpView extends HttpView {
+
+        CareersHttpView(String url) {
+            super(url);
+        }
+
+        @Step("HTTP: kariyer sayfası bloklarının HTML içinde olduğunu doğrula")
+        public void verifyBlocksArePresent() {
+            verifyPresent(LOCATIONS_BLOCK, "Lokasyon bloğu");
+            verifyPresent(TEAMS_BLOCK, "Takımlar bloğu");
+            verifyPresent(LIFE_AT_INSIDER_BLOCK, "Life at Insider bloğu");
+        }
+    }
 }
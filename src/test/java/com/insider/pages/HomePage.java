@@ -2,6 +2,7 @@ package com.insider.pages;
 
 import com.insider.locators.HomePageLocators;
 import com.insider.utils.methods.AssertionUtils;
+import com.insider.utils.methods.CookieUtils;
 import io.qameta.allure.Step;
 import org.openqa.selenium.WebDriver;
 
@@ -11,10 +12,25 @@ public class HomePage extends BasePage implements HomePageLocators {
         super(driver);
     }
 
+    /**
+     * Ana sayfanın tarayıcısız (HTTP) görünümü: başlık ve link kontrolleri için
+     */
+    public static HttpView http(String url) {
+        return new HttpView(url);
+    }
+
     @Step("Çerezleri kabul et")
     public void acceptCookies() {
-        if (isDisplayed(ACCEPT_COOKIES_BUTTON)) {
+        // Banner consent script'i ile sonradan gelir; yoksa 10 sn beklemek yerine sayfa sakinleşince vazgeç
+        if (isDisplayedOnceQuiet(ACCEPT_COOKIES_BUTTON)) {
+            // Snapshot geri yüklendiği halde banner göründüyse snapshot'taki consent artık geçersiz
+            if (CookieUtils.isStateRestored(driver)) {
+                CookieUtils.invalidateState(driver);
+            }
             click(ACCEPT_COOKIES_BUTTON);
+            if (CookieUtils.isStateSnapshotEnabled()) {
+                CookieUtils.captureStateIfMissing(driver);
+            }
         }
     }
 
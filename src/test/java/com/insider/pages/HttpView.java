@@ -0,0 +1,75 @@
+package com.insider.pages;
+
+import com.insider.utils.http.HttpLane;
+import com.insider.utils.http.HttpPage;
+import io.qameta.allure.Step;
+import org.openqa.selenium.By;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.Assert;
+
+/**
+ * Browserless view of a page for markup-level checks over the HTTP lane
+ * Page objects hand one out through a static http(...) factory; it reuses the page's locators but never
+ * touches WebDriver, so it only sees what the server renders (no JavaScript, no visibility).
+ */
+public class HttpView {
+    protected final Logger logger = LoggerFactory.getLogger(this.getClass());
+    protected final HttpPage page;
+
+    public HttpView(String url) {
+        this(HttpLane.fetch(url));
+    }
+
+    protected HttpView(HttpPage page) {
+        this.page = page;
+        logger.info("HTTP view: " + page);
+    }
+
+    public HttpPage getPage() {
+        return page;
+    }
+
+    public boolean isPresent(By locator) {
+        return page.document().contains(locator);
+    }
+
+    /**
+     * Sayfanın 2xx yanıt verdiğini doğrula
+     */
+    @Step("HTTP: sayfanın başarılı yanıt verdiğini doğrula")
+    public void verifySuccess() {
+        Assert.assertTrue(page.isSuccess(), "Sayfa başarılı yanıt vermedi: " + page);
+    }
+
+    /**
+     * Sayfa başlığının belirtilen metni içerdiğini doğrula
+     */
+    @Step("HTTP: sayfa başlığının '{expectedText}' içerdiğini doğrula")
+    public void verifyTitleContains(String expectedText) {
+        verifySuccess();
+        Assert.assertTrue(page.title().contains(expectedText),
+                "Sayfa başlığı '" + expectedText + "' içermiyor - Gerçek başlık: '" + page.title() + "'");
+        logger.info("✅ Başlık doğrulandı (HTTP) - Gerçek başlık: '" + page.title() + "'");
+    }
+
+    /**
+     * Elementin sunulan HTML içinde olduğunu doğrula
+     */
+    @Step("HTTP: '{name}' HTML içinde olmalı")
+    public void verifyPresent(By locator, String name) {
+        verifySuccess();
+        Assert.assertTrue(isPresent(locator), name + " sayfanın HTML'inde bulunamadı - Element: " + locator);
+        logger.info("✅ " + name + " HTML içinde bulundu (HTTP)");
+    }
+
+    /**
+     * Href'i belirtilen metni içeren en az bir link olduğunu doğrula
+     */
+    @Step("HTTP: '{hrefText}' adresine giden link olmalı")
+    public void verifyHasLinkTo(String hrefText) {
+        verifySuccess();
+        Assert.assertFalse(page.document().hrefsContaining(hrefText).isEmpty(),
+                "'" + hrefText + "' adresine giden link bulunamadı: " + page.url());
+    }
+}
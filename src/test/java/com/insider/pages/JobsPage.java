@@ -2,38 +2,66 @@ package com.insider.pages;
 
 import com.insider.locators.JobsPageLocators;
 import com.insider.utils.WebDriverUtils;
+import com.insider.utils.http.HttpLane;
+import com.insider.utils.http.HttpPage;
 import com.insider.utils.methods.AssertionUtils;
 import com.insider.utils.methods.ClickUtils;
 import com.insider.utils.methods.DropdownUtils;
+import com.insider.utils.methods.JavaScriptUtils;
 import com.insider.utils.methods.WaitUtils;
+import com.insider.utils.wait.NetworkMonitor;
+import com.insider.utils.wait.WaitPolicy;
+import com.insider.utils.wait.WaitProfile;
 import io.qameta.allure.Step;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.json.Json;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.Assert;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 public class JobsPage extends BasePage implements JobsPageLocators {
 
-    // Özel timeout süresi için wait objesi (20 saniye)
-    private static final int FILTER_TIMEOUT_SECONDS = 20;
+    // Filtre dropdown'ları Lever'dan yüklenir; bu yüzden daha uzun bir wait profili (20 saniye)
+    private static final WaitProfile FILTER = WaitPolicy.profile("jobs.filter", Duration.ofSeconds(20));
     private WebDriverWait filterWait;
+    // Select2 filtresi listeyi yeniden render ederken liste bu süre boyunca değişmezse sabitlenmiş sayılır
+    private static final Duration JOB_LIST_QUIET_WINDOW = Duration.ofMillis(Long.getLong("jobs.list.quietMillis", 500));
+    // Filtre listeyi değiştirmediyse (ör. departman URL'den zaten seçili) değişiklik en fazla bu kadar beklenir
+    private static final Duration JOB_LIST_CHANGE_GRACE =
+            Duration.ofMillis(Long.getLong("jobs.list.changeGraceMillis", 2000));
+    // Filtre öncesi liste; yeniden render başlamadan gelen sessizlik eski listeyi sabit saymasın diye
+    private JavaScriptUtils.ItemSnapshot jobListBeforeFilter;
+
+    /**
+     * İş ilanlarının geldiği Lever feed'i; iş listesi tarayıcıda bu feed'den render edilir
+     */
+    public static final String JOBS_FEED_URL = System.getProperty("jobs.feed.url",
+            "https://api.lever.co/v0/postings/useinsider?mode=json");
 
     public JobsPage(WebDriver driver) {
         super(driver);
-        // filterJobs için özel timeout ile wait objesi oluştur
-        this.filterWait = WebDriverUtils.createWait(driver, FILTER_TIMEOUT_SECONDS);
+        // filterJobs için jobs.filter profiliyle wait objesi oluştur
+        this.filterWait = WaitPolicy.waitFor(driver, FILTER);
     }
 
  
 
     @Step("İşleri filtrele - Lokasyon: '{location}', Departman: '{department}'")
     public void filterJobs(String location, String department) {
+        // Filtre seçimlerinin tetiklediği istekleri sonunda beklemek için ağ takibini baştan başlat
+        boolean waitForNetwork = NetworkMonitor.isEnabled() && WaitUtils.trackNetwork(driver);
         // Wait for the filter to be ready using WaitUtils (özel timeout ile)
         WaitUtils.waitForVisibilityWithDynamicWait(filterWait, FILTER_LOCATION_CONTAINER);
         WaitUtils.waitForClickableWithDynamicWait(filterWait, FILTER_LOCATION_CONTAINER);
+        // Filtre seçilmeden önceki listeyi sakla; awaitJobListStable liste değişmeden sabitlendi demez
+        List<WebElement> jobLists = driver.findElements(JOB_LIST);
+        jobListBeforeFilter = jobLists.isEmpty() ? null : JavaScriptUtils.snapshotItems(jobLists.get(0), JOB_ITEM);
         
         // Filter Location - scroll to container
         scrollToElement(FILTER_LOCATION_CONTAINER);
@@ -55,6 +83,10 @@ public class JobsPage extends BasePage implements JobsPageLocators {
         // Select dropdown option by text using utility method (özel timeout ile)
         DropdownUtils.selectDropdownOptionByTextWithDynamicWait(driver, filterWait, FILTER_LOCATION_DROPDOWN_RESULTS, location);
 
+        if (waitForNetwork && WaitUtils.waitForNetworkIdle(driver).idle()) {
+            // Filtrenin istekleri bitti; liste değişmemiş olsa da artık değişmeyecek
+            jobListBeforeFilter = null;
+        }
     }
 
     public boolean isJobListPresent() {
@@ -84,8 +116,24 @@ public class JobsPage extends BasePage implements JobsPageLocators {
     }
 
     public int getJobCount() {
-        List<WebElement> jobs = WaitUtils.waitForAllElementsPresentWithDynamicWait(wait, JOB_ITEM);
-        return jobs.size();
+        return awaitJobListStable();
+    }
+
+    /**
+     * İş listesi (filtre sonrası yeniden render dahil) sabitlenene kadar bekler ve son iş sayısını döndürür
+     * filterJobs sonrası ilk çağrıda liste, filtre öncesi halinden (iş sayısı ya da ilk iş) farklılaşmadan sabit
+     * sayılmaz; jobs.list.changeGraceMillis sonunda hâlâ aynıysa filtre listeyi değiştirmemiş kabul edilir
+     */
+    @Step("İş listesinin sabitlenmesini bekle")
+    public int awaitJobListStable() {
+        WebElement jobList = WaitUtils.waitForPresenceWithDynamicWait(filterWait, JOB_LIST);
+        JavaScriptUtils.ItemSnapshot before = jobListBeforeFilter;
+        jobListBeforeFilter = null;
+        JavaScriptUtils.Quiescence quiescence = JavaScriptUtils.awaitDomQuiescence(driver, jobList, JOB_ITEM, 1,
+                before, JOB_LIST_CHANGE_GRACE, JOB_LIST_QUIET_WINDOW, (int) FILTER.timeout().toSeconds());
+        logger.info("İş listesi sabitlendi: " + quiescence.itemCount() + " iş, " + quiescence.mutations()
+                + " mutasyon, " + quiescence.millis() + " ms");
+        return quiescence.itemCount();
     }
 
     public boolean checkJobDetails(String location, String department) {
@@ -129,7 +177,8 @@ public class JobsPage extends BasePage implements JobsPageLocators {
          */
         void verifyWithFilters(String location, String department) {
             verifyVisible();
-            verifyNotEmpty();
+            // Filtre listeyi yeniden render ederken ilk öğeyle yetinme; liste sabitlenene kadar bekle
+            verifyNotEmpty(awaitJobListStable());
             verifyAtLeastOneMatches(location, department);
         }
         
@@ -137,7 +186,8 @@ public class JobsPage extends BasePage implements JobsPageLocators {
          * Tüm işlerin filtrelerle eşleştiğini doğrula
          */
         void verifyAllMatchFilters(String location, String department) {
-            List<WebElement> jobs = WaitUtils.waitForAllElementsPresentWithDynamicWait(wait, JOB_ITEM);
+            awaitJobListStable();
+            List<WebElement> jobs = driver.findElements(JOB_ITEM);
             for (WebElement job : jobs) {
                 JobInfo jobInfo = extractJobInfo(job);
                 if (!matchesFilters(jobInfo, location, department)) {
@@ -150,9 +200,8 @@ public class JobsPage extends BasePage implements JobsPageLocators {
         /**
          * İş listesinin boş olmadığını doğrula
          */
-        private void verifyNotEmpty() {
-            List<WebElement> jobs = WaitUtils.waitForAllElementsPresentWithDynamicWait(wait, JOB_ITEM);
-            Assert.assertTrue(jobs.size() > 0, 
+        private void verifyNotEmpty(int jobCount) {
+            Assert.assertTrue(jobCount > 0, 
                 "Filtreleme sonrası hiç iş bulunamadı. Filtreler doğru çalışmıyor olabilir.");
         }
         
@@ -160,7 +209,8 @@ public class JobsPage extends BasePage implements JobsPageLocators {
          * En az bir işin filtrelerle eşleştiğini doğrula
          */
         private void verifyAtLeastOneMatches(String location, String department) {
-            List<WebElement> jobs = WaitUtils.waitForAllElementsPresentWithDynamicWait(wait, JOB_ITEM);
+            // Liste verifyWithFilters'da sabitlendi; tekrar beklemeye gerek yok
+            List<WebElement> jobs = driver.findElements(JOB_ITEM);
             boolean found = jobs.stream()
                     .map(this::extractJobInfo)
                     .anyMatch(jobInfo -> matchesFilters(jobInfo, location, department));
@@ -222,4 +272,68 @@ public class JobsPage extends BasePage implements JobsPageLocators {
                 "URL '" + expectedUrlPart + "' içermiyor");
         attachScreenshot("URL Doğrulama - " + expectedUrlPart);
     }
+
+    /**
+     * İş ilanlarının tarayıcısız (HTTP) görünümü
+     */
+    public static JobsHttpView http(String feedUrl) {
+        return new JobsHttpView(feedUrl);
+    }
+
+    /**
+     * İş listesini Lever feed'inden okur; View Role linklerinin nereye gittiği tarayıcı açmadan kontrol edilir
+     */
+    public static class JobsHttpView extends HttpView {
+
+        JobsHttpView(String feedUrl) {
+            super(feedUrl);
+        }
+
+        /**
+         * Filtrelere uyan ilanların View Role (hostedUrl) linkleri
+         */
+        public List<String> viewRoleLinks(String location, String department) {
+            return viewRoles(location, department).stream().map(ViewRole::url).toList();
+        }
+
+        /**
+         * Filtrelenen ilanların View Role sayfalarının açıldığını ve her sayfanın kendi ilanını gösterdiğini doğrula
+         * Linkler Lever feed'inden gelir: useinsider.com listeyi bu feed'den tarayıcıda oluşturur, sayfanın HTML'inde
+         * link yoktur. Bu yüzden kontrol butonun yönlendirmesini değil, ilan sayfalarının canlı olduğunu doğrular.
+         */
+        @Step("HTTP: View Role sayfalarının filtrelenen ilanları gösterdiğini doğrula")
+        public void verifyViewRolePagesShowPostings(String location, String department) {
+            List<ViewRole> roles = viewRoles(location, department);
+            Assert.assertFalse(roles.isEmpty(), "Filtrelere uyan ilan bulunamadı. Beklenen: Lokasyon='"
+                    + location + "', Departman='" + department + "'");
+            // Linkler eşzamanlı takip edilir
+            List<HttpPage> pages = HttpLane.fetchAll(roles.stream().map(ViewRole::url).toList());
+            for (int i = 0; i < roles.size(); i++) {
+                HttpPage role = pages.get(i);
+                Assert.assertTrue(role.isSuccess() && role.title().contains(roles.get(i).title()),
+                        "View Role sayfası '" + roles.get(i).title() + "' ilanını göstermiyor: " + role);
+            }
+            logger.info("✅ " + roles.size() + " View Role sayfası ilanını gösteriyor (HTTP)");
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<ViewRole> viewRoles(String location, String department) {
+            verifySuccess();
+            List<Map<String, Object>> postings = new Json().toType(page.body(), Json.LIST_OF_MAPS_TYPE);
+            List<ViewRole> roles = new ArrayList<>();
+            for (Map<String, Object> posting : postings) {
+                Map<String, Object> categories = (Map<String, Object>) posting.getOrDefault("categories", Map.of());
+                JobInfo jobInfo = new JobInfo(String.valueOf(posting.get("text")),
+                        String.valueOf(categories.get("department")), String.valueOf(categories.get("location")));
+                if (jobInfo.department.contains(department) && jobInfo.location.contains(location)
+                        && posting.get("hostedUrl") != null) {
+                    roles.add(new ViewRole(jobInfo.title, posting.get("hostedUrl").toString()));
+                }
+            }
+            return roles;
+        }
+
+        private record ViewRole(String title, String url) {
+        }
+    }
 }
@@ -1,19 +1,26 @@
 package com.insider.tests;
 
+import com.insider.driver.BrowserSpec;
+import com.insider.driver.DriverPool;
+import com.insider.driver.EngineTimings;
+import com.insider.driver.HtmlUnitSupport;
+import com.insider.driver.PooledDriver;
+import com.insider.driver.UserContextHost;
+import com.insider.listeners.DriverPoolListener;
 import com.insider.listeners.ScreenshotListener;
 import com.insider.pages.CareersPage;
 import com.insider.pages.HomePage;
 import com.insider.pages.JobsPage;
 import com.insider.pages.QAPage;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.insider.utils.CdpWarningFilter;
+import com.insider.utils.OverlayAgent;
+import com.insider.utils.methods.CookieUtils;
+import com.insider.utils.methods.WaitUtils;
+import com.insider.utils.wait.NetworkMonitor;
+import com.insider.utils.wait.TestDeadline;
 import io.qameta.allure.Step;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.firefox.FirefoxDriver;
-import org.openqa.selenium.firefox.FirefoxOptions;
-import org.openqa.selenium.logging.LogType;
-import org.openqa.selenium.logging.LoggingPreferences;
+import org.testng.Reporter;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Listeners;
@@ -23,23 +30,24 @@ import org.testng.annotations.Parameters;
 import java.io.BufferedReader;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.OutputStream;
-import java.io.PrintStream;
+import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-import java.util.logging.Level;
 
-@Listeners({ ScreenshotListener.class })
+@Listeners({ ScreenshotListener.class, DriverPoolListener.class })
 public class BaseTest {
 
+    protected static final String BASE_URL = "https://useinsider.com";
+    public static final String ENGINE_ATTRIBUTE = "engine";
+
     protected ThreadLocal<WebDriver> driver = new ThreadLocal<>();
-    
-    // Orijinal System.err'i sakla (sonsuz döngüyü önlemek için)
-    private static final PrintStream ORIGINAL_ERR = System.err;
+    private final ThreadLocal<PooledDriver> lease = new ThreadLocal<>();
     
     static {
-        // ASCII Art Banner
-        printBanner();
+        // ASCII Art Banner (daemon her reload'da tekrar basmasın)
+        if (!Boolean.getBoolean("test.daemon")) {
+            printBanner();
+        }
         
         // Selenium'un java.util.logging (JUL) uyarılarını bastır
         java.util.logging.Logger.getLogger("org.openqa.selenium").setLevel(java.util.logging.Level.SEVERE);
@@ -48,84 +56,58 @@ public class BaseTest {
         java.util.logging.Logger.getLogger("org.openqa.selenium.chromium").setLevel(java.util.logging.Level.SEVERE);
         java.util.logging.Logger.getLogger("org.openqa.selenium.chromium.ChromiumDriver").setLevel(java.util.logging.Level.SEVERE);
         
-        // System.err'i filter eden PrintStream oluştur (CDP uyarılarını bastır)
-        System.setErr(new PrintStream(new OutputStream() {
-            @Override
-            public void write(int b) {
-                // Tek byte için kontrol yapmadan geç
-            }
-            
-            @Override
-            public void write(byte[] b, int off, int len) {
-                String message = new String(b, off, len);
-                // Sadece CDP ile ilgili uyarıları bastır, diğer hataları göster
-                if (!message.contains("Unable to find CDP") && 
-                    !message.contains("Unable to find version of CDP") &&
-                    !message.contains("CdpVersionFinder findNearestMatch") &&
-                    !message.contains("ChromiumDriver lambda$new$5")) {
-                    // Orijinal System.err'e yaz (gerçek hatalar için)
-                    ORIGINAL_ERR.print(message);
-                }
-                // CDP uyarılarını tamamen sessizce yok say
-            }
-        }));
+        // CDP uyarılarını System.err'den filtrele (JVM başına bir kez; daemon reload'ları tekrar sarmaz)
+        CdpWarningFilter.install();
     }
 
     @BeforeMethod
-    @Parameters({"browser", "headless"})
-    public void setUp(@Optional("chrome") String browser, @Optional("false") String headless) throws java.net.MalformedURLException {
-        WebDriver webDriver;
-        String gridUrl = System.getProperty("selenium.grid.url");
-        boolean isHeadless = Boolean.parseBoolean(headless);
-
-        if (gridUrl != null && !gridUrl.isEmpty()) {
-            // Remote Execution
-            if (browser.equalsIgnoreCase("chrome")) {
-                ChromeOptions options = createChromeOptions(isHeadless);
-                webDriver = new org.openqa.selenium.remote.RemoteWebDriver(java.net.URI.create(gridUrl).toURL(),
-                        options);
-            } else if (browser.equalsIgnoreCase("firefox")) {
-                FirefoxOptions options = createFirefoxOptions(isHeadless);
-                webDriver = new org.openqa.selenium.remote.RemoteWebDriver(java.net.URI.create(gridUrl).toURL(),
-                        options);
-            } else {
-                throw new IllegalArgumentException("Browser not supported for grid: " + browser);
-            }
+    @Parameters({"browser", "headless", "profile"})
+    public void setUp(Method method, @Optional("chrome") String browser, @Optional("false") String headless,
+                      @Optional("faithful") String profile) {
+        // @HtmlUnitCompatible testler routing açıksa rendering gerektirmeyen HtmlUnit üzerinde çalışır
+        if (HtmlUnitSupport.routes(method)) {
+            browser = HtmlUnitSupport.BROWSER;
+        }
+        BrowserSpec spec = BrowserSpec.of(browser, Boolean.parseBoolean(headless), profile);
+        Reporter.getCurrentTestResult().setAttribute(ENGINE_ATTRIBUTE, EngineTimings.engineOf(spec));
+        if (UserContextHost.isEnabled() && !spec.browser().equals(HtmlUnitSupport.BROWSER)) {
+            // Paylaşılan browser içinde izole bir BiDi user context aç
+            driver.set(UserContextHost.getInstance().open(spec));
         } else {
-            // Local Execution
-            if (browser.equalsIgnoreCase("chrome")) {
-                WebDriverManager.chromedriver().setup();
-                ChromeOptions options = createChromeOptions(isHeadless);
-                webDriver = new ChromeDriver(options);
-            } else if (browser.equalsIgnoreCase("firefox")) {
-                WebDriverManager.firefoxdriver().setup();
-                FirefoxOptions options = createFirefoxOptions(isHeadless);
-                webDriver = new FirefoxDriver(options);
-            } else {
-                throw new IllegalArgumentException("Browser not supported: " + browser);
-            }
+            // Havuzdan sıcak bir oturum kirala (yoksa yeni browser başlatılır)
+            PooledDriver pooled = DriverPool.getInstance().lease(spec);
+            lease.set(pooled);
+            driver.set(pooled.getDriver());
         }
 
-        webDriver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
-        
-        // Headless modda viewport boyutunu açıkça ayarla
-        if (isHeadless) {
-            // Headless modda window.maximize() güvenilir çalışmayabilir
-            // Bu yüzden viewport boyutunu açıkça ayarlıyoruz
-            webDriver.manage().window().setSize(new org.openqa.selenium.Dimension(1920, 1080));
-        } else {
-            webDriver.manage().window().maximize();
+        // Kayıtlı çerez/storage snapshot'ını ilk navigasyondan önce yükle (consent adımı atlanır)
+        if (CookieUtils.isStateSnapshotEnabled()) {
+            CookieUtils.restoreState(getDriver(), BASE_URL);
         }
-        
-        driver.set(webDriver);
+
+        // Çerez banner'ı gibi overlay'ler render oldukları anda sayfa içinde kapatılır
+        if (OverlayAgent.isEnabled()) {
+            OverlayAgent.install(getDriver());
+        }
+
+        // Test bütçesi oturum hazır olduktan sonra başlar; tüm wait'ler kalan süreyle sınırlanır
+        TestBudget budget = method.getAnnotation(TestBudget.class);
+        TestDeadline.start(method.getDeclaringClass().getSimpleName() + "#" + method.getName(),
+                Duration.ofSeconds(budget != null ? budget.seconds() : TestDeadline.DEFAULT_BUDGET_SECONDS));
     }
 
     @AfterMethod
     public void tearDown() {
-        if (driver.get() != null) {
-            driver.get().quit();
-            driver.remove();
+        TestDeadline.clear();
+        if (lease.get() != null) {
+            // quit() yerine oturumu sıfırlayıp havuza geri ver
+            DriverPool.getInstance().release(lease.get());
+            lease.remove();
+        } else if (driver.get() != null && UserContextHost.isEnabled() && !HtmlUnitSupport.isHtmlUnit(driver.get())) {
+            // User context'i tüm pencereleri ve çerezleriyle birlikte kaldır
+            UserContextHost.getInstance().close(driver.get());
         }
+        driver.remove();
     }
 
     public WebDriver getDriver() {
@@ -140,7 +122,7 @@ public class BaseTest {
     @Step("Ana sayfayı aç")
     protected HomePage openHomePage() {
         HomePage homePage = new HomePage(getDriver());
-        homePage.navigateTo("https://useinsider.com/");
+        homePage.navigateTo(BASE_URL + "/");
         return homePage;
     }
 
@@ -175,7 +157,18 @@ public class BaseTest {
      */
     @Step("'{url}' adresine git")
     protected void goToPage(String url) {
-        getDriver().get(url);
+        if (NetworkMonitor.isEnabled()) {
+            // Load event'inden sonra başlayan XHR/fetch çağrıları da bitene kadar bekle
+            WaitUtils.trackNetwork(getDriver());
+            getDriver().get(url);
+            WaitUtils.waitForNetworkIdle(getDriver());
+        } else {
+            getDriver().get(url);
+        }
+        if (OverlayAgent.isEnabled()) {
+            // Preload desteklemeyen oturumlarda agent yeni dokümana tekrar enjekte edilir
+            OverlayAgent.install(getDriver());
+        }
     }
 
     /**
@@ -183,62 +176,11 @@ public class BaseTest {
      */
     @Step("QA kariyer sayfasına git")
     protected void goToQACareersPage() {
-        goToPage("https://useinsider.com/careers/quality-assurance/");
+        goToPage(BASE_URL + "/careers/quality-assurance/");
     }
 
     // ==================== HELPER METHODS ====================
 
-    /**
-     * ChromeOptions oluşturur ve CDP uyarılarını bastırır
-     * @param headless true ise headless mode aktif olur
-     */
-    private ChromeOptions createChromeOptions(boolean headless) {
-        ChromeOptions options = new ChromeOptions();
-        
-        // Headless modu parametreye göre ayarla
-        if (headless) {
-            options.addArguments("--headless=new");
-        }
-        options.addArguments("--remote-allow-origins=*");
-        options.addArguments("--start-maximized");
-        options.addArguments("--disable-gpu");
-        options.addArguments("--no-sandbox");
-        options.addArguments("--disable-dev-shm-usage");
-        // Chrome'un kendi log seviyesini ayarla (3 = sadece fatal hatalar)
-        options.addArguments("--log-level=3");
-        // Chrome'un logging output'unu devre dışı bırak
-        options.addArguments("--disable-logging");
-        options.addArguments("--silent");
-        
-        // Selenium logging preferences - CDP uyarılarını bastır
-        LoggingPreferences loggingPrefs = new LoggingPreferences();
-        loggingPrefs.enable(LogType.BROWSER, Level.SEVERE);
-        loggingPrefs.enable(LogType.DRIVER, Level.SEVERE);
-        loggingPrefs.enable(LogType.PERFORMANCE, Level.SEVERE);
-        options.setCapability("goog:loggingPrefs", loggingPrefs);
-        
-        // CDP uyarılarını bastırmak için experimental options
-        options.setExperimentalOption("excludeSwitches", new String[]{"enable-logging"});
-        options.setExperimentalOption("useAutomationExtension", false);
-        
-        return options;
-    }
-
-    /**
-     * FirefoxOptions oluşturur
-     * @param headless true ise headless mode aktif olur
-     */
-    private FirefoxOptions createFirefoxOptions(boolean headless) {
-        FirefoxOptions options = new FirefoxOptions();
-        
-        // Headless modu parametreye göre ayarla
-        if (headless) {
-            options.addArguments("--headless");
-        }
-        
-        return options;
-    }
-
     /**
      * ASCII Art Banner yazdırır (banner.txt dosyasından okur veya terminal genişliğine göre kompakt gösterir)
      */
@@ -0,0 +1,15 @@
+package com.insider.tests;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a test that only checks DOM-level facts (titles, element presence, text) and can therefore run on HtmlUnit
+ * With htmlunit.routing enabled (mvn test -Phtmlunit) such tests run on HtmlUnit instead of the suite's browser.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface HtmlUnitCompatible {
+}
@@ -0,0 +1,33 @@
+package com.insider.tests;
+
+import com.insider.pages.CareersPage;
+import com.insider.pages.HomePage;
+import com.insider.pages.JobsPage;
+import org.testng.annotations.Test;
+
+/**
+ * Markup-level checks over the HTTP lane; no browser is started, so these run in milliseconds
+ */
+public class InsiderCareerHttpTest {
+
+    private static final String BASE_URL = BaseTest.BASE_URL;
+    private static final String TEST_LOCATION = "Istanbul, Turkiye";
+    private static final String TEST_DEPARTMENT = "Quality Assurance";
+
+    @Test(description = "Ana sayfa başlığını tarayıcı açmadan doğrula")
+    public void testHomePageTitleOverHttp() {
+        HomePage.http(BASE_URL + "/").verifyTitleContains("Insider");
+    }
+
+    @Test(description = "Kariyer sayfası bloklarının HTML içinde olduğunu doğrula")
+    public void testCareersPageBlocksOverHttp() {
+        CareersPage.http(BASE_URL + "/careers/").verifyBlocksArePresent();
+    }
+
+    @Test(description = "QA ilanlarının View Role sayfalarının açılıp ilanı gösterdiğini doğrula")
+    public void testViewRolePagesShowPostingsOverHttp() {
+        // Butonun yönlendirmesi tarayıcıdaki testViewRoleButtonRedirectsToLever ile kontrol edilir
+        JobsPage.http(JobsPage.JOBS_FEED_URL)
+                .verifyViewRolePagesShowPostings(TEST_LOCATION, TEST_DEPARTMENT);
+    }
+}
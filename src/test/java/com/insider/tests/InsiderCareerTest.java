@@ -13,6 +13,7 @@ public class InsiderCareerTest extends BaseTest {
     private static final String TEST_DEPARTMENT = "Quality Assurance";
 
     @Test(priority = 1, description = "1- Insider ana sayfasının açıldığını ve başlığın doğru olduğunu doğrula")
+    @HtmlUnitCompatible
     public void testHomePageOpensAndDisplaysCorrectTitle() {
         // Insider ana sayfasının açıldığını ve başlığın doğru olduğunu doğrula
         HomePage homePage = openHomePage();
@@ -34,6 +35,7 @@ public class InsiderCareerTest extends BaseTest {
     }
 
     @Test(priority = 3, description = "3- QA işlerini filtrele ve iş listesinin görünür olduğunu doğrula")
+    @TestBudget(seconds = 90)
     public void testFilterQAJobs() {
         // QA işlerini filtrele ve iş listesinin görünür olduğunu doğrula
         goToQACareersPage();
@@ -47,6 +49,7 @@ public class InsiderCareerTest extends BaseTest {
     }
 
     @Test(priority = 4, description = "4- Listelenen tüm iş ilanlarının filtrelere uygun olduğunu doğrula")
+    @TestBudget(seconds = 90)
     public void testVerifyFilteredJobsMatchCriteria() {
         // Listelenen tüm iş ilanlarının belirtilen filtre kriterlerine uygun olduğunu doğrula
         goToQACareersPage();
@@ -0,0 +1,16 @@
+package com.insider.tests;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Total time a test may take once its session is ready, across all of its waits
+ * Overrides the suite default (test.budget.seconds); every wait is capped at what is left (TestDeadline).
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface TestBudget {
+    long seconds();
+}
@@ -0,0 +1,47 @@
+package com.insider.utils;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+/**
+ * Filters the CDP version warnings Selenium prints to System.err, passing everything else through
+ * Installed once per JVM; this class sits outside the daemon's reloadable packages, so reloading BaseTest neither
+ * stacks another wrapper around System.err nor keeps the reloaded class loader reachable from it.
+ */
+public final class CdpWarningFilter {
+
+    // Orijinal System.err'i sakla (sonsuz döngüyü önlemek için)
+    private static final PrintStream ORIGINAL_ERR = System.err;
+    private static boolean installed;
+
+    private CdpWarningFilter() {
+    }
+
+    public static synchronized void install() {
+        if (installed) {
+            return;
+        }
+        installed = true;
+        // System.err'i filter eden PrintStream oluştur (CDP uyarılarını bastır)
+        System.setErr(new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+                // Tek byte için kontrol yapmadan geç
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                String message = new String(b, off, len);
+                // Sadece CDP ile ilgili uyarıları bastır, diğer hataları göster
+                if (!message.contains("Unable to find CDP") &&
+                    !message.contains("Unable to find version of CDP") &&
+                    !message.contains("CdpVersionFinder findNearestMatch") &&
+                    !message.contains("ChromiumDriver lambda$new$5")) {
+                    // Orijinal System.err'e yaz (gerçek hatalar için)
+                    ORIGINAL_ERR.print(message);
+                }
+                // CDP uyarılarını tamamen sessizce yok say
+            }
+        }));
+    }
+}
@@ -0,0 +1,121 @@
+package com.insider.utils;
+
+import com.insider.driver.BrowserSpec;
+import com.insider.driver.CdpBrowser;
+import com.insider.driver.CdpTab;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Read-only checks on many pages at once, each page in its own CDP tab of one Chrome
+ * Companion to WebDriverUtils for verification that doesn't interact with the page: every URL is loaded and read on
+ * its own virtual thread, with CdpBrowser bounding how many tabs are open at a time. Readers get a CdpTab and use
+ * the page objects' locators:
+ *
+ *   try (MultiTabReader reader = MultiTabReader.open(spec)) {
+ *       List<Boolean> present = reader.readAll(urls, tab -> tab.exists(CareersPageLocators.TEAMS_BLOCK));
+ *   }
+ */
+public class MultiTabReader implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(MultiTabReader.class);
+
+    private static final AtomicLong PAGES = new AtomicLong();
+    private static final AtomicLong ELAPSED_NANOS = new AtomicLong();
+
+    private final CdpBrowser browser;
+
+    private MultiTabReader(CdpBrowser browser) {
+        this.browser = browser;
+    }
+
+    public static MultiTabReader open(BrowserSpec spec) {
+        return new MultiTabReader(CdpBrowser.start(spec));
+    }
+
+    /**
+     * Load every URL in a tab and apply the reader to it; results are in the order of the URLs
+     */
+    public <T> List<T> readAll(List<String> urls, Function<CdpTab, T> reader) {
+        long start = System.nanoTime();
+        List<Future<T>> pending = new ArrayList<>(urls.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String url : urls) {
+                pending.add(executor.submit(() -> read(url, reader)));
+            }
+            List<T> results = new ArrayList<>(urls.size());
+            for (Future<T> result : pending) {
+                results.add(result.get());
+            }
+            record(urls.size(), System.nanoTime() - start);
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reading pages", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException runtime ? runtime
+                    : new IllegalStateException("Reading a page failed", e.getCause());
+        }
+    }
+
+    /**
+     * Load one URL in a tab and apply the reader to it
+     */
+    public <T> T read(String url, Function<CdpTab, T> reader) throws InterruptedException {
+        CdpTab tab = browser.acquire();
+        boolean loaded = false;
+        try {
+            tab.navigate(url);
+            loaded = true;
+            return reader.apply(tab);
+        } finally {
+            // Yüklenemeyen sayfanın geç gelen load event'i sonraki okuyucunun navigasyonunu tamamlamasın
+            if (loaded) {
+                browser.release(tab);
+            } else {
+                browser.discard(tab);
+            }
+        }
+    }
+
+    /**
+     * Tabs this reader keeps open at once
+     */
+    public int maxTabs() {
+        return browser.maxTabs();
+    }
+
+    @Override
+    public void close() {
+        browser.close();
+    }
+
+    /**
+     * Pages read over CDP tabs and their throughput, e.g. "CDP tabs: pages=24 in 3120 ms (7.7 pages/s)"
+     */
+    public static String summary() {
+        long pages = PAGES.get();
+        double seconds = ELAPSED_NANOS.get() / 1_000_000_000.0;
+        return String.format("CDP tabs: pages=%d in %d ms (%.1f pages/s)", pages, ELAPSED_NANOS.get() / 1_000_000,
+                seconds > 0 ? pages / seconds : 0);
+    }
+
+    public static boolean hasReadPages() {
+        return PAGES.get() > 0;
+    }
+
+    private void record(int pages, long nanos) {
+        PAGES.addAndGet(pages);
+        ELAPSED_NANOS.addAndGet(nanos);
+        logger.info(String.format("Read %d pages over %d CDP tabs in %d ms (%.1f pages/s)", pages, browser.maxTabs(),
+                nanos / 1_000_000, nanos > 0 ? pages / (nanos / 1_000_000_000.0) : 0));
+    }
+}
@@ -0,0 +1,210 @@
+package com.insider.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.bidi.BiDi;
+import org.openqa.selenium.bidi.Command;
+import org.openqa.selenium.bidi.HasBiDi;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Dismisses cookie banners and similar overlays inside the page, the moment they render
+ * A small script watches the document with a MutationObserver and clicks every visible element matching one of
+ * the configured selectors (accept / close buttons), so overlays never intercept a test's clicks and no WebDriver
+ * round trip is spent on them. The script is registered once per session for every new document of the current
+ * window (BiDi preload script, otherwise CDP Page.addScriptToEvaluateOnNewDocument); sessions with neither, such
+ * as HtmlUnit, get it injected into the current document on each install call, i.e. after each goToPage.
+ *
+ * Dismissals are counted in the page's sessionStorage and collected into the session's count when the session is
+ * reset or quit. Counts of an origin the window has left before that are not seen.
+ *
+ * System properties:
+ * overlay.agent.enabled   - install the agent on every test session (default: false)
+ * overlay.agent.selectors - ';' separated CSS selectors of the elements to click (default: #wt-cli-accept-all-btn)
+ */
+public final class OverlayAgent {
+    private static final Logger logger = LoggerFactory.getLogger(OverlayAgent.class);
+
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("overlay.agent.enabled", "false"));
+    private static final List<String> SELECTORS = Arrays.stream(
+                    System.getProperty("overlay.agent.selectors", "#wt-cli-accept-all-btn").split(";"))
+            .map(String::trim).filter(selector -> !selector.isEmpty()).toList();
+
+    private static final String STORAGE_KEY = "__overlayAgent";
+
+    // Aynı dokümana ikinci kez yüklenirse (preload + manuel enjeksiyon) tek observer çalışır
+    private static final String AGENT_JS =
+        "(function(selectors, key) {" +
+        "  if (window[key]) return;" +
+        "  window[key] = true;" +
+        "  var clicked = new WeakSet();" +
+        "  function record(selector) {" +
+        "    try {" +
+        "      var counts = JSON.parse(sessionStorage.getItem(key) || '{}');" +
+        "      counts[selector] = (counts[selector] || 0) + 1;" +
+        "      sessionStorage.setItem(key, JSON.stringify(counts));" +
+        "    } catch (e) {}" +
+        "  }" +
+        "  function visible(el) {" +
+        "    return el.getClientRects().length > 0 && getComputedStyle(el).visibility !== 'hidden';" +
+        "  }" +
+        "  function sweep() {" +
+        "    selectors.forEach(function(selector) {" +
+        "      var matches;" +
+        "      try { matches = document.querySelectorAll(selector); } catch (e) { return; }" +
+        "      Array.prototype.forEach.call(matches, function(el) {" +
+        "        if (clicked.has(el) || !visible(el)) return;" +
+        "        clicked.add(el); el.click(); record(selector);" +
+        "      });" +
+        "    });" +
+        "  }" +
+        "  new MutationObserver(sweep).observe(document, {childList: true, subtree: true, attributes: true," +
+        "      attributeFilter: ['style', 'class', 'hidden']});" +
+        "  sweep();" +
+        "})(%s, '%s');";
+
+    // Sayfadaki sayaçları okuyup sıfırlar
+    private static final String COLLECT_JS =
+        "try {" +
+        "  var counts = sessionStorage.getItem(arguments[0]);" +
+        "  sessionStorage.removeItem(arguments[0]);" +
+        "  return counts;" +
+        "} catch (e) { return null; }";
+
+    private static final Map<WebDriver, OverlayAgent> AGENTS = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    private static final LongAdder SESSIONS = new LongAdder();
+    private static final Map<String, LongAdder> DISMISSALS = new ConcurrentHashMap<>();
+
+    private final WebDriver driver;
+    private final String source;
+    private final Map<String, Long> counts = new TreeMap<>();
+    private BiDi bidi;
+    private String preloadScript;
+    private String protocol;
+
+    private OverlayAgent(WebDriver driver) {
+        this.driver = driver;
+        this.source = String.format(AGENT_JS, new Json().toJson(SELECTORS), STORAGE_KEY);
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Register the agent for the session's current window; also injects it into the current document
+     */
+    public static void install(WebDriver driver) {
+        OverlayAgent agent = AGENTS.computeIfAbsent(driver, key -> {
+            SESSIONS.increment();
+            return new OverlayAgent(key);
+        });
+        agent.register();
+    }
+
+    /**
+     * Collect the session's dismissals and drop its agent, when the session is reset or quit
+     * @return dismissals per selector in this session
+     */
+    public static Map<String, Long> forget(WebDriver driver) {
+        OverlayAgent agent = AGENTS.remove(driver);
+        if (agent == null) {
+            return Map.of();
+        }
+        agent.collect();
+        agent.unregister();
+        if (!agent.counts.isEmpty()) {
+            logger.info("Overlay agent dismissed " + agent.counts + " in this session");
+        }
+        return agent.counts;
+    }
+
+    public static String summary() {
+        Map<String, Long> totals = new TreeMap<>();
+        DISMISSALS.forEach((selector, count) -> totals.put(selector, count.sum()));
+        return String.format("Overlay agent: sessions=%d dismissals=%d %s", SESSIONS.sum(),
+                totals.values().stream().mapToLong(Long::longValue).sum(), totals);
+    }
+
+    private synchronized void register() {
+        boolean first = protocol == null;
+        if (first) {
+            try {
+                Optional<BiDi> session = driver instanceof HasBiDi hasBiDi ? hasBiDi.maybeGetBiDi() : Optional.empty();
+                if (session.isPresent()) {
+                    Map<?, ?> result = session.get().send(new Command<>("script.addPreloadScript",
+                            Map.of("functionDeclaration", "() => { " + source + " }",
+                                    "contexts", List.of(driver.getWindowHandle())), Map.class));
+                    bidi = session.get();
+                    preloadScript = (String) result.get("script");
+                    protocol = "bidi";
+                } else if (driver instanceof HasCdp cdp) {
+                    Map<String, Object> result = cdp.executeCdpCommand("Page.addScriptToEvaluateOnNewDocument",
+                            Map.of("source", source));
+                    preloadScript = (String) result.get("identifier");
+                    protocol = "cdp";
+                } else {
+                    protocol = "inject";
+                }
+                logger.debug("Overlay agent registered via " + protocol + " for " + SELECTORS);
+            } catch (WebDriverException e) {
+                logger.warn("Overlay agent could not be preloaded, injecting per page: " + e.getMessage());
+                protocol = "inject";
+            }
+        }
+        // Preload sadece sonraki dokümanlara uygulanır; açık olan doküman için bir kez enjekte edilir
+        if (!first && !"inject".equals(protocol)) {
+            return;
+        }
+        try {
+            ((JavascriptExecutor) driver).executeScript(source);
+        } catch (WebDriverException e) {
+            logger.debug("Overlay agent not injected into the current document: " + e.getMessage());
+        }
+    }
+
+    private synchronized void collect() {
+        try {
+            Object stored = ((JavascriptExecutor) driver).executeScript(COLLECT_JS, STORAGE_KEY);
+            if (stored instanceof String json) {
+                Map<String, Object> page = new Json().toType(json, Json.MAP_TYPE);
+                page.forEach((selector, count) -> {
+                    long dismissed = ((Number) count).longValue();
+                    counts.merge(selector, dismissed, Long::sum);
+                    DISMISSALS.computeIfAbsent(selector, key -> new LongAdder()).add(dismissed);
+                });
+            }
+        } catch (WebDriverException e) {
+            logger.debug("Overlay dismissals could not be collected: " + e.getMessage());
+        }
+    }
+
+    private synchronized void unregister() {
+        try {
+            if ("bidi".equals(protocol)) {
+                bidi.send(new Command<>("script.removePreloadScript", Map.of("script", preloadScript)));
+            } else if ("cdp".equals(protocol)) {
+                ((HasCdp) driver).executeCdpCommand("Page.removeScriptToEvaluateOnNewDocument",
+                        Map.of("identifier", preloadScript));
+            }
+        } catch (WebDriverException e) {
+            logger.debug("Overlay agent preload could not be removed: " + e.getMessage());
+        }
+        protocol = null;
+    }
+}
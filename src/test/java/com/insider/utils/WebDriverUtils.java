@@ -1,10 +1,11 @@
 package com.insider.utils;
 
+import com.insider.utils.wait.ElementConditions;
+import com.insider.utils.wait.WaitPolicy;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,7 +19,6 @@ import java.util.Set;
  */
 public class WebDriverUtils {
     private static final Logger logger = LoggerFactory.getLogger(WebDriverUtils.class);
-    private static final int DEFAULT_TIMEOUT_SECONDS = 10;
 
     /**
      * Navigate to a specific URL
@@ -32,7 +32,7 @@ public class WebDriverUtils {
      * Click on an element with explicit wait
      */
     public static void click(WebDriver driver, WebDriverWait wait, By locator) {
-        wait.until(ExpectedConditions.elementToBeClickable(locator)).click();
+        wait.until(ElementConditions.elementToBeClickable(locator)).click();
         logger.info("Clicked element: " + locator);
     }
 
@@ -40,7 +40,7 @@ public class WebDriverUtils {
      * Click on an element using JavaScript
      */
     public static void clickWithJs(WebDriver driver, WebDriverWait wait, By locator) {
-        WebElement element = wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+        WebElement element = wait.until(ElementConditions.presenceOfElementLocated(locator));
         ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
         logger.info("Clicked element with JS: " + locator);
     }
@@ -49,7 +49,7 @@ public class WebDriverUtils {
      * Send keys to an element with clear before typing
      */
     public static void sendKeys(WebDriver driver, WebDriverWait wait, By locator, String text) {
-        WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        WebElement element = wait.until(ElementConditions.visibilityOfElementLocated(locator));
         element.clear();
         element.sendKeys(text);
         logger.info("Sent keys '" + text + "' to element: " + locator);
@@ -59,7 +59,7 @@ public class WebDriverUtils {
      * Get text from an element
      */
     public static String getText(WebDriver driver, WebDriverWait wait, By locator) {
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator)).getText();
+        return wait.until(ElementConditions.visibilityOfElementLocated(locator)).getText();
     }
 
     /**
@@ -88,13 +88,20 @@ public class WebDriverUtils {
      */
     public static boolean isDisplayed(WebDriver driver, WebDriverWait wait, By locator) {
         try {
-            return wait.until(ExpectedConditions.visibilityOfElementLocated(locator)).isDisplayed();
+            return wait.until(ElementConditions.visibilityOfElementLocated(locator)).isDisplayed();
         } catch (Exception e) {
             logger.warn("Element not displayed: " + locator);
             return false;
         }
     }
 
+    /**
+     * Check if an element is in the DOM right now; implicit wait is zero (WaitPolicy), so this never waits
+     */
+    public static boolean isPresentNow(WebDriver driver, By locator) {
+        return !driver.findElements(locator).isEmpty();
+    }
+
     /**
      * Scroll to an element with smooth behavior
      */
@@ -103,7 +110,7 @@ public class WebDriverUtils {
         ((JavascriptExecutor) driver)
                 .executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", element);
         // Small wait to ensure scroll animation completes
-        wait.until(ExpectedConditions.visibilityOf(element));
+        wait.until(ElementConditions.visibilityOf(element));
         logger.info("Scrolled to element: " + locator);
     }
 
@@ -134,34 +141,34 @@ public class WebDriverUtils {
      * Wait for an element to be visible
      */
     public static WebElement waitForVisibility(WebDriver driver, WebDriverWait wait, By locator) {
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return wait.until(ElementConditions.visibilityOfElementLocated(locator));
     }
 
     /**
      * Wait for an element to be clickable
      */
     public static WebElement waitForClickable(WebDriver driver, WebDriverWait wait, By locator) {
-        return wait.until(ExpectedConditions.elementToBeClickable(locator));
+        return wait.until(ElementConditions.elementToBeClickable(locator));
     }
 
     /**
      * Wait for all elements to be present
      */
     public static void waitForAllElementsPresent(WebDriverWait wait, By locator) {
-        wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(locator));
+        wait.until(ElementConditions.presenceOfAllElementsLocatedBy(locator));
     }
 
     /**
-     * Create a WebDriverWait instance with default timeout
+     * Create a wait with the default WaitPolicy profile
      */
     public static WebDriverWait createWait(WebDriver driver) {
-        return new WebDriverWait(driver, Duration.ofSeconds(DEFAULT_TIMEOUT_SECONDS));
+        return WaitPolicy.waitFor(driver);
     }
 
     /**
-     * Create a WebDriverWait instance with custom timeout
+     * Create a WaitPolicy wait with custom timeout
      */
     public static WebDriverWait createWait(WebDriver driver, int timeoutSeconds) {
-        return new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
+        return WaitPolicy.waitFor(driver, Duration.ofSeconds(timeoutSeconds));
     }
 }
@@ -0,0 +1,265 @@
+package com.insider.utils.http;
+
+import org.openqa.selenium.By;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Minimal HTML reader for the HTTP lane: title, links and element lookup by simple locators
+ * Not a full HTML5 parser: it scans start tags and their attributes, which is enough for markup-level facts
+ * (is an element with this id served, where do the links point) on server-rendered pages.
+ *
+ * Supported locators: By.id, By.className, By.tagName, By.linkText, By.partialLinkText and By.cssSelector with
+ * compound selectors only (tag, #id, .class, [attr], [attr='value'], [attr*='value'], ^=, $=, ~=, comma lists).
+ * XPath and combinators need a browser and are rejected with IllegalArgumentException.
+ */
+public class HtmlDocument {
+
+    private static final Pattern IGNORED = Pattern.compile("<!--.*?-->", Pattern.DOTALL);
+    private static final Pattern RAW_TEXT = Pattern.compile("(<(script|style)\\b[^>]*>).*?(</\\2\\s*>)",
+            Pattern.DOTALL | Pattern.CASE_INSENSITIVE);
+    private static final Pattern TITLE = Pattern.compile("<title\\b[^>]*>(.*?)</title\\s*>",
+            Pattern.DOTALL | Pattern.CASE_INSENSITIVE);
+    private static final Pattern START_TAG = Pattern.compile(
+            "<([a-zA-Z][a-zA-Z0-9-]*)((?:\\s+[^\\s/>=\"']+(?:\\s*=\\s*(?:\"[^\"]*\"|'[^']*'|[^\\s>]+))?)*)\\s*/?>");
+    private static final Pattern ATTRIBUTE = Pattern.compile(
+            "([^\\s/>=\"']+)(?:\\s*=\\s*(?:\"([^\"]*)\"|'([^']*)'|([^\\s>]+)))?");
+    private static final Pattern ANCHOR_END = Pattern.compile("</a\\s*>", Pattern.CASE_INSENSITIVE);
+    private static final Pattern TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern SELECTOR_TAG = Pattern.compile("^([a-zA-Z][a-zA-Z0-9-]*|\\*)?");
+    private static final Pattern SELECTOR_PART = Pattern.compile(
+            "#([\\w-]+)|\\.([\\w-]+)|\\[\\s*([\\w-]+)\\s*(?:([*^$~]?=)\\s*(?:'([^']*)'|\"([^\"]*)\"|([^\\]\\s]+))\\s*)?]");
+    private static final Pattern ENTITY = Pattern.compile("&(#x[0-9a-fA-F]{1,6}|#[0-9]{1,7}|amp|lt|gt|quot|apos|nbsp);");
+    private static final Pattern LOCATOR = Pattern.compile("By\\.(\\w+): (.*)", Pattern.DOTALL);
+
+    private final URI baseUri;
+    private final String title;
+    private final List<Element> elements;
+
+    public HtmlDocument(String html, URI url) {
+        String markup = RAW_TEXT.matcher(IGNORED.matcher(html).replaceAll("")).replaceAll("$1$3");
+        Matcher titleMatcher = TITLE.matcher(markup);
+        this.title = titleMatcher.find() ? normalize(titleMatcher.group(1)) : "";
+        this.elements = parse(markup);
+        this.baseUri = elements.stream()
+                .filter(element -> element.tag().equals("base") && element.attributes().containsKey("href"))
+                .findFirst()
+                .map(element -> resolve(url, element.attribute("href")))
+                .map(URI::create)
+                .orElse(url);
+    }
+
+    /**
+     * A start tag with its attributes; text is only collected for links
+     */
+    public record Element(String tag, Map<String, String> attributes, String text) {
+
+        public String attribute(String name) {
+            return attributes.get(name.toLowerCase(Locale.ROOT));
+        }
+
+        public boolean hasClass(String className) {
+            String classes = attribute("class");
+            return classes != null && Arrays.asList(WHITESPACE.split(classes.trim())).contains(className);
+        }
+    }
+
+    /**
+     * An anchor with its href resolved against the document URL
+     */
+    public record Link(String href, String text) {
+    }
+
+    public String title() {
+        return title;
+    }
+
+    public List<Element> elements() {
+        return elements;
+    }
+
+    /**
+     * Elements matching a Selenium locator, see the class comment for what is supported
+     */
+    public List<Element> findAll(By locator) {
+        Predicate<Element> matcher = matcherFor(locator);
+        return elements.stream().filter(matcher).toList();
+    }
+
+    public boolean contains(By locator) {
+        return elements.stream().anyMatch(matcherFor(locator));
+    }
+
+    /**
+     * Every a[href], resolved to an absolute URL
+     */
+    public List<Link> links() {
+        return elements.stream()
+                .filter(element -> element.tag().equals("a") && element.attributes().containsKey("href"))
+                .map(element -> new Link(resolve(baseUri, element.attribute("href")), element.text()))
+                .toList();
+    }
+
+    /**
+     * Absolute hrefs of the links whose href contains the given text
+     */
+    public List<String> hrefsContaining(String text) {
+        return links().stream().map(Link::href).filter(href -> href.contains(text)).toList();
+    }
+
+    private static List<Element> parse(String markup) {
+        List<Element> parsed = new ArrayList<>();
+        Matcher tag = START_TAG.matcher(markup);
+        while (tag.find()) {
+            String name = tag.group(1).toLowerCase(Locale.ROOT);
+            Map<String, String> attributes = new LinkedHashMap<>();
+            Matcher attribute = ATTRIBUTE.matcher(tag.group(2));
+            while (attribute.find()) {
+                String value = attribute.group(2) != null ? attribute.group(2)
+                        : attribute.group(3) != null ? attribute.group(3)
+                        : attribute.group(4) != null ? attribute.group(4) : "";
+                attributes.putIfAbsent(attribute.group(1).toLowerCase(Locale.ROOT), decode(value));
+            }
+            String text = "";
+            if (name.equals("a")) {
+                Matcher end = ANCHOR_END.matcher(markup);
+                if (end.find(tag.end())) {
+                    text = normalize(TAG.matcher(markup.substring(tag.end(), end.start())).replaceAll(" "));
+                }
+            }
+            parsed.add(new Element(name, Collections.unmodifiableMap(attributes), text));
+        }
+        return Collections.unmodifiableList(parsed);
+    }
+
+    private static Predicate<Element> matcherFor(By locator) {
+        Matcher parts = LOCATOR.matcher(locator.toString());
+        if (!parts.matches()) {
+            throw new IllegalArgumentException("Unsupported locator for the HTTP lane: " + locator);
+        }
+        String value = parts.group(2).trim();
+        return switch (parts.group(1)) {
+            case "id" -> element -> value.equals(element.attribute("id"));
+            case "className" -> element -> element.hasClass(value);
+            case "tagName" -> element -> element.tag().equalsIgnoreCase(value);
+            case "linkText" -> element -> element.tag().equals("a") && element.text().equals(value);
+            case "partialLinkText" -> element -> element.tag().equals("a") && element.text().contains(value);
+            case "cssSelector" -> selector(value);
+            default -> throw new IllegalArgumentException("Unsupported locator for the HTTP lane: " + locator);
+        };
+    }
+
+    private static Predicate<Element> selector(String selectorList) {
+        Predicate<Element> any = element -> false;
+        for (String selector : selectorList.split(",")) {
+            any = any.or(compoundSelector(selector.trim()));
+        }
+        return any;
+    }
+
+    private static Predicate<Element> compoundSelector(String selector) {
+        if (selector.isEmpty()) {
+            throw new IllegalArgumentException("Empty CSS selector");
+        }
+        Matcher tagName = SELECTOR_TAG.matcher(selector);
+        tagName.find();
+        String tag = tagName.group(1);
+        Predicate<Element> matcher = tag == null || tag.equals("*")
+                ? element -> true
+                : element -> element.tag().equalsIgnoreCase(tag);
+        int position = tagName.end();
+        Matcher part = SELECTOR_PART.matcher(selector);
+        while (position < selector.length()) {
+            if (!part.find(position) || part.start() != position) {
+                throw new IllegalArgumentException("Unsupported CSS selector for the HTTP lane: " + selector);
+            }
+            matcher = matcher.and(partMatcher(part));
+            position = part.end();
+        }
+        return matcher;
+    }
+
+    private static Predicate<Element> partMatcher(Matcher part) {
+        if (part.group(1) != null) {
+            String id = part.group(1);
+            return element -> id.equals(element.attribute("id"));
+        }
+        if (part.group(2) != null) {
+            String className = part.group(2);
+            return element -> element.hasClass(className);
+        }
+        String name = part.group(3);
+        String operator = part.group(4);
+        String expected = part.group(5) != null ? part.group(5) : part.group(6) != null ? part.group(6) : part.group(7);
+        if (operator == null) {
+            return element -> element.attribute(name) != null;
+        }
+        return element -> {
+            String actual = element.attribute(name);
+            if (actual == null) {
+                return false;
+            }
+            return switch (operator) {
+                case "*=" -> actual.contains(expected);
+                case "^=" -> actual.startsWith(expected);
+                case "$=" -> actual.endsWith(expected);
+                case "~=" -> Arrays.asList(WHITESPACE.split(actual.trim())).contains(expected);
+                default -> actual.equals(expected);
+            };
+        };
+    }
+
+    private static String resolve(URI base, String href) {
+        try {
+            return base.resolve(href.trim()).toString();
+        } catch (IllegalArgumentException e) {
+            return href;
+        }
+    }
+
+    private static String normalize(String text) {
+        return WHITESPACE.matcher(decode(text)).replaceAll(" ").trim();
+    }
+
+    private static String decode(String text) {
+        if (text.indexOf('&') < 0) {
+            return text;
+        }
+        StringBuilder decoded = new StringBuilder(text.length());
+        Matcher entity = ENTITY.matcher(text);
+        while (entity.find()) {
+            String name = entity.group(1);
+            String replacement = switch (name) {
+                case "amp" -> "&";
+                case "lt" -> "<";
+                case "gt" -> ">";
+                case "quot" -> "\"";
+                case "apos" -> "'";
+                case "nbsp" -> " ";
+                default -> Character.toString(codePoint(name.startsWith("#x")
+                        ? Integer.parseInt(name.substring(2), 16)
+                        : Integer.parseInt(name.substring(1))));
+            };
+            entity.appendReplacement(decoded, Matcher.quoteReplacement(replacement));
+        }
+        entity.appendTail(decoded);
+        return decoded.toString();
+    }
+
+    // HTML'deki gibi: NUL, surrogate ve Unicode aralığı dışındaki sayısal referanslar U+FFFD olur
+    private static int codePoint(int value) {
+        return value == 0 || value > Character.MAX_CODE_POINT
+                || (value >= Character.MIN_SURROGATE && value <= Character.MAX_SURROGATE) ? 0xFFFD : value;
+    }
+}
@@ -0,0 +1,116 @@
+package com.insider.utils.http;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Browserless lane for markup-level checks: fetches pages with java.net.http.HttpClient, follows redirects itself
+ * so the chain can be asserted, and parses the result with HtmlDocument
+ * A fetch takes milliseconds instead of a browser session, so checks that only need the served HTML
+ * (titles, element presence, link targets, redirects) should use this instead of WebDriver.
+ *
+ * System properties:
+ * http.lane.timeoutSeconds - connect and per-request timeout (default: 15)
+ * http.lane.maxRedirects   - redirects followed before a fetch fails (default: 10)
+ * http.lane.userAgent      - User-Agent header, some sites serve bots a different page
+ */
+public class HttpLane {
+    private static final Logger logger = LoggerFactory.getLogger(HttpLane.class);
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(Integer.getInteger("http.lane.timeoutSeconds", 15));
+    private static final int MAX_REDIRECTS = Integer.getInteger("http.lane.maxRedirects", 10);
+    private static final String USER_AGENT = System.getProperty("http.lane.userAgent",
+            "Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/130.0.0.0 Safari/537.36");
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .connectTimeout(TIMEOUT)
+            .build();
+
+    private HttpLane() {
+    }
+
+    /**
+     * Fetch a page, following redirects
+     */
+    public static HttpPage fetch(String url) {
+        return join(fetchAsync(url));
+    }
+
+    /**
+     * Fetch pages concurrently; results are in the order of the given URLs
+     */
+    public static List<HttpPage> fetchAll(Collection<String> urls) {
+        long start = System.nanoTime();
+        List<CompletableFuture<HttpPage>> pending = urls.stream().map(HttpLane::fetchAsync).toList();
+        List<HttpPage> pages = new ArrayList<>(pending.size());
+        for (CompletableFuture<HttpPage> page : pending) {
+            pages.add(join(page));
+        }
+        logger.info("HTTP lane fetched " + pages.size() + " pages in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        return pages;
+    }
+
+    public static CompletableFuture<HttpPage> fetchAsync(String url) {
+        URI uri = URI.create(url);
+        return follow(uri, uri, new ArrayList<>(), System.nanoTime());
+    }
+
+    /**
+     * Final URL a link lands on after redirects
+     */
+    public static URI finalUrl(String url) {
+        return fetch(url).url();
+    }
+
+    private static CompletableFuture<HttpPage> follow(URI requested, URI uri, List<URI> redirects, long start) {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(TIMEOUT)
+                .header("User-Agent", USER_AGENT)
+                .header("Accept", "text/html,application/xhtml+xml,application/json;q=0.9,*/*;q=0.8")
+                .GET()
+                .build();
+        return CLIENT.sendAsync(request, HttpResponse.BodyHandlers.ofString()).thenCompose(response -> {
+            String location = response.headers().firstValue("Location").orElse(null);
+            if (isRedirect(response.statusCode()) && location != null) {
+                if (redirects.size() >= MAX_REDIRECTS) {
+                    return CompletableFuture.failedFuture(new IllegalStateException(
+                            "More than " + MAX_REDIRECTS + " redirects from " + requested + ": " + redirects));
+                }
+                URI next = uri.resolve(location);
+                redirects.add(next);
+                logger.debug("HTTP lane redirect " + response.statusCode() + " " + uri + " -> " + next);
+                return follow(requested, next, redirects, start);
+            }
+            HttpPage page = new HttpPage(requested, uri, response.statusCode(), response.headers(), response.body(),
+                    redirects, (System.nanoTime() - start) / 1_000_000);
+            logger.debug("HTTP lane fetched " + page);
+            return CompletableFuture.completedFuture(page);
+        });
+    }
+
+    private static boolean isRedirect(int status) {
+        return status == 301 || status == 302 || status == 303 || status == 307 || status == 308;
+    }
+
+    private static HttpPage join(CompletableFuture<HttpPage> page) {
+        try {
+            return page.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("HTTP lane request failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+}
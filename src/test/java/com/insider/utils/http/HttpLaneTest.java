@@ -0,0 +1,133 @@
+package com.insider.utils.http;
+
+import com.insider.pages.CareersPage;
+import com.insider.pages.JobsPage;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * HTTP lane against a local stand-in server: redirects, titles, links, locators and the page object views
+ */
+public class HttpLaneTest {
+
+    private static final String PAGE = "<!DOCTYPE html><html><head><title>Careers &amp; Culture | Insider</title>"
+            + "<script>var markup = '<a href=\"/in-script\">';</script></head><body>"
+            + "<!-- <div id=\"commented\"></div> -->"
+            + "<section id=\"career-our-location\"></section>"
+            + "<section id='career-find-our-calling' class=\"elementor-section teams\"></section>"
+            + "<section data-id=\"a8e7b90\"></section>"
+            + "<a class=\"btn loadmore\" href=\"/jobs/\">See <b>all</b>\n teams</a>"
+            + "<a href=\"https://jobs.example.com/role?x=1&amp;y=2\">View Role</a>"
+            + "</body></html>";
+
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeClass
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> respond(exchange, 200, "text/html; charset=utf-8", PAGE));
+        server.createContext("/old", exchange -> redirect(exchange, 301, "/moved"));
+        server.createContext("/moved", exchange -> redirect(exchange, 302, baseUrl + "/"));
+        server.createContext("/loop", exchange -> redirect(exchange, 307, "/loop"));
+        server.createContext("/role/", exchange -> redirect(exchange, 302, "/lever/role"));
+        server.createContext("/lever/", exchange -> respond(exchange, 200, "text/html", "<title>Insider. - QA Engineer</title>"));
+        server.createContext("/feed", exchange -> respond(exchange, 200, "application/json", "["
+                + "{\"text\":\"QA Engineer\",\"hostedUrl\":\"" + baseUrl + "/role/1\","
+                + "\"categories\":{\"department\":\"Quality Assurance\",\"location\":\"Istanbul, Turkiye\"}},"
+                + "{\"text\":\"Sales\",\"hostedUrl\":\"" + baseUrl + "/elsewhere\","
+                + "\"categories\":{\"department\":\"Sales\",\"location\":\"London\"}}]"));
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void followsRedirectsAndRecordsTheChain() {
+        HttpPage page = HttpLane.fetch(baseUrl + "/old");
+        Assert.assertEquals(page.status(), 200);
+        Assert.assertEquals(page.url(), URI.create(baseUrl + "/"));
+        Assert.assertEquals(page.redirects(), List.of(URI.create(baseUrl + "/moved"), URI.create(baseUrl + "/")));
+        Assert.assertEquals(page.title(), "Careers & Culture | Insider");
+    }
+
+    @Test
+    public void failsOnRedirectLoops() {
+        Assert.expectThrows(IllegalStateException.class, () -> HttpLane.fetch(baseUrl + "/loop"));
+    }
+
+    @Test
+    public void fetchAllKeepsTheOrderOfTheUrls() {
+        List<HttpPage> pages = HttpLane.fetchAll(List.of(baseUrl + "/lever/a", baseUrl + "/old", baseUrl + "/"));
+        Assert.assertEquals(pages.get(0).title(), "Insider. - QA Engineer");
+        Assert.assertEquals(pages.get(1).redirects().size(), 2);
+        Assert.assertTrue(pages.get(2).redirects().isEmpty());
+    }
+
+    @Test
+    public void extractsLinksAndMatchesLocators() {
+        HtmlDocument document = HttpLane.fetch(baseUrl + "/").document();
+        Assert.assertEquals(document.links(), List.of(
+                new HtmlDocument.Link(baseUrl + "/jobs/", "See all teams"),
+                new HtmlDocument.Link("https://jobs.example.com/role?x=1&y=2", "View Role")));
+        Assert.assertTrue(document.contains(By.id("career-find-our-calling")));
+        Assert.assertTrue(document.contains(By.cssSelector("section[data-id='a8e7b90']")));
+        Assert.assertTrue(document.contains(By.cssSelector("a.btn.loadmore, #missing")));
+        Assert.assertTrue(document.contains(By.className("teams")));
+        Assert.assertTrue(document.contains(By.linkText("View Role")));
+        Assert.assertFalse(document.contains(By.id("commented")));
+        Assert.assertEquals(document.findAll(By.tagName("section")).size(), 3);
+        Assert.expectThrows(IllegalArgumentException.class,
+                () -> document.contains(By.xpath("//h3[contains(text(), 'Quality Assurance')]")));
+        Assert.expectThrows(IllegalArgumentException.class, () -> document.contains(By.cssSelector("body > a")));
+    }
+
+    @Test
+    public void replacesInvalidNumericReferences() {
+        HtmlDocument document = new HtmlDocument(
+                "<title>&#x49;&#110;&#x1F600; &#x110000;&#9999999;&#xD800;&#0;</title>", URI.create(baseUrl + "/"));
+        Assert.assertEquals(document.title(), "In\uD83D\uDE00 \uFFFD\uFFFD\uFFFD\uFFFD");
+    }
+
+    @Test
+    public void pageObjectViewsRunAgainstTheStandIn() {
+        CareersPage.http(baseUrl + "/").verifyBlocksArePresent();
+        JobsPage.JobsHttpView jobs = JobsPage.http(baseUrl + "/feed");
+        Assert.assertEquals(jobs.viewRoleLinks("Istanbul, Turkiye", "Quality Assurance"), List.of(baseUrl + "/role/1"));
+        jobs.verifyViewRolePagesShowPostings("Istanbul, Turkiye", "Quality Assurance");
+    }
+
+    private static void redirect(HttpExchange exchange, int status, String location) throws IOException {
+        exchange.getResponseHeaders().set("Location", location);
+        exchange.sendResponseHeaders(status, -1);
+        exchange.close();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.insider.utils.http;
+
+import java.net.URI;
+import java.net.http.HttpHeaders;
+import java.util.List;
+
+/**
+ * A page fetched over the HTTP lane: final response, the redirect chain that led to it and the parsed markup
+ */
+public class HttpPage {
+    private final URI requestedUrl;
+    private final URI url;
+    private final int status;
+    private final HttpHeaders headers;
+    private final String body;
+    private final List<URI> redirects;
+    private final long elapsedMillis;
+    private volatile HtmlDocument document;
+
+    HttpPage(URI requestedUrl, URI url, int status, HttpHeaders headers, String body, List<URI> redirects,
+             long elapsedMillis) {
+        this.requestedUrl = requestedUrl;
+        this.url = url;
+        this.status = status;
+        this.headers = headers;
+        this.body = body;
+        this.redirects = List.copyOf(redirects);
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public URI requestedUrl() {
+        return requestedUrl;
+    }
+
+    /**
+     * URL after all redirects were followed
+     */
+    public URI url() {
+        return url;
+    }
+
+    public int status() {
+        return status;
+    }
+
+    public HttpHeaders headers() {
+        return headers;
+    }
+
+    public String body() {
+        return body;
+    }
+
+    /**
+     * Every Location followed, in order; empty when the first response was final
+     */
+    public List<URI> redirects() {
+        return redirects;
+    }
+
+    public long elapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public boolean isSuccess() {
+        return status >= 200 && status < 300;
+    }
+
+    /**
+     * Parsed markup, built on first use
+     */
+    public HtmlDocument document() {
+        HtmlDocument parsed = document;
+        if (parsed == null) {
+            parsed = new HtmlDocument(body, url);
+            document = parsed;
+        }
+        return parsed;
+    }
+
+    public String title() {
+        return document().title();
+    }
+
+    @Override
+    public String toString() {
+        return status + " " + url + (redirects.isEmpty() ? "" : " (" + redirects.size() + " redirects from "
+                + requestedUrl + ")") + " in " + elapsedMillis + " ms";
+    }
+}
@@ -1,5 +1,7 @@
 package com.insider.utils.methods;
 
+import com.insider.utils.wait.ElementConditions;
+import com.insider.utils.wait.WaitPolicy;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
@@ -19,7 +21,6 @@ import java.util.List;
  */
 public class AssertionUtils {
     private static final Logger logger = LoggerFactory.getLogger(AssertionUtils.class);
-    private static final int DEFAULT_TIMEOUT_SECONDS = 10;
 
     // ==================== DYNAMIC WAIT METHODS (Preferred) ====================
 
@@ -29,7 +30,7 @@ public class AssertionUtils {
     public static void assertElementDisplayedWithDynamicWait(
             WebDriver driver, WebDriverWait wait, By locator, String message) {
         try {
-            WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+            WebElement element = wait.until(ElementConditions.visibilityOfElementLocated(locator));
             Assert.assertTrue(element.isDisplayed(), message);
             logger.debug("Element assertion passed");
         } catch (Exception e) {
@@ -52,7 +53,7 @@ public class AssertionUtils {
     public static void assertElementNotDisplayedWithDynamicWait(
             WebDriver driver, WebDriverWait wait, By locator, String message) {
         try {
-            wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
+            wait.until(ElementConditions.invisibilityOfElementLocated(locator));
             logger.debug("Element not displayed assertion passed");
         } catch (Exception e) {
             logger.error("Element not displayed assertion failed: " + e.getMessage());
@@ -66,7 +67,7 @@ public class AssertionUtils {
     public static void assertElementClickableWithDynamicWait(
             WebDriver driver, WebDriverWait wait, By locator, String message) {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(locator));
+            wait.until(ElementConditions.elementToBeClickable(locator));
             logger.debug("Element clickable assertion passed");
         } catch (Exception e) {
             logger.error("Element clickable assertion failed: " + e.getMessage());
@@ -80,7 +81,7 @@ public class AssertionUtils {
     public static void assertTextInElementWithDynamicWait(
             WebDriver driver, WebDriverWait wait, By locator, String expectedText, String message) {
         try {
-            WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+            WebElement element = wait.until(ElementConditions.visibilityOfElementLocated(locator));
             String actualText = element.getText();
             Assert.assertTrue(actualText.contains(expectedText), 
                     message + " - Expected: " + expectedText + ", Actual: " + actualText);
@@ -97,7 +98,7 @@ public class AssertionUtils {
     public static void assertExactTextInElementWithDynamicWait(
             WebDriver driver, WebDriverWait wait, By locator, String expectedText, String message) {
         try {
-            WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+            WebElement element = wait.until(ElementConditions.visibilityOfElementLocated(locator));
             String actualText = element.getText().trim();
             Assert.assertEquals(actualText, expectedText, message);
             logger.debug("Exact text assertion passed");
@@ -113,7 +114,7 @@ public class AssertionUtils {
     public static void assertElementCountWithDynamicWait(
             WebDriver driver, WebDriverWait wait, By locator, int expectedCount, String message) {
         try {
-            wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(locator));
+            wait.until(ElementConditions.presenceOfAllElementsLocatedBy(locator));
             List<WebElement> elements = driver.findElements(locator);
             int actualCount = elements.size();
             Assert.assertEquals(actualCount, expectedCount, 
@@ -226,17 +227,17 @@ public class AssertionUtils {
     }
 
     /**
-     * Create a WebDriverWait instance with default timeout
+     * Create a wait with the default WaitPolicy profile
      */
     public static WebDriverWait createWait(WebDriver driver) {
-        return new WebDriverWait(driver, Duration.ofSeconds(DEFAULT_TIMEOUT_SECONDS));
+        return WaitPolicy.waitFor(driver);
     }
 
     /**
-     * Create a WebDriverWait instance with custom timeout
+     * Create a WaitPolicy wait with custom timeout
      */
     public static WebDriverWait createWait(WebDriver driver, int timeoutSeconds) {
-        return new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
+        return WaitPolicy.waitFor(driver, Duration.ofSeconds(timeoutSeconds));
     }
 }
 
@@ -1,11 +1,12 @@
 package com.insider.utils.methods;
 
+import com.insider.utils.wait.ElementConditions;
+import com.insider.utils.wait.WaitPolicy;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,7 +20,6 @@ import java.time.Duration;
  */
 public class ClickUtils {
     private static final Logger logger = LoggerFactory.getLogger(ClickUtils.class);
-    private static final int DEFAULT_TIMEOUT_SECONDS = 10;
 
     // ==================== DYNAMIC WAIT METHODS (Preferred) ====================
 
@@ -28,7 +28,7 @@ public class ClickUtils {
      * Waits until element is clickable before clicking
      */
     public static void clickWithDynamicWait(WebDriver driver, WebDriverWait wait, By locator) {
-        WebElement element = wait.until(ExpectedConditions.elementToBeClickable(locator));
+        WebElement element = wait.until(ElementConditions.elementToBeClickable(locator));
         element.click();
         logger.info("Clicked element with dynamic wait: " + locator);
     }
@@ -38,7 +38,7 @@ public class ClickUtils {
      * Useful for elements that are covered or not directly clickable
      */
     public static void clickWithJsDynamicWait(WebDriver driver, WebDriverWait wait, By locator) {
-        WebElement element = wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+        WebElement element = wait.until(ElementConditions.presenceOfElementLocated(locator));
         ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
         logger.info("Clicked element with JS and dynamic wait: " + locator);
     }
@@ -47,7 +47,7 @@ public class ClickUtils {
      * Click on a WebElement using JavaScript with dynamic wait
      */
     public static void clickElementWithJsDynamicWait(WebDriver driver, WebDriverWait wait, WebElement element) {
-        wait.until(ExpectedConditions.elementToBeClickable(element));
+        wait.until(ElementConditions.elementToBeClickable(element));
         ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
         logger.info("Clicked WebElement with JS and dynamic wait");
     }
@@ -57,7 +57,7 @@ public class ClickUtils {
      * Moves to element and clicks (useful for hover menus)
      */
     public static void clickWithActionsDynamicWait(WebDriver driver, WebDriverWait wait, By locator) {
-        WebElement element = wait.until(ExpectedConditions.elementToBeClickable(locator));
+        WebElement element = wait.until(ElementConditions.elementToBeClickable(locator));
         Actions actions = new Actions(driver);
         actions.moveToElement(element).click().perform();
         logger.info("Clicked element with Actions and dynamic wait: " + locator);
@@ -67,7 +67,7 @@ public class ClickUtils {
      * Click using Actions class on WebElement with dynamic wait
      */
     public static void clickElementWithActionsDynamicWait(WebDriver driver, WebDriverWait wait, WebElement element) {
-        wait.until(ExpectedConditions.elementToBeClickable(element));
+        wait.until(ElementConditions.elementToBeClickable(element));
         Actions actions = new Actions(driver);
         actions.moveToElement(element).click().perform();
         logger.info("Clicked WebElement with Actions and dynamic wait");
@@ -78,7 +78,7 @@ public class ClickUtils {
      * Useful for stubborn elements
      */
     public static void clickWithMultipleMethodsDynamicWait(WebDriver driver, WebDriverWait wait, By locator) {
-        WebElement element = wait.until(ExpectedConditions.elementToBeClickable(locator));
+        WebElement element = wait.until(ElementConditions.elementToBeClickable(locator));
         clickWithMultipleMethodsDynamicWait(driver, wait, element);
     }
 
@@ -107,11 +107,11 @@ public class ClickUtils {
      * Click on element by index from a list with dynamic wait
      */
     public static void clickByIndexWithDynamicWait(WebDriver driver, WebDriverWait wait, By locator, int index) {
-        wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(locator));
+        wait.until(ElementConditions.presenceOfAllElementsLocatedBy(locator));
         java.util.List<WebElement> elements = driver.findElements(locator);
         if (index < elements.size()) {
             WebElement element = elements.get(index);
-            wait.until(ExpectedConditions.elementToBeClickable(element));
+            wait.until(ElementConditions.elementToBeClickable(element));
             element.click();
             logger.info("Clicked element at index " + index + " with dynamic wait: " + locator);
         } else {
@@ -123,11 +123,11 @@ public class ClickUtils {
      * Click on element by index using JavaScript with dynamic wait
      */
     public static void clickByIndexWithJsDynamicWait(WebDriver driver, WebDriverWait wait, By locator, int index) {
-        wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(locator));
+        wait.until(ElementConditions.presenceOfAllElementsLocatedBy(locator));
         java.util.List<WebElement> elements = driver.findElements(locator);
         if (index < elements.size()) {
             WebElement element = elements.get(index);
-            wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+            wait.until(ElementConditions.presenceOfElementLocated(locator));
             ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
             logger.info("Clicked element at index " + index + " with JS and dynamic wait: " + locator);
         } else {
@@ -197,17 +197,17 @@ public class ClickUtils {
     }
 
     /**
-     * Create a WebDriverWait instance with default timeout
+     * Create a wait with the default WaitPolicy profile
      */
     public static WebDriverWait createWait(WebDriver driver) {
-        return new WebDriverWait(driver, Duration.ofSeconds(DEFAULT_TIMEOUT_SECONDS));
+        return WaitPolicy.waitFor(driver);
     }
 
     /**
-     * Create a WebDriverWait instance with custom timeout
+     * Create a WaitPolicy wait with custom timeout
      */
     public static WebDriverWait createWait(WebDriver driver, int timeoutSeconds) {
-        return new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
+        return WaitPolicy.waitFor(driver, Duration.ofSeconds(timeoutSeconds));
     }
 }
 
@@ -1,19 +1,68 @@
 package com.insider.utils.methods;
 
 import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.WeakHashMap;
 
 /**
  * Utility class for cookie operations
- * Contains methods for managing cookies (get, add, delete)
+ * Contains methods for managing cookies (get, add, delete) and for browser state snapshots:
+ * cookies plus localStorage/sessionStorage of an origin, captured once, saved to disk and injected into new sessions
+ * before their first navigation
+ *
+ * System properties:
+ * browser.state.enabled     - restore the saved snapshot into every new test session (default: false)
+ * browser.state.dir         - where snapshots are stored (default: target/browser-state)
+ * browser.state.maxAgeHours - snapshots older than this are ignored and recaptured (default: 24)
  */
 public class CookieUtils {
     private static final Logger logger = LoggerFactory.getLogger(CookieUtils.class);
 
+    /**
+     * Snapshot file format version; older files are ignored and recaptured
+     */
+    public static final int STATE_SNAPSHOT_VERSION = 1;
+
+    private static final boolean STATE_ENABLED = Boolean.parseBoolean(
+            System.getProperty("browser.state.enabled", "false"));
+    private static final Path STATE_DIR = Paths.get(System.getProperty("browser.state.dir", "target/browser-state"));
+    private static final Duration STATE_MAX_AGE = Duration.ofHours(Integer.getInteger("browser.state.maxAgeHours", 24));
+    private static final String RESTORED_MARKER = "__insiderStateRestored";
+    private static final Json JSON = new Json();
+
+    // Snapshot'ı geri yüklenmiş oturumlar ve (CDP ile) kaydedilen script id'leri
+    private static final Map<WebDriver, String> RESTORED_SESSIONS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Cookies and web storage of one origin
+     */
+    public record StateSnapshot(int version, String origin, long capturedAt, List<Map<String, Object>> cookies,
+                                Map<String, String> localStorage, Map<String, String> sessionStorage) {
+    }
+
     /**
      * Get all cookies
      */
@@ -102,5 +151,253 @@ public class CookieUtils {
     public static boolean cookieExists(WebDriver driver, String cookieName) {
         return getCookieByName(driver, cookieName) != null;
     }
-}
 
+    // ==================== STATE SNAPSHOT ====================
+
+    public static boolean isStateSnapshotEnabled() {
+        return STATE_ENABLED;
+    }
+
+    /**
+     * Capture cookies and web storage of the origin the driver is currently on
+     */
+    @SuppressWarnings("unchecked")
+    public static StateSnapshot captureState(WebDriver driver) {
+        String origin = originOf(driver.getCurrentUrl());
+        List<Map<String, Object>> cookies = new ArrayList<>();
+        for (Cookie cookie : driver.manage().getCookies()) {
+            cookies.add(toMap(cookie));
+        }
+        Map<String, Map<String, String>> storage = (Map<String, Map<String, String>>) ((JavascriptExecutor) driver)
+                .executeScript(
+                        "var dump = function (store, skip) { var out = {};"
+                                + " for (var i = 0; i < store.length; i++) { var k = store.key(i);"
+                                + " if (k !== skip) { out[k] = store.getItem(k); } } return out; };"
+                                + "return { local: dump(window.localStorage), session: dump(window.sessionStorage, arguments[0]) };",
+                        RESTORED_MARKER);
+        StateSnapshot snapshot = new StateSnapshot(STATE_SNAPSHOT_VERSION, origin, System.currentTimeMillis(), cookies,
+                storage.get("local"), storage.get("session"));
+        logger.debug("Captured state of " + origin + ": " + cookies.size() + " cookie(s), "
+                + snapshot.localStorage().size() + " localStorage and "
+                + snapshot.sessionStorage().size() + " sessionStorage item(s)");
+        return snapshot;
+    }
+
+    /**
+     * Capture the current origin's state and save it, unless a usable snapshot already exists
+     */
+    public static void captureStateIfMissing(WebDriver driver) {
+        String origin = originOf(driver.getCurrentUrl());
+        if (loadState(origin).isPresent()) {
+            return;
+        }
+        try {
+            saveState(captureState(driver));
+        } catch (WebDriverException e) {
+            logger.warn("Browser state could not be captured: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Write the snapshot atomically so parallel workers never read a half written file
+     */
+    public static void saveState(StateSnapshot snapshot) {
+        Path file = stateFile(snapshot.origin());
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            Files.writeString(tmp, JSON.toJson(toMap(snapshot)));
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.info("Saved browser state snapshot: " + file);
+        } catch (IOException e) {
+            logger.warn("Browser state snapshot could not be saved: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Load the saved snapshot of an origin
+     * @return empty if there is none, or it has an older format version, or it is older than browser.state.maxAgeHours
+     */
+    @SuppressWarnings("unchecked")
+    public static Optional<StateSnapshot> loadState(String origin) {
+        Path file = stateFile(origin);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try {
+            Map<String, Object> map = JSON.toType(Files.readString(file), Json.MAP_TYPE);
+            int version = ((Number) map.getOrDefault("version", 0)).intValue();
+            long capturedAt = ((Number) map.getOrDefault("capturedAt", 0)).longValue();
+            if (version != STATE_SNAPSHOT_VERSION || capturedAt + STATE_MAX_AGE.toMillis() < System.currentTimeMillis()) {
+                logger.info("Browser state snapshot is outdated, it will be recaptured: " + file);
+                return Optional.empty();
+            }
+            return Optional.of(new StateSnapshot(version, (String) map.get("origin"), capturedAt,
+                    (List<Map<String, Object>>) map.get("cookies"),
+                    (Map<String, String>) map.get("localStorage"),
+                    (Map<String, String>) map.get("sessionStorage")));
+        } catch (IOException | JsonException | ClassCastException e) {
+            logger.warn("Browser state snapshot could not be read, it will be recaptured: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Inject the saved snapshot of an origin into a fresh session before its first navigation
+     * @return true if a snapshot was injected
+     */
+    public static boolean restoreState(WebDriver driver, String origin) {
+        forgetRestoredState(driver);
+        Optional<StateSnapshot> snapshot = loadState(origin);
+        if (snapshot.isEmpty()) {
+            return false;
+        }
+        try {
+            long start = System.nanoTime();
+            String scriptId = driver instanceof HasCdp cdp
+                    ? restoreWithCdp(cdp, snapshot.get())
+                    : restoreWithWebDriver(driver, snapshot.get());
+            RESTORED_SESSIONS.put(driver, scriptId);
+            logger.debug("Restored browser state of " + origin + " in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+            return true;
+        } catch (WebDriverException e) {
+            logger.warn("Browser state could not be restored: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Whether the current session was started from a snapshot
+     */
+    public static boolean isStateRestored(WebDriver driver) {
+        return RESTORED_SESSIONS.containsKey(driver);
+    }
+
+    /**
+     * Delete the snapshot of the current origin because it no longer produces the expected state
+     * (e.g. the consent banner is shown again); the next session recaptures it
+     */
+    public static void invalidateState(WebDriver driver) {
+        String origin = originOf(driver.getCurrentUrl());
+        forgetRestoredState(driver);
+        try {
+            Files.deleteIfExists(stateFile(origin));
+            logger.info("Browser state snapshot of " + origin + " stopped working, invalidated");
+        } catch (IOException e) {
+            logger.warn("Browser state snapshot could not be deleted: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Chrome: all cookies in one Network.setCookies call, storage through a script that runs before the page's own
+     */
+    private static String restoreWithCdp(HasCdp cdp, StateSnapshot snapshot) {
+        List<Map<String, Object>> cookies = new ArrayList<>();
+        for (Map<String, Object> cookie : snapshot.cookies()) {
+            Map<String, Object> param = new LinkedHashMap<>(cookie);
+            Object expiry = param.remove("expiry");
+            if (expiry != null) {
+                param.put("expires", expiry);
+            }
+            if (param.get("sameSite") == null) {
+                param.remove("sameSite");
+            }
+            cookies.add(param);
+        }
+        cdp.executeCdpCommand("Network.setCookies", Map.of("cookies", cookies));
+        Map<String, Object> result = cdp.executeCdpCommand("Page.addScriptToEvaluateOnNewDocument",
+                Map.of("source", storageScript(snapshot)));
+        return (String) result.get("identifier");
+    }
+
+    /**
+     * Other drivers can only set cookies for the current domain, so a cheap page of the origin is opened first
+     */
+    private static String restoreWithWebDriver(WebDriver driver, StateSnapshot snapshot) {
+        driver.get(snapshot.origin() + "/robots.txt");
+        for (Map<String, Object> cookie : snapshot.cookies()) {
+            driver.manage().addCookie(toCookie(cookie));
+        }
+        ((JavascriptExecutor) driver).executeScript(storageScript(snapshot));
+        return null;
+    }
+
+    /**
+     * Script that fills web storage once per tab when the snapshot's origin is loaded
+     */
+    private static String storageScript(StateSnapshot snapshot) {
+        return "(function () {"
+                + " if (location.origin !== " + JSON.toJson(snapshot.origin()) + ") { return; }"
+                + " try {"
+                + " if (sessionStorage.getItem('" + RESTORED_MARKER + "')) { return; }"
+                + " var local = " + JSON.toJson(snapshot.localStorage()) + ";"
+                + " var session = " + JSON.toJson(snapshot.sessionStorage()) + ";"
+                + " Object.keys(local).forEach(function (k) { localStorage.setItem(k, local[k]); });"
+                + " Object.keys(session).forEach(function (k) { sessionStorage.setItem(k, session[k]); });"
+                + " sessionStorage.setItem('" + RESTORED_MARKER + "', '1');"
+                + " } catch (e) {}"
+                + "})();";
+    }
+
+    /**
+     * Pooled sessions are reused, so the previous lease's injection script is removed
+     */
+    private static void forgetRestoredState(WebDriver driver) {
+        String scriptId = RESTORED_SESSIONS.remove(driver);
+        if (scriptId != null && driver instanceof HasCdp cdp) {
+            try {
+                cdp.executeCdpCommand("Page.removeScriptToEvaluateOnNewDocument", Map.of("identifier", scriptId));
+            } catch (WebDriverException e) {
+                logger.debug("State injection script could not be removed: " + e.getMessage());
+            }
+        }
+    }
+
+    private static Map<String, Object> toMap(Cookie cookie) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("name", cookie.getName());
+        map.put("value", cookie.getValue());
+        map.put("domain", cookie.getDomain());
+        map.put("path", cookie.getPath());
+        map.put("secure", cookie.isSecure());
+        map.put("httpOnly", cookie.isHttpOnly());
+        map.put("sameSite", cookie.getSameSite());
+        if (cookie.getExpiry() != null) {
+            map.put("expiry", cookie.getExpiry().getTime() / 1000);
+        }
+        return map;
+    }
+
+    private static Cookie toCookie(Map<String, Object> map) {
+        Cookie.Builder builder = new Cookie.Builder((String) map.get("name"), (String) map.get("value"))
+                .domain((String) map.get("domain"))
+                .path((String) map.get("path"))
+                .isSecure(Boolean.TRUE.equals(map.get("secure")))
+                .isHttpOnly(Boolean.TRUE.equals(map.get("httpOnly")))
+                .sameSite((String) map.get("sameSite"));
+        if (map.get("expiry") instanceof Number expiry) {
+            builder.expiresOn(new Date(expiry.longValue() * 1000));
+        }
+        return builder.build();
+    }
+
+    private static Map<String, Object> toMap(StateSnapshot snapshot) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("version", snapshot.version());
+        map.put("origin", snapshot.origin());
+        map.put("capturedAt", snapshot.capturedAt());
+        map.put("cookies", snapshot.cookies());
+        map.put("localStorage", snapshot.localStorage());
+        map.put("sessionStorage", snapshot.sessionStorage());
+        return map;
+    }
+
+    private static String originOf(String url) {
+        URI uri = URI.create(url);
+        return uri.getScheme() + "://" + uri.getAuthority();
+    }
+
+    private static Path stateFile(String origin) {
+        return STATE_DIR.resolve(originOf(origin).replaceAll("[^A-Za-z0-9.-]", "_") + ".json");
+    }
+}
@@ -1,10 +1,11 @@
 package com.insider.utils.methods;
 
+import com.insider.utils.wait.ElementConditions;
+import com.insider.utils.wait.WaitPolicy;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,7 +20,6 @@ import java.util.List;
  */
 public class DropdownUtils {
     private static final Logger logger = LoggerFactory.getLogger(DropdownUtils.class);
-    private static final int DEFAULT_TIMEOUT_SECONDS = 10;
 
     // ==================== DYNAMIC WAIT METHODS (Preferred) ====================
 
@@ -27,8 +27,8 @@ public class DropdownUtils {
      * Open dropdown by clicking the container with dynamic wait
      */
     public static void openDropdownWithDynamicWait(WebDriver driver, WebDriverWait wait, By dropdownContainer) {
-        wait.until(ExpectedConditions.visibilityOfElementLocated(dropdownContainer));
-        wait.until(ExpectedConditions.elementToBeClickable(dropdownContainer));
+        wait.until(ElementConditions.visibilityOfElementLocated(dropdownContainer));
+        wait.until(ElementConditions.elementToBeClickable(dropdownContainer));
         driver.findElement(dropdownContainer).click();
         logger.info("Opened dropdown container: " + dropdownContainer);
     }
@@ -37,7 +37,7 @@ public class DropdownUtils {
      * Wait for dropdown results to be visible with dynamic wait
      */
     public static void waitForDropdownResultsWithDynamicWait(WebDriverWait wait, By dropdownResults) {
-        wait.until(ExpectedConditions.visibilityOfElementLocated(dropdownResults));
+        wait.until(ElementConditions.visibilityOfElementLocated(dropdownResults));
         logger.info("Dropdown results are visible");
     }
 
@@ -53,7 +53,7 @@ public class DropdownUtils {
         
         // Find all options
         By optionsLocator = By.xpath("//ul[@class='select2-results__options']//li[contains(@class, 'select2-results__option')]");
-        wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(optionsLocator));
+        wait.until(ElementConditions.presenceOfAllElementsLocatedBy(optionsLocator));
         
         List<WebElement> options = driver.findElements(optionsLocator);
         WebElement targetOption = null;
@@ -77,14 +77,14 @@ public class DropdownUtils {
         
         // Scroll to option and click
         ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'});", targetOption);
-        wait.until(ExpectedConditions.elementToBeClickable(targetOption));
+        wait.until(ElementConditions.elementToBeClickable(targetOption));
         
         // Try multiple click methods
         com.insider.utils.methods.ClickUtils.clickWithMultipleMethodsDynamicWait(driver, wait, targetOption);
         
         // Verify dropdown closed
         try {
-            wait.until(ExpectedConditions.invisibilityOfElementLocated(dropdownResults));
+            wait.until(ElementConditions.invisibilityOfElementLocated(dropdownResults));
             logger.info("Dropdown closed successfully, option selected: " + optionText);
         } catch (Exception e) {
             logger.warn("Dropdown did not close, but option may have been selected: " + optionText);
@@ -100,7 +100,7 @@ public class DropdownUtils {
         waitForDropdownResultsWithDynamicWait(wait, dropdownResults);
         
         By optionsLocator = By.xpath("//ul[@class='select2-results__options']//li[contains(@class, 'select2-results__option')]");
-        wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(optionsLocator));
+        wait.until(ElementConditions.presenceOfAllElementsLocatedBy(optionsLocator));
         
         List<WebElement> options = driver.findElements(optionsLocator);
         WebElement targetOption = null;
@@ -121,11 +121,11 @@ public class DropdownUtils {
         }
         
         ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'});", targetOption);
-        wait.until(ExpectedConditions.elementToBeClickable(targetOption));
+        wait.until(ElementConditions.elementToBeClickable(targetOption));
         com.insider.utils.methods.ClickUtils.clickWithMultipleMethodsDynamicWait(driver, wait, targetOption);
         
         try {
-            wait.until(ExpectedConditions.invisibilityOfElementLocated(dropdownResults));
+            wait.until(ElementConditions.invisibilityOfElementLocated(dropdownResults));
             logger.info("Dropdown closed successfully, option selected: " + exactText);
         } catch (Exception e) {
             logger.warn("Dropdown did not close, but option may have been selected: " + exactText);
@@ -141,7 +141,7 @@ public class DropdownUtils {
         waitForDropdownResultsWithDynamicWait(wait, dropdownResults);
         
         By optionsLocator = By.xpath("//ul[@class='select2-results__options']//li[contains(@class, 'select2-results__option')]");
-        wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(optionsLocator));
+        wait.until(ElementConditions.presenceOfAllElementsLocatedBy(optionsLocator));
         
         List<WebElement> options = driver.findElements(optionsLocator);
         
@@ -155,11 +155,11 @@ public class DropdownUtils {
         String optionText = targetOption.getText().trim();
         
         ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'});", targetOption);
-        wait.until(ExpectedConditions.elementToBeClickable(targetOption));
+        wait.until(ElementConditions.elementToBeClickable(targetOption));
         com.insider.utils.methods.ClickUtils.clickWithMultipleMethodsDynamicWait(driver, wait, targetOption);
         
         try {
-            wait.until(ExpectedConditions.invisibilityOfElementLocated(dropdownResults));
+            wait.until(ElementConditions.invisibilityOfElementLocated(dropdownResults));
             logger.info("Dropdown closed successfully, option selected at index " + index + ": " + optionText);
         } catch (Exception e) {
             logger.warn("Dropdown did not close, but option may have been selected: " + optionText);
@@ -175,7 +175,7 @@ public class DropdownUtils {
         waitForDropdownResultsWithDynamicWait(wait, dropdownResults);
         
         By optionsLocator = By.xpath("//ul[@class='select2-results__options']//li[contains(@class, 'select2-results__option')]");
-        wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(optionsLocator));
+        wait.until(ElementConditions.presenceOfAllElementsLocatedBy(optionsLocator));
         
         List<WebElement> options = driver.findElements(optionsLocator);
         List<String> optionTexts = options.stream()
@@ -192,16 +192,11 @@ public class DropdownUtils {
      * Open dropdown by clicking the container with static wait
      */
     public static void openDropdownWithStaticWait(WebDriver driver, By dropdownContainer, long waitMilliseconds) {
-        try {
-            Thread.sleep(waitMilliseconds);
-            WebElement element = driver.findElement(dropdownContainer);
-            element.click();
-            logger.info("Opened dropdown container with static wait (" + waitMilliseconds + "ms): " + dropdownContainer);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            logger.error("Thread interrupted while waiting: " + e.getMessage());
-            throw new RuntimeException(e);
-        }
+        // Bütçe sınırı, step kaydı ve interrupt yönetimi WaitUtils'te
+        WaitUtils.waitWithStaticWait(waitMilliseconds);
+        WebElement element = driver.findElement(dropdownContainer);
+        element.click();
+        logger.info("Opened dropdown container with static wait (" + waitMilliseconds + "ms): " + dropdownContainer);
     }
 
     /**
@@ -210,52 +205,45 @@ public class DropdownUtils {
     public static void selectDropdownOptionByTextWithStaticWait(
             WebDriver driver, By dropdownResults, String optionText, long waitMilliseconds) {
         
-        try {
-            Thread.sleep(waitMilliseconds);
-            
-            By optionsLocator = By.xpath("//ul[@class='select2-results__options']//li[contains(@class, 'select2-results__option')]");
-            List<WebElement> options = driver.findElements(optionsLocator);
-            WebElement targetOption = null;
-            
-            for (WebElement option : options) {
-                String currentText = option.getText().trim();
-                if (currentText.contains(optionText)) {
-                    targetOption = option;
-                    logger.info("Target option found: " + currentText);
-                    break;
-                }
-            }
-            
-            if (targetOption == null) {
-                String errorMsg = "Dropdown option not found: " + optionText;
-                logger.error(errorMsg);
-                throw new RuntimeException(errorMsg);
+        WaitUtils.waitWithStaticWait(waitMilliseconds);
+        
+        By optionsLocator = By.xpath("//ul[@class='select2-results__options']//li[contains(@class, 'select2-results__option')]");
+        List<WebElement> options = driver.findElements(optionsLocator);
+        WebElement targetOption = null;
+        
+        for (WebElement option : options) {
+            String currentText = option.getText().trim();
+            if (currentText.contains(optionText)) {
+                targetOption = option;
+                logger.info("Target option found: " + currentText);
+                break;
             }
-            
-            ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'});", targetOption);
-            Thread.sleep(500); // Small wait after scroll
-            targetOption.click();
-            logger.info("Selected dropdown option with static wait (" + waitMilliseconds + "ms): " + optionText);
-            
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            logger.error("Thread interrupted while waiting: " + e.getMessage());
-            throw new RuntimeException(e);
         }
+        
+        if (targetOption == null) {
+            String errorMsg = "Dropdown option not found: " + optionText;
+            logger.error(errorMsg);
+            throw new RuntimeException(errorMsg);
+        }
+        
+        ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'});", targetOption);
+        WaitUtils.waitWithStaticWait(500); // Small wait after scroll
+        targetOption.click();
+        logger.info("Selected dropdown option with static wait (" + waitMilliseconds + "ms): " + optionText);
     }
 
     /**
-     * Create a WebDriverWait instance with default timeout
+     * Create a wait with the default WaitPolicy profile
      */
     public static WebDriverWait createWait(WebDriver driver) {
-        return new WebDriverWait(driver, Duration.ofSeconds(DEFAULT_TIMEOUT_SECONDS));
+        return WaitPolicy.waitFor(driver);
     }
 
     /**
-     * Create a WebDriverWait instance with custom timeout
+     * Create a WaitPolicy wait with custom timeout
      */
     public static WebDriverWait createWait(WebDriver driver, int timeoutSeconds) {
-        return new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
+        return WaitPolicy.waitFor(driver, Duration.ofSeconds(timeoutSeconds));
     }
 }
 
@@ -1,18 +1,23 @@
 package com.insider.utils.methods;
 
+import com.insider.utils.wait.ElementConditions;
+import com.insider.utils.wait.TestDeadline;
 import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
  * Utility class for element state and attribute operations
  * Contains methods for checking element states and getting element properties
+ * The isDisplayedNow / Within / OnceQuiet probes are for optional UI (cookie banners, popups): they never use a
+ * wait profile, so an absent element costs one round trip, the given milliseconds or until the page settles
  */
 public class ElementUtils {
     private static final Logger logger = LoggerFactory.getLogger(ElementUtils.class);
@@ -22,7 +27,7 @@ public class ElementUtils {
      */
     public static boolean isDisplayedWithDynamicWait(WebDriver driver, WebDriverWait wait, By locator) {
         try {
-            WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+            WebElement element = wait.until(ElementConditions.visibilityOfElementLocated(locator));
             return element.isDisplayed();
         } catch (Exception e) {
             logger.debug("Element is not displayed: " + locator);
@@ -30,12 +35,55 @@ public class ElementUtils {
         }
     }
 
+    /**
+     * Check if element is displayed right now; implicit wait is zero (WaitPolicy), so this never waits
+     */
+    public static boolean isDisplayedNow(WebDriver driver, By locator) {
+        for (WebElement element : driver.findElements(locator)) {
+            try {
+                if (element.isDisplayed()) {
+                    return true;
+                }
+            } catch (StaleElementReferenceException e) {
+                // Sorgu ile kontrol arasında DOM'dan çıkan element görünür sayılmaz
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check if element becomes displayed within the given time, polling every 50 ms; never throws on a miss
+     */
+    public static boolean isDisplayedWithin(WebDriver driver, By locator, Duration within) {
+        long endTime = System.nanoTime() + TestDeadline.cap(within).toNanos();
+        while (!isDisplayedNow(driver, locator)) {
+            long remainingMillis = (endTime - System.nanoTime()) / 1_000_000;
+            if (remainingMillis <= 0) {
+                logger.debug("Element not displayed within " + within.toMillis() + " ms: " + locator);
+                return false;
+            }
+            WaitUtils.waitWithStaticWait(Math.min(50, remainingMillis));
+        }
+        return true;
+    }
+
+    /**
+     * Check if element is displayed once the page has settled: returns as soon as it shows up, or false when the
+     * page has loaded and had no DOM mutations for quietWindow without it (at most maxWaitSeconds)
+     */
+    public static boolean isDisplayedOnceQuiet(WebDriver driver, By locator, Duration quietWindow, int maxWaitSeconds) {
+        long millis = JavaScriptUtils.awaitElementOrQuiescence(driver, locator, quietWindow, maxWaitSeconds);
+        logger.debug("Element " + (millis >= 0 ? "displayed after " + millis + " ms" : "absent once page settled")
+                + ": " + locator);
+        return millis >= 0;
+    }
+
     /**
      * Check if element is enabled with dynamic wait
      */
     public static boolean isEnabledWithDynamicWait(WebDriver driver, WebDriverWait wait, By locator) {
         try {
-            WebElement element = wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+            WebElement element = wait.until(ElementConditions.presenceOfElementLocated(locator));
             return element.isEnabled();
         } catch (Exception e) {
             logger.debug("Element is not enabled: " + locator);
@@ -48,7 +96,7 @@ public class ElementUtils {
      */
     public static boolean isSelectedWithDynamicWait(WebDriver driver, WebDriverWait wait, By locator) {
         try {
-            WebElement element = wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+            WebElement element = wait.until(ElementConditions.presenceOfElementLocated(locator));
             return element.isSelected();
         } catch (Exception e) {
             logger.debug("Element is not selected: " + locator);
@@ -60,7 +108,7 @@ public class ElementUtils {
      * Get attribute value from element with dynamic wait
      */
     public static String getAttributeWithDynamicWait(WebDriver driver, WebDriverWait wait, By locator, String attributeName) {
-        WebElement element = wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+        WebElement element = wait.until(ElementConditions.presenceOfElementLocated(locator));
         String value = element.getAttribute(attributeName);
         logger.debug("Got attribute '" + attributeName + "' = '" + value + "' from element: " + locator);
         return value;
@@ -77,7 +125,7 @@ public class ElementUtils {
      * Get CSS property value from element with dynamic wait
      */
     public static String getCssValueWithDynamicWait(WebDriver driver, WebDriverWait wait, By locator, String cssProperty) {
-        WebElement element = wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+        WebElement element = wait.until(ElementConditions.presenceOfElementLocated(locator));
         String value = element.getCssValue(cssProperty);
         logger.debug("Got CSS property '" + cssProperty + "' = '" + value + "' from element: " + locator);
         return value;
@@ -94,7 +142,7 @@ public class ElementUtils {
      * Get tag name of element with dynamic wait
      */
     public static String getTagNameWithDynamicWait(WebDriver driver, WebDriverWait wait, By locator) {
-        WebElement element = wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+        WebElement element = wait.until(ElementConditions.presenceOfElementLocated(locator));
         return element.getTagName();
     }
 
@@ -102,7 +150,7 @@ public class ElementUtils {
      * Get size of element with dynamic wait
      */
     public static org.openqa.selenium.Dimension getSizeWithDynamicWait(WebDriver driver, WebDriverWait wait, By locator) {
-        WebElement element = wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+        WebElement element = wait.until(ElementConditions.presenceOfElementLocated(locator));
         return element.getSize();
     }
 
@@ -110,7 +158,7 @@ public class ElementUtils {
      * Get location of element with dynamic wait
      */
     public static org.openqa.selenium.Point getLocationWithDynamicWait(WebDriver driver, WebDriverWait wait, By locator) {
-        WebElement element = wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+        WebElement element = wait.until(ElementConditions.presenceOfElementLocated(locator));
         return element.getLocation();
     }
 
@@ -118,7 +166,7 @@ public class ElementUtils {
      * Get all element count with dynamic wait
      */
     public static int getElementCountWithDynamicWait(WebDriver driver, WebDriverWait wait, By locator) {
-        wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(locator));
+        wait.until(ElementConditions.presenceOfAllElementsLocatedBy(locator));
         List<WebElement> elements = driver.findElements(locator);
         return elements.size();
     }
@@ -128,7 +176,7 @@ public class ElementUtils {
      */
     public static boolean isElementPresentWithDynamicWait(WebDriver driver, WebDriverWait wait, By locator) {
         try {
-            wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+            wait.until(ElementConditions.presenceOfElementLocated(locator));
             return true;
         } catch (Exception e) {
             return false;
@@ -139,7 +187,7 @@ public class ElementUtils {
      * Get all elements with dynamic wait
      */
     public static List<WebElement> getAllElementsWithDynamicWait(WebDriver driver, WebDriverWait wait, By locator) {
-        wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(locator));
+        wait.until(ElementConditions.presenceOfAllElementsLocatedBy(locator));
         return driver.findElements(locator);
     }
 }
@@ -1,18 +1,173 @@
 package com.insider.utils.methods;
 
+import com.insider.driver.HtmlUnitSupport;
+import com.insider.utils.wait.TestDeadline;
+import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Utility class for JavaScript executor operations
  * Contains methods for executing JavaScript, scrolling, highlighting elements
+ * The await* methods wait inside the page with executeAsyncScript: one round trip that returns as soon as the
+ * condition holds, instead of a WebDriver call every 100-150 ms
  */
 public class JavaScriptUtils {
     private static final Logger logger = LoggerFactory.getLogger(JavaScriptUtils.class);
 
+    // W3C varsayılan script timeout'u; sayfa içi timer'lar bundan önce sonuç döndürür
+    private static final long DEFAULT_SCRIPT_TIMEOUT_MILLIS = 30_000;
+    private static final long SCRIPT_TIMEOUT_MARGIN_MILLIS = 2_000;
+    // Async script çalıştırılamadı (örn. bekleme sırasında sayfa değişti); polling'e dönülür
+    private static final long FALLBACK = Long.MIN_VALUE;
+
+    private static final String FULLY_VISIBLE_JS =
+        "function fullyVisible(el) {" +
+        "  var rect = el.getBoundingClientRect();" +
+        "  var windowHeight = window.innerHeight || document.documentElement.clientHeight;" +
+        "  var windowWidth = window.innerWidth || document.documentElement.clientWidth;" +
+        "  return rect.top >= 0 && rect.left >= 0 && rect.bottom <= windowHeight && rect.right <= windowWidth" +
+        "      && rect.width > 0 && rect.height > 0;" +
+        "}";
+
+    // IntersectionObserver ilk gözlemde mevcut durumu da bildirir; yoksa her frame'de kontrol edilir
+    private static final String AWAIT_FULLY_VISIBLE_JS = FULLY_VISIBLE_JS +
+        "var el = arguments[0], timeoutMs = arguments[1], done = arguments[arguments.length - 1];" +
+        "var start = performance.now(), finished = false, observer = null;" +
+        "function finish(ok) {" +
+        "  if (finished) return; finished = true; clearTimeout(timer);" +
+        "  if (observer) observer.disconnect();" +
+        "  done({ok: ok, ms: Math.round(performance.now() - start)});" +
+        "}" +
+        "var timer = setTimeout(function() { finish(fullyVisible(el)); }, timeoutMs);" +
+        "if (window.IntersectionObserver) {" +
+        "  observer = new IntersectionObserver(function(entries) {" +
+        "    if (entries[entries.length - 1].intersectionRatio >= 0.999 && fullyVisible(el)) finish(true);" +
+        "  }, {threshold: [0, 0.25, 0.5, 0.75, 0.999, 1]});" +
+        "  observer.observe(el);" +
+        "} else {" +
+        "  (function frame() { if (finished) return; if (fullyVisible(el)) finish(true); else requestAnimationFrame(frame); })();" +
+        "}";
+
+    // scrollend ile scroll'un bittiği an yakalanır; sonrasında iki frame boyunca pozisyon aynı kalmalı
+    // scrollend desteklenmiyorsa pozisyon iki frame sabit kalana kadar frame frame kontrol edilir
+    private static final String AWAIT_SCROLL_COMPLETE_JS = FULLY_VISIBLE_JS +
+        "var el = arguments[0], timeoutMs = arguments[1], done = arguments[arguments.length - 1];" +
+        "var start = performance.now(), finished = false, hasScrollEnd = 'onscrollend' in window;" +
+        "function position() {" +
+        "  var rect = el.getBoundingClientRect();" +
+        "  return rect.top + ',' + rect.left + ',' + window.pageYOffset + ',' + window.pageXOffset;" +
+        "}" +
+        "function finish(ok) {" +
+        "  if (finished) return; finished = true; clearTimeout(timer);" +
+        "  window.removeEventListener('scrollend', settle, true);" +
+        "  done({ok: ok, ms: Math.round(performance.now() - start)});" +
+        "}" +
+        "function settle() {" +
+        "  var before = position();" +
+        "  requestAnimationFrame(function() { requestAnimationFrame(function() {" +
+        "    if (finished) return;" +
+        "    if (position() === before && fullyVisible(el)) finish(true);" +
+        "    else if (!hasScrollEnd) settle();" +
+        "  }); });" +
+        "}" +
+        "var timer = setTimeout(function() { finish(false); }, timeoutMs);" +
+        "if (hasScrollEnd) window.addEventListener('scrollend', settle, true);" +
+        "settle();";
+
+    // Son mutasyondan quietMs sonra (hiç mutasyon yoksa enjeksiyondan quietMs sonra) öğe sayısıyla döner
+    // minItems'a ulaşılmadıysa sessizlik sayılmaz; liste before'daki haliyle aynıysa en fazla before.graceMs beklenir
+    private static final String AWAIT_DOM_QUIESCENCE_JS =
+        "var container = arguments[0], itemSelector = arguments[1], xpath = arguments[2], quietMs = arguments[3];" +
+        "var minItems = arguments[4], before = arguments[5], timeoutMs = arguments[6];" +
+        "var done = arguments[arguments.length - 1];" +
+        "var start = performance.now(), mutations = 0, finished = false;" +
+        "function items() {" +
+        "  if (xpath) {" +
+        "    var nodes = document.evaluate(itemSelector, container, null," +
+        "        XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+        "    return {count: nodes.snapshotLength, first: nodes.snapshotItem(0)};" +
+        "  }" +
+        "  var all = container.querySelectorAll(itemSelector);" +
+        "  return {count: all.length, first: all[0]};" +
+        "}" +
+        "function changed(now) {" +
+        "  return !before || now.count !== before.count || (now.first ? now.first.textContent : '') !== before.first;" +
+        "}" +
+        "function finish(quiet) {" +
+        "  if (finished) return; finished = true;" +
+        "  observer.disconnect(); clearTimeout(quietTimer); clearTimeout(timer);" +
+        "  done({quiet: quiet, count: items().count, mutations: mutations," +
+        "      ms: Math.round(performance.now() - start)});" +
+        "}" +
+        "function quiet() {" +
+        "  var now = items(), waited = performance.now() - start;" +
+        "  if (now.count < minItems) return;" +
+        "  if (changed(now) || waited >= before.graceMs) { finish(true); return; }" +
+        "  quietTimer = setTimeout(quiet, Math.max(1, Math.min(quietMs, before.graceMs - waited)));" +
+        "}" +
+        "var observer = new MutationObserver(function(records) {" +
+        "  mutations += records.length;" +
+        "  clearTimeout(quietTimer);" +
+        "  quietTimer = setTimeout(quiet, quietMs);" +
+        "});" +
+        "observer.observe(container, {childList: true, subtree: true, attributes: true, characterData: true});" +
+        "var quietTimer = setTimeout(quiet, quietMs);" +
+        "var timer = setTimeout(function() { finish(false); }, timeoutMs);";
+
+    // Aranan element görünür olduğu an ya da sayfa (load sonrası) quietMs boyunca hiç mutasyon almadığında döner
+    private static final String AWAIT_ELEMENT_OR_QUIET_JS =
+        "var selector = arguments[0], xpath = arguments[1], quietMs = arguments[2], timeoutMs = arguments[3];" +
+        "var done = arguments[arguments.length - 1], start = performance.now(), finished = false;" +
+        "function visible(el) {" +
+        "  return el.getClientRects().length > 0 && getComputedStyle(el).visibility !== 'hidden';" +
+        "}" +
+        "function found() {" +
+        "  if (xpath) {" +
+        "    var nodes = document.evaluate(selector, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+        "    for (var i = 0; i < nodes.snapshotLength; i++) if (visible(nodes.snapshotItem(i))) return true;" +
+        "    return false;" +
+        "  }" +
+        "  return Array.prototype.some.call(document.querySelectorAll(selector), visible);" +
+        "}" +
+        "function finish(ok) {" +
+        "  if (finished) return; finished = true;" +
+        "  observer.disconnect(); clearTimeout(quietTimer); clearTimeout(timer);" +
+        "  done({ok: ok, ms: Math.round(performance.now() - start)});" +
+        "}" +
+        "function quiet() {" +
+        "  if (document.readyState !== 'complete') { quietTimer = setTimeout(quiet, quietMs); return; }" +
+        "  finish(found());" +
+        "}" +
+        "var observer = new MutationObserver(function() {" +
+        "  if (found()) { finish(true); return; }" +
+        "  clearTimeout(quietTimer); quietTimer = setTimeout(quiet, quietMs);" +
+        "});" +
+        "var quietTimer, timer = setTimeout(function() { finish(found()); }, timeoutMs);" +
+        "if (found()) { finish(true); } else {" +
+        "  observer.observe(document.documentElement," +
+        "      {childList: true, subtree: true, attributes: true, characterData: true});" +
+        "  quietTimer = setTimeout(quiet, quietMs);" +
+        "}";
+
+    private static final String AWAIT_PAGE_LOAD_JS =
+        "var timeoutMs = arguments[0], done = arguments[arguments.length - 1], start = performance.now();" +
+        "if (document.readyState === 'complete') { done({ok: true, ms: 0}); return; }" +
+        "var timer = setTimeout(function() {" +
+        "  done({ok: document.readyState === 'complete', ms: Math.round(performance.now() - start)});" +
+        "}, timeoutMs);" +
+        "window.addEventListener('load', function() {" +
+        "  clearTimeout(timer); done({ok: true, ms: Math.round(performance.now() - start)});" +
+        "}, {once: true});";
+
     /**
      * Execute JavaScript and return result
      */
@@ -143,18 +298,24 @@ public class JavaScriptUtils {
      * Wait for page to load using JavaScript
      */
     public static void waitForPageLoad(WebDriver driver, int maxWaitSeconds) {
-        long endTime = System.currentTimeMillis() + (maxWaitSeconds * 1000L);
-        while (System.currentTimeMillis() < endTime) {
-            if (isPageReady(driver)) {
-                return;
-            }
-            try {
-                Thread.sleep(100);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                return;
+        long start = System.nanoTime();
+        long endTime = System.currentTimeMillis() + TestDeadline.capMillis(maxWaitSeconds * 1000L);
+        try {
+            while (System.currentTimeMillis() < endTime) {
+                if (isPageReady(driver)) {
+                    return;
+                }
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
             }
+        } finally {
+            TestDeadline.step("page load (polling)", System.nanoTime() - start);
         }
+        TestDeadline.checkpoint("page load (polling)");
     }
 
     /**
@@ -184,6 +345,10 @@ public class JavaScriptUtils {
      * Check if element is fully visible in viewport
      */
     public static boolean isElementFullyVisibleInViewport(WebDriver driver, WebElement element) {
+        // HtmlUnit layout hesaplamaz, getBoundingClientRect her zaman sıfır döner
+        if (HtmlUnitSupport.isHtmlUnit(driver)) {
+            return element.isDisplayed();
+        }
         String script = 
             "var rect = arguments[0].getBoundingClientRect();" +
             "var windowHeight = window.innerHeight || document.documentElement.clientHeight;" +
@@ -201,19 +366,25 @@ public class JavaScriptUtils {
      * Wait for element to be fully visible in viewport
      */
     public static void waitForElementFullyVisible(WebDriver driver, WebElement element, int maxWaitSeconds) {
-        long endTime = System.currentTimeMillis() + (maxWaitSeconds * 1000L);
-        while (System.currentTimeMillis() < endTime) {
-            if (isElementFullyVisibleInViewport(driver, element)) {
-                logger.debug("Element is fully visible in viewport");
-                return;
-            }
-            try {
-                Thread.sleep(100);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                return;
+        long start = System.nanoTime();
+        long endTime = System.currentTimeMillis() + TestDeadline.capMillis(maxWaitSeconds * 1000L);
+        try {
+            while (System.currentTimeMillis() < endTime) {
+                if (isElementFullyVisibleInViewport(driver, element)) {
+                    logger.debug("Element is fully visible in viewport");
+                    return;
+                }
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
             }
+        } finally {
+            TestDeadline.step("element fully visible (polling)", System.nanoTime() - start);
         }
+        TestDeadline.checkpoint("element fully visible (polling)");
         logger.warn("Element did not become fully visible within " + maxWaitSeconds + " seconds");
     }
 
@@ -223,7 +394,8 @@ public class JavaScriptUtils {
      * Headless modda daha agresif kontrol yapar
      */
     public static void waitForScrollToComplete(WebDriver driver, WebElement element, int maxWaitSeconds) {
-        long endTime = System.currentTimeMillis() + (maxWaitSeconds * 1000L);
+        long start = System.nanoTime();
+        long endTime = System.currentTimeMillis() + TestDeadline.capMillis(maxWaitSeconds * 1000L);
         String lastPosition = null;
         int stableCount = 0;
         final int REQUIRED_STABLE_CHECKS = 5; // Element pozisyonu 5 kez aynı kalmalı (headless için artırıldı)
@@ -267,6 +439,7 @@ public class JavaScriptUtils {
                 // Hem pozisyon stabil hem de element tamamen görünür olmalı
                 if (stableCount >= REQUIRED_STABLE_CHECKS && fullyVisibleCount >= REQUIRED_VISIBLE_CHECKS) {
                     logger.debug("Scroll completed - element position is stable and fully visible");
+                    TestDeadline.step("scroll complete (polling)", System.nanoTime() - start);
                     return;
                 }
                 
@@ -281,6 +454,8 @@ public class JavaScriptUtils {
             }
         }
         
+        TestDeadline.step("scroll complete (polling)", System.nanoTime() - start);
+        TestDeadline.checkpoint("scroll complete (polling)");
         // Timeout oldu ama element hiç görünür olmadıysa uyar
         if (!wasFullyVisible) {
             logger.warn("Scroll did not complete - element was never fully visible within " + maxWaitSeconds + " seconds");
@@ -288,5 +463,248 @@ public class JavaScriptUtils {
             logger.warn("Scroll did not complete - position not stable within " + maxWaitSeconds + " seconds");
         }
     }
-}
 
+    // ==================== IN-BROWSER ASYNC WAITS ====================
+
+    /**
+     * Wait inside the page until the element is fully in the viewport (IntersectionObserver)
+     * @return milliseconds the condition took in the browser, -1 if it did not hold within maxWaitSeconds
+     */
+    public static long awaitElementFullyVisible(WebDriver driver, WebElement element, int maxWaitSeconds) {
+        if (HtmlUnitSupport.isHtmlUnit(driver)) {
+            waitForElementFullyVisible(driver, element, maxWaitSeconds);
+            return 0;
+        }
+        long millis = awaitInPage(driver, "element fully visible", AWAIT_FULLY_VISIBLE_JS, maxWaitSeconds, element);
+        if (millis == FALLBACK) {
+            waitForElementFullyVisible(driver, element, maxWaitSeconds);
+            return 0;
+        }
+        if (millis < 0) {
+            logger.warn("Element did not become fully visible within " + maxWaitSeconds + " seconds");
+        }
+        return millis;
+    }
+
+    /**
+     * Wait inside the page until scrolling has ended (scrollend, requestAnimationFrame) and the element is fully
+     * visible at a stable position
+     * @return milliseconds the condition took in the browser, -1 if it did not hold within maxWaitSeconds
+     */
+    public static long awaitScrollToComplete(WebDriver driver, WebElement element, int maxWaitSeconds) {
+        if (HtmlUnitSupport.isHtmlUnit(driver)) {
+            return 0;
+        }
+        long millis = awaitInPage(driver, "scroll complete", AWAIT_SCROLL_COMPLETE_JS, maxWaitSeconds, element);
+        if (millis == FALLBACK) {
+            waitForScrollToComplete(driver, element, maxWaitSeconds);
+            return 0;
+        }
+        if (millis < 0) {
+            logger.warn("Scroll did not complete with the element fully visible within " + maxWaitSeconds + " seconds");
+        }
+        return millis;
+    }
+
+    /**
+     * Wait inside the page for the load event
+     * @return milliseconds until load in the browser (0 if already loaded), -1 if not loaded within maxWaitSeconds
+     */
+    public static long awaitPageLoad(WebDriver driver, int maxWaitSeconds) {
+        long millis = awaitInPage(driver, "page load", AWAIT_PAGE_LOAD_JS, maxWaitSeconds);
+        if (millis == FALLBACK) {
+            waitForPageLoad(driver, maxWaitSeconds);
+            return 0;
+        }
+        return millis;
+    }
+
+    /**
+     * Wait inside the page until an element matching the locator is visible, or until the page has loaded and
+     * had no DOM mutations for quietWindow; an element that has not shown up by then is taken as absent
+     * @param locator CSS-based locator (css, id, className, tagName) or XPath
+     * @return milliseconds until the element was visible in the browser, -1 if the page settled without it
+     */
+    public static long awaitElementOrQuiescence(WebDriver driver, By locator, Duration quietWindow,
+                                                int maxWaitSeconds) {
+        By.Remotable.Parameters parameters = remoteParameters(locator);
+        long millis = HtmlUnitSupport.isHtmlUnit(driver) ? FALLBACK
+                : awaitInPage(driver, "element or quiescence", AWAIT_ELEMENT_OR_QUIET_JS, maxWaitSeconds,
+                        String.valueOf(parameters.value()), parameters.using().equals("xpath"), quietWindow.toMillis());
+        if (millis == FALLBACK) {
+            // Sayfa içinde gözlenemiyorsa sessizlik süresi kadar sorgula
+            return ElementUtils.isDisplayedWithin(driver, locator, quietWindow) ? 0 : -1;
+        }
+        return millis;
+    }
+
+    /**
+     * Wait inside the page until the container's subtree has had no mutations for quietWindow
+     * (MutationObserver), then count the items matching the locator within the container in the same round trip
+     * @param items CSS-based locator (css, id, className, tagName) or XPath relative to the container
+     */
+    public static Quiescence awaitDomQuiescence(WebDriver driver, WebElement container, By items,
+                                                Duration quietWindow, int maxWaitSeconds) {
+        return awaitDomQuiescence(driver, container, items, 0, quietWindow, maxWaitSeconds);
+    }
+
+    /**
+     * Same as above, but a quiet DOM only counts once at least minItems items exist; an empty list that is still
+     * waiting for its data does not resolve the wait
+     */
+    public static Quiescence awaitDomQuiescence(WebDriver driver, WebElement container, By items, int minItems,
+                                                Duration quietWindow, int maxWaitSeconds) {
+        return awaitDomQuiescence(driver, container, items, minItems, null, Duration.ZERO, quietWindow,
+                maxWaitSeconds);
+    }
+
+    /**
+     * Same as above, but a quiet DOM only counts right away once the items differ from the snapshot taken before
+     * the action that re-renders them (count or first item), so a list that is quiet because the re-render has not
+     * started yet does not resolve the wait. An action may also leave the list as it was; a list still unchanged
+     * but quiet changeGrace after the start of the wait counts as settled.
+     * @param before snapshotItems() from before the action, or null
+     */
+    public static Quiescence awaitDomQuiescence(WebDriver driver, WebElement container, By items, int minItems,
+                                                ItemSnapshot before, Duration changeGrace, Duration quietWindow,
+                                                int maxWaitSeconds) {
+        By.Remotable.Parameters parameters = remoteParameters(items);
+        boolean xpath = parameters.using().equals("xpath");
+        Map<String, Object> changedFrom = before == null ? null
+                : Map.of("count", before.count(), "first", before.first(), "graceMs", changeGrace.toMillis());
+        Map<?, ?> result = HtmlUnitSupport.isHtmlUnit(driver) ? null
+                : runAsync(driver, "DOM quiescence", AWAIT_DOM_QUIESCENCE_JS, maxWaitSeconds * 1000L,
+                        container, String.valueOf(parameters.value()), xpath, quietWindow.toMillis(), minItems,
+                        changedFrom);
+        if (result == null) {
+            return pollDomQuiescence(container, items, minItems, before, changeGrace, quietWindow, maxWaitSeconds);
+        }
+        Quiescence quiescence = new Quiescence(Boolean.TRUE.equals(result.get("quiet")),
+                ((Number) result.get("count")).intValue(), ((Number) result.get("mutations")).intValue(),
+                ((Number) result.get("ms")).longValue());
+        if (!quiescence.quiet()) {
+            TestDeadline.checkpoint("DOM quiescence (in page)");
+            logger.warn("DOM did not settle within " + maxWaitSeconds + " seconds: " + quiescence);
+        }
+        return quiescence;
+    }
+
+    /**
+     * Item count and first item's text within the container, to tell a re-rendered list from the old one
+     */
+    public static ItemSnapshot snapshotItems(WebElement container, By items) {
+        List<WebElement> found = container.findElements(items);
+        String first = found.isEmpty() ? "" : found.get(0).getDomProperty("textContent");
+        return new ItemSnapshot(found.size(), first == null ? "" : first);
+    }
+
+    /**
+     * The CSS selector or XPath a locator resolves to, for evaluating it inside the page
+     */
+    private static By.Remotable.Parameters remoteParameters(By locator) {
+        if (!(locator instanceof By.Remotable remotable)) {
+            throw new IllegalArgumentException("Locator cannot be evaluated in the page: " + locator);
+        }
+        By.Remotable.Parameters parameters = remotable.getRemoteParameters();
+        String value = String.valueOf(parameters.value());
+        // id, name ve class locator'ları W3C'ye gönderilirken CSS'e çevrilir; burada da aynısı yapılır
+        String quoted = "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+        return switch (parameters.using()) {
+            case "xpath", "css selector" -> parameters;
+            case "id" -> new By.Remotable.Parameters("css selector", "[id=" + quoted + "]");
+            case "name" -> new By.Remotable.Parameters("css selector", "[name=" + quoted + "]");
+            case "class name" -> new By.Remotable.Parameters("css selector", "[class~=" + quoted + "]");
+            case "tag name" -> new By.Remotable.Parameters("css selector", value);
+            default -> throw new IllegalArgumentException("Locator cannot be evaluated in the page: " + locator);
+        };
+    }
+
+    /**
+     * Result of a quiescence wait: whether the DOM settled, the item count at that moment, how many mutation
+     * records were observed and how long it took in the browser
+     */
+    public record Quiescence(boolean quiet, int itemCount, int mutations, long millis) {
+    }
+
+    public record ItemSnapshot(int count, String first) {
+    }
+
+    /**
+     * Fallback when no MutationObserver is available: the item count must stay the same for quietWindow
+     */
+    private static Quiescence pollDomQuiescence(WebElement container, By items, int minItems, ItemSnapshot before,
+                                                Duration changeGrace, Duration quietWindow, int maxWaitSeconds) {
+        long start = System.currentTimeMillis();
+        long endTime = start + TestDeadline.capMillis(maxWaitSeconds * 1000L);
+        int count = container.findElements(items).size();
+        int changes = 0;
+        long stableSince = start;
+        while (System.currentTimeMillis() < endTime) {
+            if (count >= minItems && System.currentTimeMillis() - stableSince >= quietWindow.toMillis()
+                    && (before == null || System.currentTimeMillis() - start >= changeGrace.toMillis()
+                            || !before.equals(snapshotItems(container, items)))) {
+                return new Quiescence(true, count, changes, System.currentTimeMillis() - start);
+            }
+            WaitUtils.waitWithStaticWait(Math.min(100, Math.max(1, endTime - System.currentTimeMillis())));
+            int current = container.findElements(items).size();
+            if (current != count) {
+                count = current;
+                changes++;
+                stableSince = System.currentTimeMillis();
+            }
+        }
+        TestDeadline.checkpoint("DOM quiescence (polling)");
+        return new Quiescence(false, count, changes, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Run an async wait script that calls back with {ok, ms}; the timeout is passed to the page as the last
+     * argument before the callback
+     * @return browser-side milliseconds, -1 on timeout, FALLBACK when the script could not run (e.g. the
+     *         document unloaded during the wait)
+     */
+    private static long awaitInPage(WebDriver driver, String condition, String script, int maxWaitSeconds,
+                                    Object... elements) {
+        Map<?, ?> result = runAsync(driver, condition, script, maxWaitSeconds * 1000L, elements);
+        if (result == null) {
+            return FALLBACK;
+        }
+        long millis = ((Number) result.get("ms")).longValue();
+        boolean ok = Boolean.TRUE.equals(result.get("ok"));
+        logger.debug("In-page wait for " + condition + ": " + (ok ? "held after " + millis + " ms" : "timed out"));
+        if (!ok) {
+            TestDeadline.checkpoint(condition + " (in page)");
+        }
+        return ok ? millis : -1;
+    }
+
+    /**
+     * Run an async script with the timeout appended to its arguments
+     * @return the object the script called back with, null when the script could not run
+     */
+    private static Map<?, ?> runAsync(WebDriver driver, String condition, String script, long maxWaitMillis,
+                                      Object... arguments) {
+        long start = System.nanoTime();
+        long timeoutMillis = TestDeadline.capMillis(maxWaitMillis);
+        Object[] args = new Object[arguments.length + 1];
+        System.arraycopy(arguments, 0, args, 0, arguments.length);
+        args[arguments.length] = timeoutMillis;
+        boolean extendedTimeout = timeoutMillis + SCRIPT_TIMEOUT_MARGIN_MILLIS > DEFAULT_SCRIPT_TIMEOUT_MILLIS;
+        try {
+            if (extendedTimeout) {
+                // Uzun bekleme: WebDriver script timeout'u sayfa içi timer'dan önce dolmasın
+                driver.manage().timeouts().scriptTimeout(Duration.ofMillis(timeoutMillis + SCRIPT_TIMEOUT_MARGIN_MILLIS));
+            }
+            Object result = ((JavascriptExecutor) driver).executeAsyncScript(script, args);
+            return result instanceof Map<?, ?> map ? map : null;
+        } catch (WebDriverException e) {
+            logger.debug("In-page wait for " + condition + " failed, polling instead: " + e.getMessage());
+            return null;
+        } finally {
+            if (extendedTimeout) {
+                driver.manage().timeouts().scriptTimeout(Duration.ofMillis(DEFAULT_SCRIPT_TIMEOUT_MILLIS));
+            }
+            TestDeadline.step(condition + " (in page)", System.nanoTime() - start);
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package com.insider.utils.methods;
 
+import com.insider.utils.wait.ElementConditions;
+import com.insider.utils.wait.NetworkFilter;
+import com.insider.utils.wait.NetworkMonitor;
+import com.insider.utils.wait.TestDeadline;
+import com.insider.utils.wait.WaitPolicy;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
@@ -15,10 +20,10 @@ import java.util.List;
  * Utility class for wait operations
  * Contains both dynamic (WebDriverWait) and static (Thread.sleep) wait methods
  * Dynamic methods are preferred for most use cases
+ * Locator conditions come from ElementConditions, so a poll that misses does not throw
  */
 public class WaitUtils {
     private static final Logger logger = LoggerFactory.getLogger(WaitUtils.class);
-    private static final int DEFAULT_TIMEOUT_SECONDS = 10;
 
     // ==================== DYNAMIC WAIT METHODS (Preferred) ====================
 
@@ -27,7 +32,7 @@ public class WaitUtils {
      * Returns the WebElement when visible
      */
     public static WebElement waitForVisibilityWithDynamicWait(WebDriverWait wait, By locator) {
-        WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        WebElement element = wait.until(ElementConditions.visibilityOfElementLocated(locator));
         logger.debug("Element is visible: " + locator);
         return element;
     }
@@ -37,7 +42,7 @@ public class WaitUtils {
      * Returns the WebElement when visible
      */
     public static WebElement waitForVisibilityWithDynamicWait(WebDriverWait wait, WebElement element) {
-        WebElement visibleElement = wait.until(ExpectedConditions.visibilityOf(element));
+        WebElement visibleElement = wait.until(ElementConditions.visibilityOf(element));
         logger.debug("Element is visible");
         return visibleElement;
     }
@@ -47,7 +52,7 @@ public class WaitUtils {
      * Returns the WebElement when clickable
      */
     public static WebElement waitForClickableWithDynamicWait(WebDriverWait wait, By locator) {
-        WebElement element = wait.until(ExpectedConditions.elementToBeClickable(locator));
+        WebElement element = wait.until(ElementConditions.elementToBeClickable(locator));
         logger.debug("Element is clickable: " + locator);
         return element;
     }
@@ -57,7 +62,7 @@ public class WaitUtils {
      * Returns the WebElement when clickable
      */
     public static WebElement waitForClickableWithDynamicWait(WebDriverWait wait, WebElement element) {
-        WebElement clickableElement = wait.until(ExpectedConditions.elementToBeClickable(element));
+        WebElement clickableElement = wait.until(ElementConditions.elementToBeClickable(element));
         logger.debug("Element is clickable");
         return clickableElement;
     }
@@ -67,7 +72,7 @@ public class WaitUtils {
      * Returns the WebElement when present
      */
     public static WebElement waitForPresenceWithDynamicWait(WebDriverWait wait, By locator) {
-        WebElement element = wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+        WebElement element = wait.until(ElementConditions.presenceOfElementLocated(locator));
         logger.debug("Element is present: " + locator);
         return element;
     }
@@ -77,7 +82,7 @@ public class WaitUtils {
      * Returns list of WebElements when all are present
      */
     public static List<WebElement> waitForAllElementsPresentWithDynamicWait(WebDriverWait wait, By locator) {
-        List<WebElement> elements = wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(locator));
+        List<WebElement> elements = wait.until(ElementConditions.presenceOfAllElementsLocatedBy(locator));
         logger.debug("All elements are present: " + locator + " (count: " + elements.size() + ")");
         return elements;
     }
@@ -86,7 +91,7 @@ public class WaitUtils {
      * Wait for element to be invisible with dynamic wait
      */
     public static void waitForInvisibilityWithDynamicWait(WebDriverWait wait, By locator) {
-        wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
+        wait.until(ElementConditions.invisibilityOfElementLocated(locator));
         logger.debug("Element is invisible: " + locator);
     }
 
@@ -94,7 +99,7 @@ public class WaitUtils {
      * Wait for element to be invisible with dynamic wait
      */
     public static void waitForInvisibilityWithDynamicWait(WebDriverWait wait, WebElement element) {
-        wait.until(ExpectedConditions.invisibilityOf(element));
+        wait.until(ElementConditions.invisibilityOf(element));
         logger.debug("Element is invisible");
     }
 
@@ -110,7 +115,7 @@ public class WaitUtils {
      * Wait for text to be present in element with dynamic wait
      */
     public static void waitForTextToBePresentWithDynamicWait(WebDriverWait wait, By locator, String text) {
-        wait.until(ExpectedConditions.textToBePresentInElementLocated(locator, text));
+        wait.until(ElementConditions.textToBePresentInElementLocated(locator, text));
         logger.debug("Text '" + text + "' is present in element: " + locator);
     }
 
@@ -118,7 +123,7 @@ public class WaitUtils {
      * Wait for text to be present in element with dynamic wait
      */
     public static void waitForTextToBePresentWithDynamicWait(WebDriverWait wait, WebElement element, String text) {
-        wait.until(ExpectedConditions.textToBePresentInElement(element, text));
+        wait.until(ElementConditions.textToBePresentInElement(element, text));
         logger.debug("Text '" + text + "' is present in element");
     }
 
@@ -126,7 +131,7 @@ public class WaitUtils {
      * Wait for element to have specific attribute value with dynamic wait
      */
     public static void waitForAttributeToBeWithDynamicWait(WebDriverWait wait, By locator, String attribute, String value) {
-        wait.until(ExpectedConditions.attributeToBe(locator, attribute, value));
+        wait.until(ElementConditions.attributeToBe(locator, attribute, value));
         logger.debug("Attribute '" + attribute + "' has value '" + value + "' for element: " + locator);
     }
 
@@ -134,7 +139,7 @@ public class WaitUtils {
      * Wait for element to have specific attribute value with dynamic wait
      */
     public static void waitForAttributeToBeWithDynamicWait(WebDriverWait wait, WebElement element, String attribute, String value) {
-        wait.until(ExpectedConditions.attributeToBe(element, attribute, value));
+        wait.until(ElementConditions.attributeToBe(element, attribute, value));
         logger.debug("Attribute '" + attribute + "' has value '" + value + "'");
     }
 
@@ -218,14 +223,60 @@ public class WaitUtils {
         logger.debug("Frame is available and switched (index: " + frameIndex + ")");
     }
 
+    // ==================== NETWORK IDLE WAIT METHODS ====================
+
+    /**
+     * Start following the session's XHR/fetch requests
+     * Call before the action whose requests should be waited for; returns false when the session has no
+     * network events (e.g. HtmlUnit)
+     */
+    public static boolean trackNetwork(WebDriver driver) {
+        return NetworkMonitor.track(driver).isSupported();
+    }
+
+    /**
+     * Wait until no XHR/fetch request has been in flight for the default quiet window
+     * Analytics and beacon URLs are excluded by the default NetworkFilter
+     */
+    public static NetworkMonitor.NetworkIdle waitForNetworkIdle(WebDriver driver) {
+        return waitForNetworkIdle(driver, NetworkMonitor.QUIET_WINDOW, NetworkMonitor.MAX_WAIT_SECONDS);
+    }
+
+    /**
+     * Wait until no XHR/fetch request has been in flight for the given quiet window
+     */
+    public static NetworkMonitor.NetworkIdle waitForNetworkIdle(WebDriver driver, Duration quietWindow, int maxWaitSeconds) {
+        return waitForNetworkIdle(driver, quietWindow, maxWaitSeconds, NetworkFilter.defaults());
+    }
+
+    /**
+     * Wait until no XHR/fetch request matching the filter has been in flight for the given quiet window
+     * The result lists the requests that held the wait open
+     */
+    public static NetworkMonitor.NetworkIdle waitForNetworkIdle(WebDriver driver, Duration quietWindow, int maxWaitSeconds,
+                                                                NetworkFilter filter) {
+        long start = System.nanoTime();
+        NetworkMonitor.NetworkIdle result = NetworkMonitor.track(driver)
+                .awaitIdle(quietWindow, TestDeadline.cap(Duration.ofSeconds(maxWaitSeconds)), filter);
+        TestDeadline.step("network idle", System.nanoTime() - start);
+        if (!result.idle()) {
+            TestDeadline.checkpoint("network idle");
+        }
+        logger.debug("Network idle wait: " + result);
+        return result;
+    }
+
     // ==================== STATIC WAIT METHODS ====================
 
     /**
      * Static wait using Thread.sleep
      */
     public static void waitWithStaticWait(long milliseconds) {
+        long start = System.nanoTime();
         try {
-            Thread.sleep(milliseconds);
+            Thread.sleep(TestDeadline.capMillis(milliseconds));
+            TestDeadline.step("static wait", System.nanoTime() - start);
+            TestDeadline.checkpoint("static wait");
             logger.debug("Static wait completed: " + milliseconds + "ms");
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -242,24 +293,24 @@ public class WaitUtils {
     }
 
     /**
-     * Create a WebDriverWait instance with default timeout
+     * Create a wait with the default WaitPolicy profile
      */
     public static WebDriverWait createWait(WebDriver driver) {
-        return new WebDriverWait(driver, Duration.ofSeconds(DEFAULT_TIMEOUT_SECONDS));
+        return WaitPolicy.waitFor(driver);
     }
 
     /**
-     * Create a WebDriverWait instance with custom timeout
+     * Create a WaitPolicy wait with custom timeout
      */
     public static WebDriverWait createWait(WebDriver driver, int timeoutSeconds) {
-        return new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
+        return WaitPolicy.waitFor(driver, Duration.ofSeconds(timeoutSeconds));
     }
 
     /**
-     * Create a WebDriverWait instance with custom timeout in milliseconds
+     * Create a WaitPolicy wait with custom timeout in milliseconds
      */
     public static WebDriverWait createWaitFromMillis(WebDriver driver, long timeoutMilliseconds) {
-        return new WebDriverWait(driver, Duration.ofMillis(timeoutMilliseconds));
+        return WaitPolicy.waitFor(driver, Duration.ofMillis(timeoutMilliseconds));
     }
 }
 
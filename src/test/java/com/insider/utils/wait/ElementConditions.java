@@ -0,0 +1,170 @@
+package com.insider.utils.wait;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Drop-in replacements for the locator based ExpectedConditions that never throw on a miss
+ * ExpectedConditions look elements up with findElement, so every poll that misses throws (and the wait catches)
+ * a NoSuchElementException with a full stack trace. These conditions use findElements and answer null/false
+ * instead; with implicit wait at zero (WaitPolicy) a miss costs one round trip and no exception.
+ * A stale element counts as a miss, or as gone for the invisibility conditions, like in ExpectedConditions.
+ * Locator conditions expose their kind and By, so PolicyWait can learn per-locator timeouts (LocatorHistory).
+ */
+public final class ElementConditions {
+
+    private ElementConditions() {
+    }
+
+    /**
+     * A condition that waits for one locator to show up; locator() is null for conditions on an already found
+     * element and for invisibility. kind() tells the conditions on the same locator apart (presence, visibility...)
+     */
+    public interface LocatorCondition<T> extends ExpectedCondition<T> {
+        By locator();
+
+        String kind();
+    }
+
+    public static ExpectedCondition<WebElement> presenceOfElementLocated(By locator) {
+        return condition("presence", locator, "presence of element located by: " + locator, driver -> first(driver, locator));
+    }
+
+    public static ExpectedCondition<List<WebElement>> presenceOfAllElementsLocatedBy(By locator) {
+        return condition("presenceOfAll", locator, "presence of any elements located by " + locator, driver -> {
+            List<WebElement> elements = driver.findElements(locator);
+            return elements.isEmpty() ? null : elements;
+        });
+    }
+
+    public static ExpectedCondition<WebElement> visibilityOfElementLocated(By locator) {
+        return condition("visibility", locator, "visibility of element located by " + locator,
+                driver -> visible(first(driver, locator)));
+    }
+
+    public static ExpectedCondition<WebElement> visibilityOf(WebElement element) {
+        return condition("visibility", null, "visibility of " + element, driver -> visible(element));
+    }
+
+    public static ExpectedCondition<WebElement> elementToBeClickable(By locator) {
+        return condition("clickable", locator, "element to be clickable: " + locator, driver -> clickable(first(driver, locator)));
+    }
+
+    public static ExpectedCondition<WebElement> elementToBeClickable(WebElement element) {
+        return condition("clickable", null, "element to be clickable: " + element, driver -> clickable(element));
+    }
+
+    public static ExpectedCondition<Boolean> invisibilityOfElementLocated(By locator) {
+        // Kaybolma süresi görünme süresinden farklı bir olay; locator geçmişine yazılmaz
+        return condition("invisibility", null, "element to no longer be visible: " + locator, driver -> {
+            WebElement element = first(driver, locator);
+            return element == null || visible(element) == null;
+        });
+    }
+
+    public static ExpectedCondition<Boolean> invisibilityOf(WebElement element) {
+        return condition("invisibility", null, "invisibility of " + element, driver -> visible(element) == null);
+    }
+
+    public static ExpectedCondition<Boolean> textToBePresentInElementLocated(By locator, String text) {
+        return condition("text", locator, String.format("text ('%s') to be present in element found by %s", text, locator),
+                driver -> {
+                    WebElement element = first(driver, locator);
+                    return element != null && text(element).contains(text);
+                });
+    }
+
+    public static ExpectedCondition<Boolean> textToBePresentInElement(WebElement element, String text) {
+        return condition("text", null, String.format("text ('%s') to be present in element %s", text, element),
+                driver -> text(element).contains(text));
+    }
+
+    public static ExpectedCondition<Boolean> attributeToBe(By locator, String attribute, String value) {
+        return condition("attribute", locator, String.format("element found by %s to have value \"%s\"", locator, value),
+                driver -> {
+                    WebElement element = first(driver, locator);
+                    return element != null && attributeIs(element, attribute, value);
+                });
+    }
+
+    public static ExpectedCondition<Boolean> attributeToBe(WebElement element, String attribute, String value) {
+        return condition("attribute", null, String.format("element %s to have value \"%s\"", element, value),
+                driver -> attributeIs(element, attribute, value));
+    }
+
+    private static WebElement first(WebDriver driver, By locator) {
+        List<WebElement> elements = driver.findElements(locator);
+        return elements.isEmpty() ? null : elements.get(0);
+    }
+
+    private static WebElement visible(WebElement element) {
+        try {
+            return element != null && element.isDisplayed() ? element : null;
+        } catch (StaleElementReferenceException e) {
+            return null;
+        }
+    }
+
+    private static WebElement clickable(WebElement element) {
+        WebElement visible = visible(element);
+        try {
+            return visible != null && visible.isEnabled() ? visible : null;
+        } catch (StaleElementReferenceException e) {
+            return null;
+        }
+    }
+
+    private static String text(WebElement element) {
+        try {
+            return element.getText();
+        } catch (StaleElementReferenceException e) {
+            return "";
+        }
+    }
+
+    /**
+     * Same check as ExpectedConditions.attributeToBe: the attribute, or the CSS value when there is no attribute
+     */
+    private static boolean attributeIs(WebElement element, String attribute, String value) {
+        try {
+            String current = element.getAttribute(attribute);
+            if (current == null || current.isEmpty()) {
+                current = element.getCssValue(attribute);
+            }
+            return value.equals(current);
+        } catch (StaleElementReferenceException e) {
+            return false;
+        }
+    }
+
+    private static <T> ExpectedCondition<T> condition(String kind, By locator, String description,
+                                                      Function<WebDriver, T> check) {
+        return new LocatorCondition<>() {
+            @Override
+            public By locator() {
+                return locator;
+            }
+
+            @Override
+            public String kind() {
+                return kind;
+            }
+
+            @Override
+            public T apply(WebDriver driver) {
+                return check.apply(driver);
+            }
+
+            @Override
+            public String toString() {
+                return description;
+            }
+        };
+    }
+}
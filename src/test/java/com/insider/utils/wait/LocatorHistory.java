@@ -0,0 +1,203 @@
+package com.insider.utils.wait;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Remembers how long each locator took to show up, across runs, and derives its wait timeout from that
+ * In learn mode a locator with enough samples waits percentile * factor + margin, at least the floor and never
+ * longer than its profile's timeout. A known-fast element that is broken fails in hundreds of milliseconds,
+ * while slow AJAX-driven ones keep their headroom. Locators without enough history use the profile as before.
+ *
+ * Samples are kept per condition kind and locator: a visibility wait on a locator and a text wait on the same one
+ * take different times. Samples of this run are merged into the history file at suite end (lock-protected, so
+ * parallel JVMs can share it). Only the conditions in ElementConditions carry a locator.
+ *
+ * System properties:
+ * wait.history.mode         - off, record (only collect samples) or learn (collect and apply) (default: off)
+ * wait.history.file         - history file (default: ~/.cache/insider-automation/wait-history.properties)
+ * wait.history.percentile   - percentile of the samples the timeout is based on (default: 99)
+ * wait.history.factor       - multiplier on the percentile (default: 2.0)
+ * wait.history.marginMillis - added on top (default: 500)
+ * wait.history.floorMillis  - shortest learned timeout (default: 300)
+ * wait.history.minSamples   - samples needed before a locator's timeout is learned (default: 10)
+ * wait.history.maxSamples   - most recent samples kept per locator (default: 50)
+ */
+public final class LocatorHistory {
+    private static final Logger logger = LoggerFactory.getLogger(LocatorHistory.class);
+
+    private static final String MODE = System.getProperty("wait.history.mode", "off");
+    private static final Path FILE = Paths.get(System.getProperty("wait.history.file",
+            Paths.get(System.getProperty("user.home"), ".cache", "insider-automation", "wait-history.properties")
+                    .toString()));
+    private static final double PERCENTILE = Double.parseDouble(System.getProperty("wait.history.percentile", "99"));
+    private static final double FACTOR = Double.parseDouble(System.getProperty("wait.history.factor", "2.0"));
+    private static final long MARGIN_MILLIS = Long.getLong("wait.history.marginMillis", 500);
+    private static final long FLOOR_MILLIS = Long.getLong("wait.history.floorMillis", 300);
+    private static final int MIN_SAMPLES = Integer.getInteger("wait.history.minSamples", 10);
+    private static final int MAX_SAMPLES = Integer.getInteger("wait.history.maxSamples", 50);
+
+    // Önceki run'lardan öğrenilen timeout'lar; run boyunca sabit kalır
+    private static final Map<String, Long> LEARNED = load();
+    private static final Map<String, List<Long>> RECORDED = new ConcurrentHashMap<>();
+
+    private static final LongAdder SHORTENED = new LongAdder();
+    private static final LongAdder LEARNED_TIMEOUTS = new LongAdder();
+
+    private LocatorHistory() {
+    }
+
+    public static boolean isRecording() {
+        return MODE.equals("record") || MODE.equals("learn");
+    }
+
+    /**
+     * The timeout a wait for this condition gets: learned from history in learn mode, otherwise the profile's
+     */
+    public static Duration timeout(ElementConditions.LocatorCondition<?> condition, WaitProfile profile) {
+        Long learned = MODE.equals("learn") ? LEARNED.get(key(condition)) : null;
+        if (learned == null || learned >= profile.timeout().toMillis()) {
+            return profile.timeout();
+        }
+        SHORTENED.increment();
+        return Duration.ofMillis(learned);
+    }
+
+    static void recordSatisfied(ElementConditions.LocatorCondition<?> condition, long nanos) {
+        if (isRecording()) {
+            RECORDED.computeIfAbsent(key(condition), key -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(nanos / 1_000_000);
+        }
+    }
+
+    static void recordLearnedTimeout(ElementConditions.LocatorCondition<?> condition, Duration learned,
+                                     WaitProfile profile) {
+        LEARNED_TIMEOUTS.increment();
+        logger.warn("Wait for " + key(condition) + " timed out after its learned " + learned.toMillis() + " ms (profile "
+                + profile + "); broken locator, or raise wait.history.factor if the page got slower");
+    }
+
+    /**
+     * Merge this run's samples into the history file, keeping the most recent maxSamples per locator
+     */
+    public static void save() {
+        if (!isRecording() || RECORDED.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(FILE.getParent());
+            Path lockFile = FILE.resolveSibling(FILE.getFileName() + ".lock");
+            try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE)) {
+                FileLock lock = channel.lock();
+                try {
+                    Properties history = read();
+                    for (Map.Entry<String, List<Long>> entry : RECORDED.entrySet()) {
+                        List<Long> samples = new ArrayList<>(parse(history.getProperty(entry.getKey(), "")));
+                        synchronized (entry.getValue()) {
+                            samples.addAll(entry.getValue());
+                        }
+                        List<Long> kept = samples.subList(Math.max(0, samples.size() - MAX_SAMPLES), samples.size());
+                        history.setProperty(entry.getKey(),
+                                kept.stream().map(String::valueOf).collect(Collectors.joining(",")));
+                    }
+                    Path tmp = FILE.resolveSibling(FILE.getFileName() + ".tmp");
+                    try (OutputStream out = Files.newOutputStream(tmp)) {
+                        history.store(out, "Wait satisfaction times per locator (ms), most recent last");
+                    }
+                    Files.move(tmp, FILE, StandardCopyOption.REPLACE_EXISTING);
+                } finally {
+                    lock.release();
+                }
+            }
+            logger.info("Saved wait history of " + RECORDED.size() + " locators to " + FILE);
+            RECORDED.clear();
+        } catch (IOException e) {
+            logger.warn("Wait history could not be saved: " + e.getMessage());
+        }
+    }
+
+    public static String summary() {
+        return String.format("Locator history: mode=%s learned=%d recorded=%d shortened waits=%d "
+                        + "timeouts on learned=%d | %s", MODE, LEARNED.size(), RECORDED.size(), SHORTENED.sum(),
+                LEARNED_TIMEOUTS.sum(), FILE);
+    }
+
+    /**
+     * History key of a condition: its kind and locator, e.g. "visibility By.id: career-our-location"
+     */
+    static String key(ElementConditions.LocatorCondition<?> condition) {
+        return condition.kind() + " " + condition.locator();
+    }
+
+    /**
+     * Learned timeout of one locator's samples, or null with too few samples
+     */
+    static Long learn(List<Long> samples) {
+        return learn(samples, PERCENTILE, FACTOR, MARGIN_MILLIS, FLOOR_MILLIS, MIN_SAMPLES);
+    }
+
+    static Long learn(List<Long> samples, double percentile, double factor, long marginMillis, long floorMillis,
+                      int minSamples) {
+        if (samples.size() < minSamples) {
+            return null;
+        }
+        List<Long> sorted = samples.stream().sorted().toList();
+        int index = (int) Math.ceil(percentile / 100 * sorted.size()) - 1;
+        long value = sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+        return Math.max(floorMillis, (long) (value * factor) + marginMillis);
+    }
+
+    private static Map<String, Long> load() {
+        if (!MODE.equals("learn")) {
+            return Map.of();
+        }
+        Map<String, Long> learned = new ConcurrentHashMap<>();
+        read().forEach((key, value) -> {
+            Long timeout = learn(parse((String) value));
+            if (timeout != null) {
+                learned.put((String) key, timeout);
+            }
+        });
+        logger.info("Learned wait timeouts for " + learned.size() + " locators from " + FILE);
+        return learned;
+    }
+
+    private static Properties read() {
+        Properties history = new Properties();
+        if (Files.exists(FILE)) {
+            try (InputStream in = Files.newInputStream(FILE)) {
+                history.load(in);
+            } catch (IOException e) {
+                logger.warn("Wait history could not be read: " + e.getMessage());
+            }
+        }
+        return history;
+    }
+
+    private static List<Long> parse(String samples) {
+        return Arrays.stream(samples.split(",")).map(String::trim).filter(sample -> sample.matches("\\d+"))
+                .map(Long::parseLong).toList();
+    }
+}
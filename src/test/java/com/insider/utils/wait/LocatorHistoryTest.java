@@ -0,0 +1,54 @@
+package com.insider.utils.wait;
+
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * Timeouts learned from samples and the keys the samples are stored under
+ */
+public class LocatorHistoryTest {
+
+    @Test
+    public void learnsPercentileTimesFactorPlusMargin() {
+        List<Long> samples = new ArrayList<>(LongStream.rangeClosed(1, 100).boxed().toList());
+        Collections.shuffle(samples);
+        Assert.assertEquals(LocatorHistory.learn(samples, 90, 1.0, 0, 0, 10), Long.valueOf(90));
+        Assert.assertEquals(LocatorHistory.learn(samples, 90, 2.0, 500, 0, 10), Long.valueOf(680));
+        Assert.assertEquals(LocatorHistory.learn(samples, 100, 1.0, 0, 0, 10), Long.valueOf(100));
+    }
+
+    @Test
+    public void neverLearnsBelowTheFloor() {
+        List<Long> samples = Collections.nCopies(10, 10L);
+        Assert.assertEquals(LocatorHistory.learn(samples, 99, 2.0, 0, 300, 10), Long.valueOf(300));
+        Assert.assertEquals(LocatorHistory.learn(samples, 99, 2.0, 500, 300, 10), Long.valueOf(520));
+    }
+
+    @Test
+    public void needsMinSamplesBeforeLearning() {
+        Assert.assertNull(LocatorHistory.learn(Collections.nCopies(9, 100L), 99, 2.0, 500, 300, 10));
+        Assert.assertNotNull(LocatorHistory.learn(Collections.nCopies(10, 100L), 99, 2.0, 500, 300, 10));
+        // Varsayılanlar: p99 x 2 + 500 ms, en az 10 örnek
+        Assert.assertEquals(LocatorHistory.learn(Collections.nCopies(10, 100L)), Long.valueOf(700));
+    }
+
+    @Test
+    public void keysSamplesByConditionKindAndLocator() {
+        By locator = By.id("career-our-location");
+        String visibility = key(ElementConditions.visibilityOfElementLocated(locator));
+        Assert.assertEquals(visibility, "visibility " + locator);
+        Assert.assertNotEquals(key(ElementConditions.presenceOfElementLocated(locator)), visibility);
+        Assert.assertNotEquals(key(ElementConditions.textToBePresentInElementLocated(locator, "Istanbul")),
+                visibility);
+    }
+
+    private static String key(Object condition) {
+        return LocatorHistory.key((ElementConditions.LocatorCondition<?>) condition);
+    }
+}
@@ -0,0 +1,40 @@
+package com.insider.utils.wait;
+
+import java.util.regex.Pattern;
+
+/**
+ * Which request URLs a network-idle wait cares about: a URL counts when it matches include and not exclude
+ * The defaults come from system properties, so analytics and tracking beacons never hold a wait open.
+ *
+ * System properties:
+ * network.idle.include - regex of URLs to wait for (default: every URL)
+ * network.idle.exclude - regex of URLs to ignore (default: common analytics, tag manager and beacon hosts)
+ */
+public record NetworkFilter(Pattern include, Pattern exclude) {
+
+    static final String DEFAULT_EXCLUDE = "google-analytics|googletagmanager|doubleclick|facebook|hotjar|clarity"
+            + "|hubspot|linkedin|bing\\.com|/collect\\b|beacon|pixel|sentry";
+
+    private static final NetworkFilter DEFAULTS = of(System.getProperty("network.idle.include", ".*"),
+            System.getProperty("network.idle.exclude", DEFAULT_EXCLUDE));
+
+    public static NetworkFilter defaults() {
+        return DEFAULTS;
+    }
+
+    public static NetworkFilter of(String include, String exclude) {
+        return new NetworkFilter(Pattern.compile(include), exclude == null || exclude.isEmpty() ? null
+                : Pattern.compile(exclude));
+    }
+
+    /**
+     * The default filter with an additional include pattern, e.g. only the jobs feed
+     */
+    public static NetworkFilter including(String include) {
+        return new NetworkFilter(Pattern.compile(include), DEFAULTS.exclude);
+    }
+
+    public boolean matches(String url) {
+        return include.matcher(url).find() && (exclude == null || !exclude.matcher(url).find());
+    }
+}
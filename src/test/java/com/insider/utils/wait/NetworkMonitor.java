@@ -0,0 +1,353 @@
+package com.insider.utils.wait;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.bidi.BiDi;
+import org.openqa.selenium.bidi.HasBiDi;
+import org.openqa.selenium.devtools.CdpInfo;
+import org.openqa.selenium.devtools.CdpVersionFinder;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.Connection;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.SeleniumCdpConnection;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Follows the XHR/fetch requests of one session through browser network events, so a wait can end as soon as
+ * the page's data calls have settled instead of guessing with element waits
+ * BiDi network events are used when the session has a BiDi connection (they are scoped to the current window),
+ * otherwise CDP Network events on the current window's target. CDP events come over a DevTools connection of the
+ * monitor's own, so the listeners others register on the session's DevTools are left alone. Sessions with neither,
+ * such as HtmlUnit, report the wait as unsupported and return at once.
+ *
+ * Start tracking before the action that triggers the requests; requests sent before tracking are not seen.
+ *
+ * System properties:
+ * network.idle.enabled           - wait for network idle after navigation and job filtering (default: false)
+ * network.idle.quietMillis       - how long no matching request may be in flight (default: 500)
+ * network.idle.maxWaitSeconds    - give up after this long (default: 10)
+ * network.idle.maxRequestSeconds - requests open longer than this (long polling) no longer hold a wait (default: 10)
+ */
+public final class NetworkMonitor {
+    private static final Logger logger = LoggerFactory.getLogger(NetworkMonitor.class);
+
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("network.idle.enabled", "false"));
+    public static final Duration QUIET_WINDOW = Duration.ofMillis(Long.getLong("network.idle.quietMillis", 500));
+    public static final int MAX_WAIT_SECONDS = Integer.getInteger("network.idle.maxWaitSeconds", 10);
+    private static final long MAX_REQUEST_NANOS = TimeUnit.SECONDS.toNanos(
+            Integer.getInteger("network.idle.maxRequestSeconds", 10));
+    private static final int RECENT_LIMIT = 256;
+
+    private static final Map<WebDriver, NetworkMonitor> MONITORS = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    private static final LongAdder WAITS = new LongAdder();
+    private static final LongAdder TIMEOUTS = new LongAdder();
+    private static final LongAdder UNSUPPORTED = new LongAdder();
+    private static final LongAdder WAITED_NANOS = new LongAdder();
+
+    private final WebDriver driver;
+    // Aşağıdaki alanlar this monitor'ü ile korunur; event'ler websocket thread'inden gelir
+    private final Map<String, Request> inFlight = new HashMap<>();
+    private final Deque<Request> recent = new ArrayDeque<>();
+    // Abonelik alanları subscriptionLock ile korunur; abone olurken gelen event'ler this'i bloklamasın diye ayrı
+    private final Object subscriptionLock = new Object();
+    private final List<Long> bidiListeners = new ArrayList<>();
+    private BiDi bidiSession;
+    private DevTools devTools;
+    private String attachedWindow;
+    private volatile String protocol;
+
+    private NetworkMonitor(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * The session's monitor, subscribed to the current window's network events
+     */
+    public static NetworkMonitor track(WebDriver driver) {
+        NetworkMonitor monitor = MONITORS.computeIfAbsent(driver, NetworkMonitor::new);
+        monitor.attach();
+        return monitor;
+    }
+
+    /**
+     * Drop the session's monitor and its listeners, when the session is reset or quit
+     */
+    public static void forget(WebDriver driver) {
+        NetworkMonitor monitor = MONITORS.remove(driver);
+        if (monitor != null) {
+            monitor.detach();
+        }
+    }
+
+    public boolean isSupported() {
+        return protocol != null;
+    }
+
+    /**
+     * Block until no request matching the filter has been in flight for the quiet window
+     * The quiet window is counted from the start of the wait, so requests an action triggers a moment later are
+     * still caught.
+     */
+    public synchronized NetworkIdle awaitIdle(Duration quietWindow, Duration maxWait, NetworkFilter filter) {
+        WAITS.increment();
+        if (protocol == null) {
+            UNSUPPORTED.increment();
+            return new NetworkIdle(false, false, 0, List.of());
+        }
+        long start = System.nanoTime();
+        long deadline = start + maxWait.toNanos();
+        long quietNanos = quietWindow.toNanos();
+        Set<String> heldBy = new LinkedHashSet<>();
+        boolean idle;
+        while (true) {
+            long now = System.nanoTime();
+            long quietSince = start;
+            boolean busy = false;
+            for (Request request : inFlight.values()) {
+                if (filter.matches(request.url()) && now - request.startNanos() < MAX_REQUEST_NANOS) {
+                    busy = true;
+                    heldBy.add(request.url());
+                }
+            }
+            for (Request request : recent) {
+                if (request.endNanos() >= start && filter.matches(request.url())) {
+                    heldBy.add(request.url());
+                    quietSince = Math.max(quietSince, request.endNanos());
+                }
+            }
+            if (!busy && now - quietSince >= quietNanos) {
+                idle = true;
+                break;
+            }
+            if (now >= deadline) {
+                idle = false;
+                break;
+            }
+            // Meşgulken bir sonraki event'e, sessizken pencerenin dolmasına kadar bekle
+            long wakeUp = busy ? deadline : Math.min(deadline, quietSince + quietNanos);
+            try {
+                wait(Math.max(1, TimeUnit.NANOSECONDS.toMillis(wakeUp - now)));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                idle = false;
+                break;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        WAITED_NANOS.add(elapsed);
+        NetworkIdle result = new NetworkIdle(idle, true, TimeUnit.NANOSECONDS.toMillis(elapsed), List.copyOf(heldBy));
+        if (idle) {
+            logger.debug("Network idle after " + result.millis() + " ms, held by " + result.heldBy());
+        } else {
+            TIMEOUTS.increment();
+            logger.warn("Network not idle after " + result.millis() + " ms, held by " + result.heldBy());
+        }
+        return result;
+    }
+
+    public static String summary() {
+        return String.format("Network idle waits: total=%d timeouts=%d unsupported=%d waited=%.1f s",
+                WAITS.sum(), TIMEOUTS.sum(), UNSUPPORTED.sum(), WAITED_NANOS.sum() / 1_000_000_000.0);
+    }
+
+    /**
+     * Subscribe to the current window; a window switch moves the subscription and forgets the old requests
+     */
+    private void attach() {
+        String window;
+        try {
+            window = driver.getWindowHandle();
+        } catch (WebDriverException e) {
+            logger.debug("Network tracking skipped, no current window: " + e.getMessage());
+            return;
+        }
+        synchronized (subscriptionLock) {
+            if (!window.equals(attachedWindow)) {
+                unsubscribe();
+                clearRequests();
+                subscribe(window);
+            }
+        }
+    }
+
+    private void subscribe(String window) {
+        try {
+            Optional<BiDi> bidi = driver instanceof HasBiDi hasBiDi ? hasBiDi.maybeGetBiDi() : Optional.empty();
+            Optional<DevTools> cdp = bidi.isPresent() ? Optional.empty() : openDevTools();
+            if (bidi.isPresent()) {
+                subscribe(bidi.get(), window);
+                protocol = "bidi";
+            } else if (cdp.isPresent()) {
+                devTools = cdp.get();
+                subscribe(cdp.get(), window);
+                protocol = "cdp";
+            }
+        } catch (WebDriverException e) {
+            logger.warn("Network events not available for this session: " + e.getMessage());
+            protocol = null;
+        }
+        // Desteklenmeyen oturumda her track çağrısı tekrar denemesin
+        attachedWindow = window;
+    }
+
+    private void subscribe(BiDi bidi, String window) {
+        bidiListeners.add(bidi.addListener(window, bidiEvent("network.beforeRequestSent"), params -> {
+            Map<String, Object> request = map(params.get("request"));
+            if (isScriptRequest(request, map(params.get("initiator")))) {
+                started((String) request.get("request"), (String) request.get("url"));
+            }
+        }));
+        bidiListeners.add(bidi.addListener(window, bidiEvent("network.responseCompleted"),
+                params -> finished((String) map(params.get("request")).get("request"))));
+        bidiListeners.add(bidi.addListener(window, bidiEvent("network.fetchError"),
+                params -> finished((String) map(params.get("request")).get("request"))));
+        bidiSession = bidi;
+    }
+
+    /**
+     * A DevTools connection of this monitor's own to the session's browser; empty without CDP or a known version
+     */
+    private Optional<DevTools> openDevTools() {
+        if (!(driver instanceof HasDevTools) || !(driver instanceof HasCapabilities hasCapabilities)) {
+            return Optional.empty();
+        }
+        Capabilities capabilities = hasCapabilities.getCapabilities();
+        Optional<CdpInfo> info = new CdpVersionFinder().match(capabilities.getBrowserVersion());
+        if (info.isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<Connection> connection = SeleniumCdpConnection.create(capabilities);
+        return connection.map(opened -> new DevTools(info.get()::getDomains, opened));
+    }
+
+    private void subscribe(DevTools cdp, String window) {
+        cdp.createSession(window);
+        cdp.addListener(cdpEvent("Network.requestWillBeSent"), params -> {
+            // Sadece sayfanın kendi veri çağrıları; doküman, görsel ve script yüklemeleri sayılmaz
+            if ("XHR".equals(params.get("type")) || "Fetch".equals(params.get("type"))) {
+                started((String) params.get("requestId"), (String) map(params.get("request")).get("url"));
+            }
+        });
+        cdp.addListener(cdpEvent("Network.loadingFinished"), params -> finished((String) params.get("requestId")));
+        cdp.addListener(cdpEvent("Network.loadingFailed"), params -> finished((String) params.get("requestId")));
+        cdp.send(new Command<>("Network.enable", Map.of()));
+    }
+
+    private void detach() {
+        synchronized (subscriptionLock) {
+            unsubscribe();
+        }
+    }
+
+    private void unsubscribe() {
+        try {
+            if (bidiSession != null) {
+                bidiListeners.forEach(bidiSession::removeListener);
+            }
+            if (devTools != null) {
+                // Bağlantı bu monitor'e ait; kapatmak sadece onun listener'larını kaldırır
+                devTools.close();
+            }
+        } catch (WebDriverException e) {
+            logger.debug("Network listeners could not be removed: " + e.getMessage());
+        }
+        bidiListeners.clear();
+        bidiSession = null;
+        devTools = null;
+        protocol = null;
+        attachedWindow = null;
+    }
+
+    private synchronized void clearRequests() {
+        inFlight.clear();
+        recent.clear();
+    }
+
+    private synchronized void started(String id, String url) {
+        if (id == null || url == null) {
+            return;
+        }
+        // Yönlendirmede aynı id yeni URL ile tekrar gelir; başlangıç zamanı korunur
+        Request previous = inFlight.get(id);
+        inFlight.put(id, new Request(url, previous != null ? previous.startNanos() : System.nanoTime(), 0));
+        notifyAll();
+    }
+
+    private synchronized void finished(String id) {
+        Request request = id != null ? inFlight.remove(id) : null;
+        if (request == null) {
+            return;
+        }
+        recent.addLast(new Request(request.url(), request.startNanos(), System.nanoTime()));
+        if (recent.size() > RECENT_LIMIT) {
+            recent.removeFirst();
+        }
+        notifyAll();
+    }
+
+    /**
+     * XHR or fetch by the initiator type when the browser reports it, otherwise by the empty fetch destination
+     */
+    private static boolean isScriptRequest(Map<String, Object> request, Map<String, Object> initiator) {
+        Object initiatorType = request.get("initiatorType");
+        if (initiatorType != null) {
+            return "xmlhttprequest".equals(initiatorType) || "fetch".equals(initiatorType);
+        }
+        Object destination = request.get("destination");
+        if (destination != null) {
+            return "".equals(destination);
+        }
+        return "script".equals(initiator.get("type"));
+    }
+
+    private static Event<Map<String, Object>> cdpEvent(String method) {
+        return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+    }
+
+    private static org.openqa.selenium.bidi.Event<Map<String, Object>> bidiEvent(String method) {
+        return new org.openqa.selenium.bidi.Event<>(method, params -> params);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> map(Object value) {
+        return value instanceof Map<?, ?> map ? (Map<String, Object>) map : Map.of();
+    }
+
+    private record Request(String url, long startNanos, long endNanos) {
+    }
+
+    /**
+     * Outcome of one network-idle wait
+     * @param idle      the quiet window was reached before the timeout
+     * @param supported the session delivers network events; when false the wait returned at once
+     * @param heldBy    URLs of the matching requests that were in flight during the wait
+     */
+    public record NetworkIdle(boolean idle, boolean supported, long millis, List<String> heldBy) {
+    }
+}
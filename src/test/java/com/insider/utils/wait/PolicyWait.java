@@ -0,0 +1,155 @@
+package com.insider.utils.wait;
+
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * WebDriverWait whose timeout and polling come from a WaitProfile
+ * until() runs its own polling loop: the first check is immediate, then the interval starts at
+ * WaitPolicy.initialPolling() and doubles up to the profile's polling, so fast conditions are seen fast and slow
+ * ones are not hammered. Each wait counts its polls, the exceptions its condition threw (zero with
+ * ElementConditions), the bytes the thread allocated and the time to satisfaction. A condition on a locator may
+ * get a shorter timeout learned from earlier runs (LocatorHistory), and no wait outlasts the running test's
+ * budget (TestDeadline).
+ *
+ * Every until() is tracked per thread, so a wait started inside another wait's condition is known as nested;
+ * WaitPolicy reports the outer wait when the nesting pushes it past its worst case.
+ */
+public class PolicyWait extends WebDriverWait {
+
+    private static final ThreadLocal<Deque<Frame>> ACTIVE = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final com.sun.management.ThreadMXBean THREADS = threads();
+
+    private final WaitProfile profile;
+    private volatile WaitMetrics lastMetrics;
+
+    PolicyWait(WebDriver driver, WaitProfile profile) {
+        super(driver, profile.timeout(), profile.polling());
+        this.profile = profile;
+    }
+
+    public WaitProfile profile() {
+        return profile;
+    }
+
+    /**
+     * Counters of the last until() on this wait, null before the first one
+     */
+    public WaitMetrics lastMetrics() {
+        return lastMetrics;
+    }
+
+    @Override
+    public <V> V until(Function<? super WebDriver, V> isTrue) {
+        Deque<Frame> active = ACTIVE.get();
+        Frame frame = new Frame(profile, System.nanoTime(), allocatedBytes());
+        if (!active.isEmpty()) {
+            active.peek().nested.add(profile);
+        }
+        ElementConditions.LocatorCondition<?> located = isTrue instanceof ElementConditions.LocatorCondition<?> condition
+                && condition.locator() != null ? condition : null;
+        Duration learned = located != null ? LocatorHistory.timeout(located, profile) : profile.timeout();
+        Duration timeout = TestDeadline.cap(learned);
+        active.push(frame);
+        boolean satisfied = false;
+        try {
+            V value = poll(isTrue, frame, timeout);
+            satisfied = true;
+            if (located != null) {
+                LocatorHistory.recordSatisfied(located, System.nanoTime() - frame.startNanos);
+            }
+            return value;
+        } catch (TimeoutException e) {
+            TestDeadline.BudgetExceededError budget = TestDeadline.exceededBy("wait " + profile.name() + ": " + isTrue,
+                    System.nanoTime() - frame.startNanos, learned, timeout, e);
+            if (budget != null) {
+                throw budget;
+            }
+            if (learned.compareTo(profile.timeout()) < 0) {
+                LocatorHistory.recordLearnedTimeout(located, learned, profile);
+            }
+            throw e;
+        } finally {
+            active.pop();
+            long allocated = frame.startAllocated < 0 ? -1 : allocatedBytes() - frame.startAllocated;
+            lastMetrics = new WaitMetrics(profile.name(), satisfied, frame.polls, frame.exceptions, allocated,
+                    System.nanoTime() - frame.startNanos);
+            WaitPolicy.record(frame.profile, lastMetrics, frame.nested);
+            if (active.isEmpty()) {
+                // İç içe wait'ler dıştakinin süresine dahil; breakdown'a sadece en dıştaki yazılır
+                TestDeadline.step("wait " + profile.name() + ": " + isTrue, lastMetrics.nanos());
+            }
+        }
+    }
+
+    /**
+     * Same contract as FluentWait.until (null and false mean not yet, NotFoundException is ignored) with an
+     * interval that backs off exponentially
+     */
+    private <V> V poll(Function<? super WebDriver, V> isTrue, Frame frame, Duration timeout) {
+        long deadline = frame.startNanos + timeout.toNanos();
+        long interval = Math.min(WaitPolicy.initialPolling().toNanos(), profile.polling().toNanos());
+        Throwable lastException = null;
+        while (true) {
+            frame.polls++;
+            try {
+                V value = isTrue.apply(input);
+                if (value != null && (value.getClass() != Boolean.class || Boolean.TRUE.equals(value))) {
+                    return value;
+                }
+                lastException = null;
+            } catch (NotFoundException e) {
+                frame.exceptions++;
+                lastException = e;
+            }
+            long now = System.nanoTime();
+            if (now >= deadline) {
+                throw timeoutException(String.format("Expected condition failed: waiting for %s (tried for %d ms in %d polls)",
+                        isTrue, timeout.toMillis(), frame.polls), lastException);
+            }
+            try {
+                Thread.sleep(Math.max(1, Math.min(interval, deadline - now) / 1_000_000));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new WebDriverException(e);
+            }
+            interval = Math.min(interval * 2, profile.polling().toNanos());
+        }
+    }
+
+    private static long allocatedBytes() {
+        return THREADS != null ? THREADS.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    private static com.sun.management.ThreadMXBean threads() {
+        // HotSpot dışı JVM'lerde allocation sayacı yoktur; o zaman -1 raporlanır
+        return ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled() ? threads : null;
+    }
+
+    private static final class Frame {
+        private final WaitProfile profile;
+        private final long startNanos;
+        private final long startAllocated;
+        private final List<WaitProfile> nested = new ArrayList<>();
+        private int polls;
+        private int exceptions;
+
+        private Frame(WaitProfile profile, long startNanos, long startAllocated) {
+            this.profile = profile;
+            this.startNanos = startNanos;
+            this.startAllocated = startAllocated;
+        }
+    }
+}
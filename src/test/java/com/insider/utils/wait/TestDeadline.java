@@ -0,0 +1,153 @@
+package com.insider.utils.wait;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Total time budget of the test running on this thread; every wait caps its timeout at what is left
+ * BaseTest starts the deadline once the session is ready and clears it in tearDown. PolicyWait, the
+ * JavaScriptUtils waits, network idle waits and static waits ask cap() for their timeout and report their time
+ * with step(). A wait that starts with no budget left, or that the cap cut short, fails the test at once with
+ * BudgetExceededError and a step-by-step breakdown, instead of chaining more full-length timeouts.
+ *
+ * System properties:
+ * test.budget.seconds - budget of tests without @TestBudget, 0 for none (default: 0)
+ */
+public final class TestDeadline {
+    private static final Logger logger = LoggerFactory.getLogger(TestDeadline.class);
+
+    public static final long DEFAULT_BUDGET_SECONDS = Long.getLong("test.budget.seconds", 0);
+
+    private static final ThreadLocal<TestDeadline> CURRENT = new ThreadLocal<>();
+    private static final long MERGE_GAP_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+
+    private final String test;
+    private final long budgetNanos;
+    private final long startNanos = System.nanoTime();
+    private final List<Step> steps = new ArrayList<>();
+
+    private TestDeadline(String test, long budgetNanos) {
+        this.test = test;
+        this.budgetNanos = budgetNanos;
+    }
+
+    /**
+     * Start the budget of the test on this thread; a zero or negative budget means no deadline
+     */
+    public static void start(String test, Duration budget) {
+        if (budget.isZero() || budget.isNegative()) {
+            CURRENT.remove();
+            return;
+        }
+        CURRENT.set(new TestDeadline(test, budget.toNanos()));
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * The timeout a wait may use: the requested one, or less when the test has less left
+     * @throws BudgetExceededError when nothing is left
+     */
+    public static Duration cap(Duration timeout) {
+        TestDeadline deadline = CURRENT.get();
+        if (deadline == null) {
+            return timeout;
+        }
+        long remaining = deadline.remainingNanos();
+        if (remaining <= 0) {
+            throw deadline.exceeded("before " + timeout.toMillis() + " ms wait", null);
+        }
+        return remaining < timeout.toNanos() ? Duration.ofNanos(remaining) : timeout;
+    }
+
+    public static long capMillis(long timeoutMillis) {
+        return cap(Duration.ofMillis(timeoutMillis)).toMillis();
+    }
+
+    /**
+     * Fail now if the budget ran out, e.g. after a wait whose timeout cap() shortened
+     */
+    public static void checkpoint(String after) {
+        TestDeadline deadline = CURRENT.get();
+        if (deadline != null && deadline.remainingNanos() <= 0) {
+            throw deadline.exceeded("after " + after, null);
+        }
+    }
+
+    /**
+     * Error for a wait that timed out because cap() cut it short; null when the wait had its full timeout
+     */
+    public static BudgetExceededError exceededBy(String wait, long waitedNanos, Duration requested, Duration capped,
+                                                 Throwable cause) {
+        TestDeadline deadline = CURRENT.get();
+        if (deadline == null || capped.compareTo(requested) >= 0 || deadline.remainingNanos() > 0) {
+            return null;
+        }
+        step(wait, waitedNanos);
+        return deadline.exceeded("in " + wait, cause);
+    }
+
+    /**
+     * Record a wait of the current test for the breakdown
+     */
+    public static void step(String name, long nanos) {
+        TestDeadline deadline = CURRENT.get();
+        if (deadline == null) {
+            return;
+        }
+        long offset = System.nanoTime() - nanos - deadline.startNanos;
+        Step last = deadline.steps.isEmpty() ? null : deadline.steps.get(deadline.steps.size() - 1);
+        if (last != null && last.name().equals(name) && offset - last.offsetNanos() - last.nanos() < MERGE_GAP_NANOS) {
+            // Aynı adımın ardışık tekrarları (polling döngüleri) tek satırda birleşir
+            deadline.steps.set(deadline.steps.size() - 1, new Step(name, last.offsetNanos(),
+                    offset + nanos - last.offsetNanos()));
+        } else {
+            deadline.steps.add(new Step(name, offset, nanos));
+        }
+    }
+
+    private long remainingNanos() {
+        return budgetNanos - (System.nanoTime() - startNanos);
+    }
+
+    private BudgetExceededError exceeded(String where, Throwable cause) {
+        long elapsed = System.nanoTime() - startNanos;
+        StringBuilder breakdown = new StringBuilder(String.format("Test budget of %.1f s exceeded %s in %s after %.1f s",
+                budgetNanos / 1e9, where, test, elapsed / 1e9));
+        long waited = 0;
+        for (Step step : steps) {
+            breakdown.append(String.format("%n  +%7.1f s %8d ms  %s", step.offsetNanos() / 1e9,
+                    TimeUnit.NANOSECONDS.toMillis(step.nanos()), step.name()));
+            waited += step.nanos();
+        }
+        breakdown.append(String.format("%n  waits: %d ms, outside waits (page loads, clicks, driver calls): %d ms",
+                TimeUnit.NANOSECONDS.toMillis(waited), TimeUnit.NANOSECONDS.toMillis(elapsed - waited)));
+        logger.error(breakdown.toString());
+        return new BudgetExceededError(breakdown.toString(), cause);
+    }
+
+    private record Step(String name, long offsetNanos, long nanos) {
+    }
+
+    /**
+     * An Error, so the catch (Exception) blocks of "is it there" helpers do not swallow it
+     */
+    public static class BudgetExceededError extends AssertionError {
+        private static final long serialVersionUID = 1L;
+
+        BudgetExceededError(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.insider.utils.wait;
+
+/**
+ * Counters of one PolicyWait.until()
+ * @param polls          condition checks, including the last one
+ * @param exceptions     NotFoundExceptions the condition threw and the wait swallowed
+ * @param allocatedBytes bytes the waiting thread allocated, -1 when the JVM cannot tell
+ * @param nanos          time to satisfaction, or to the timeout
+ */
+public record WaitMetrics(String profile, boolean satisfied, int polls, int exceptions, long allocatedBytes,
+                          long nanos) {
+
+    public long millis() {
+        return nanos / 1_000_000;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s after %d ms in %d polls, %d exceptions, %d KB allocated", profile,
+                satisfied ? "satisfied" : "timed out", millis(), polls, exceptions, allocatedBytes / 1024);
+    }
+}
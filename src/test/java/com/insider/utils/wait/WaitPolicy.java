@@ -0,0 +1,127 @@
+package com.insider.utils.wait;
+
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Owns every element wait timeout and polling interval
+ * Implicit wait is always zero, so a findElements inside a wait condition returns at once instead of adding its
+ * own timeout to every poll. Page objects declare named profiles (WaitPolicy.profile) and get their waits from
+ * waitFor; the utility classes' createWait methods delegate here as well.
+ *
+ * Any profile can be overridden per run without code changes. A profile's polling is the longest interval;
+ * PolicyWait starts at the initial polling and backs off towards it.
+ * System properties:
+ * wait.<profile>.timeoutMillis - timeout of the named profile
+ * wait.<profile>.pollingMillis - polling interval of the named profile
+ * wait.initialPollingMillis    - first interval of every wait (default: 50)
+ */
+public final class WaitPolicy {
+    private static final Logger logger = LoggerFactory.getLogger(WaitPolicy.class);
+
+    private static final Map<String, WaitProfile> PROFILES = new ConcurrentHashMap<>();
+    private static final Duration DEFAULT_POLLING = Duration.ofMillis(500);
+    private static final Duration INITIAL_POLLING = Duration.ofMillis(Long.getLong("wait.initialPollingMillis", 50));
+
+    public static final WaitProfile DEFAULT = profile("default", Duration.ofSeconds(10));
+
+    private static final LongAdder WAITS = new LongAdder();
+    private static final LongAdder TIMEOUTS = new LongAdder();
+    private static final LongAdder NESTED = new LongAdder();
+    private static final LongAdder OVERRUNS = new LongAdder();
+    private static final LongAdder POLLS = new LongAdder();
+    private static final LongAdder EXCEPTIONS = new LongAdder();
+    private static final LongAdder ALLOCATED = new LongAdder();
+    private static final LongAdder SATISFIED = new LongAdder();
+    private static final LongAdder SATISFIED_NANOS = new LongAdder();
+
+    private WaitPolicy() {
+    }
+
+    /**
+     * Implicit wait every session is configured with
+     */
+    public static Duration implicitWait() {
+        return Duration.ZERO;
+    }
+
+    /**
+     * Interval after the first missed check of every wait
+     */
+    public static Duration initialPolling() {
+        return INITIAL_POLLING;
+    }
+
+    public static WaitProfile profile(String name, Duration timeout) {
+        return profile(name, timeout, DEFAULT_POLLING);
+    }
+
+    /**
+     * Declare a named profile; the first declaration wins and system properties override its values
+     */
+    public static WaitProfile profile(String name, Duration timeout, Duration polling) {
+        return PROFILES.computeIfAbsent(name, key -> new WaitProfile(key,
+                Duration.ofMillis(Long.getLong("wait." + key + ".timeoutMillis", timeout.toMillis())),
+                Duration.ofMillis(Long.getLong("wait." + key + ".pollingMillis", polling.toMillis()))));
+    }
+
+    public static PolicyWait waitFor(WebDriver driver) {
+        return waitFor(driver, DEFAULT);
+    }
+
+    public static PolicyWait waitFor(WebDriver driver, WaitProfile profile) {
+        return new PolicyWait(driver, profile);
+    }
+
+    /**
+     * Wait with an ad-hoc timeout, for callers that still pass plain seconds
+     */
+    public static PolicyWait waitFor(WebDriver driver, Duration timeout) {
+        return waitFor(driver, profile("timeout-" + timeout.toMillis() + "ms", timeout));
+    }
+
+    public static Map<String, WaitProfile> profiles() {
+        return Map.copyOf(PROFILES);
+    }
+
+    public static String summary() {
+        long waits = Math.max(1, WAITS.sum());
+        long satisfied = Math.max(1, SATISFIED.sum());
+        return String.format("Waits: total=%d timeouts=%d nested=%d overruns=%d polls/wait=%.1f exceptions=%d "
+                        + "alloc/wait=%d KB satisfied avg=%d ms | profiles: %s", WAITS.sum(), TIMEOUTS.sum(),
+                NESTED.sum(), OVERRUNS.sum(), (double) POLLS.sum() / waits, EXCEPTIONS.sum(),
+                ALLOCATED.sum() / waits / 1024, SATISFIED_NANOS.sum() / satisfied / 1_000_000,
+                PROFILES.values().stream().map(WaitProfile::toString).sorted().collect(Collectors.joining(", ")));
+    }
+
+    static void record(WaitProfile profile, WaitMetrics metrics, List<WaitProfile> nested) {
+        WAITS.increment();
+        POLLS.add(metrics.polls());
+        EXCEPTIONS.add(metrics.exceptions());
+        ALLOCATED.add(Math.max(0, metrics.allocatedBytes()));
+        if (metrics.satisfied()) {
+            SATISFIED.increment();
+            SATISFIED_NANOS.add(metrics.nanos());
+        } else {
+            TIMEOUTS.increment();
+        }
+        logger.debug("Wait " + metrics);
+        if (nested.isEmpty()) {
+            return;
+        }
+        NESTED.increment();
+        if (metrics.nanos() > profile.worstCase().toNanos()) {
+            OVERRUNS.increment();
+            logger.warn(String.format("Wait %s took %d ms, over its worst case of %d ms, because of nested waits %s",
+                    profile, metrics.millis(), profile.worstCase().toMillis(), nested));
+        }
+    }
+}
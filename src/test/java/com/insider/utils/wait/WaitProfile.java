@@ -0,0 +1,21 @@
+package com.insider.utils.wait;
+
+import java.time.Duration;
+
+/**
+ * A named timeout and polling interval, declared once (usually by a page object) and used through WaitPolicy
+ */
+public record WaitProfile(String name, Duration timeout, Duration polling) {
+
+    /**
+     * Longest a single wait with this profile may take: the timeout plus the last poll
+     */
+    public Duration worstCase() {
+        return timeout.plus(polling);
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + timeout.toMillis() + " ms / " + polling.toMillis() + " ms)";
+    }
+}